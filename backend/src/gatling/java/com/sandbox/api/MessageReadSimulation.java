@@ -0,0 +1,124 @@
+package com.sandbox.api;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ClosedInjectionStep;
+import io.gatling.javaapi.core.PopulationBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+import io.gatling.javaapi.http.HttpRequestActionBuilder;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Load test of the message read endpoints, used to compare platform and virtual request threads.
+ *
+ * <p>A fixed number of users read list pages and single messages back to back for the configured
+ * duration, so the offered concurrency stays constant. All users share one access token obtained
+ * before the run, so password hashing is not part of the measurement. Start the backend once with
+ * {@code VIRTUAL_THREADS_ENABLED=false} and once with {@code true}, run this simulation against
+ * each and compare the reports. A user that is shed with 503 or rate limited with 429 waits for
+ * {@code Retry-After} before its next request, as a real client would, instead of hammering the
+ * server.
+ *
+ * <p>With {@code -Dloadtest.loginUsers} greater than 0, that many additional users log in back to
+ * back during the same period, to show how a login flood affects message read latency.
+ *
+ * <p>Run with {@code ./mvnw -Ploadtest gatling:test} and tune it with {@code -Dloadtest.baseUrl},
+ * {@code -Dloadtest.users}, {@code -Dloadtest.duration} (seconds), {@code -Dloadtest.loginUsers},
+ * {@code -Dloadtest.username} and {@code -Dloadtest.password}.
+ */
+public class MessageReadSimulation extends Simulation {
+
+  private static final String BASE_URL =
+      System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+  private static final int USERS = Integer.getInteger("loadtest.users", 200);
+  private static final int LOGIN_USERS = Integer.getInteger("loadtest.loginUsers", 0);
+  private static final Duration DURATION =
+      Duration.ofSeconds(Integer.getInteger("loadtest.duration", 60));
+  private static final Duration RAMP = Duration.ofSeconds(10);
+  private static final String LOGIN_BODY =
+      "{\"username\":\"%s\",\"password\":\"%s\"}"
+          .formatted(
+              System.getProperty("loadtest.username", "viewer"),
+              System.getProperty("loadtest.password", "viewer123"));
+
+  private final String token = login();
+
+  private final HttpProtocolBuilder protocol =
+      http.baseUrl(BASE_URL)
+          .acceptHeader("application/json")
+          .authorizationHeader("Bearer " + token)
+          // No HTTP cache: revalidated 304 responses would skip the database entirely
+          .disableCaching()
+          .shareConnections();
+
+  private final ScenarioBuilder readMessages =
+      scenario("Read messages")
+          .during(DURATION)
+          .on(
+              expectOk(http("list page").get("/api/messages?size=20")),
+              expectOk(http("single message").get("/api/messages/1")));
+
+  private final ScenarioBuilder logIn =
+      scenario("Log in")
+          .during(DURATION)
+          .on(
+              expectOk(
+                  http("login").post("/api/auth/login").body(StringBody(LOGIN_BODY)).asJson()));
+
+  {
+    List<PopulationBuilder> populations = new ArrayList<>();
+    populations.add(readMessages.injectClosed(constantLoad(USERS)));
+    if (LOGIN_USERS > 0) {
+      populations.add(logIn.injectClosed(constantLoad(LOGIN_USERS)));
+    }
+    setUp(populations).protocols(protocol);
+  }
+
+  private static ClosedInjectionStep[] constantLoad(int users) {
+    return new ClosedInjectionStep[] {
+      rampConcurrentUsers(0).to(users).during(RAMP), constantConcurrentUsers(users).during(DURATION)
+    };
+  }
+
+  /** A request that counts only 200 as success and, like a well-behaved client, honours 503/429. */
+  private static ChainBuilder expectOk(HttpRequestActionBuilder request) {
+    return exec(request.check(
+            status().is(200), header("Retry-After").optional().saveAs("retryAfter")))
+        .doIf(session -> session.contains("retryAfter"))
+        .then(
+            pause(session -> Duration.ofSeconds(Long.parseLong(session.getString("retryAfter"))))
+                .exec(session -> session.remove("retryAfter")));
+  }
+
+  private static String login() {
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create(BASE_URL + "/api/auth/login"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(LOGIN_BODY))
+            .build();
+    try (HttpClient client = HttpClient.newHttpClient()) {
+      HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        throw new IllegalStateException("Login failed with status " + response.statusCode());
+      }
+      return new ObjectMapper().readTree(response.body()).get("accessToken").asText();
+    } catch (IOException e) {
+      throw new IllegalStateException("Login failed", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while logging in", e);
+    }
+  }
+}
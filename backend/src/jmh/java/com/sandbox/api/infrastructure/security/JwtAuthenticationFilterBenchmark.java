@@ -0,0 +1,132 @@
+package com.sandbox.api.infrastructure.security;
+
+import ch.qos.logback.classic.Level;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+
+/**
+ * Compares authenticating a request from the cache of verified tokens, by verifying its access
+ * token once, and by the previous approach of verifying it once per claim read.
+ *
+ * <p>Run with {@code ./mvnw -Pbenchmark test-compile exec:exec
+ * -Dbenchmark.include=JwtAuthenticationFilterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+  private static final String SECRET_KEY =
+      "benchmark-secret-key-that-is-long-enough-for-hmac-sha-256";
+
+  private final FilterChain chain = (request, response) -> {};
+
+  private SecretKey secretKey;
+  private JwtAuthenticationFilter filter;
+  private JwtAuthenticationFilter cachingFilter;
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+
+  @Setup
+  public void setUp() {
+    // Without a logging configuration every request would be logged at DEBUG
+    ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME))
+        .setLevel(Level.INFO);
+    JwtTokenProvider tokenProvider =
+        new JwtTokenProvider(SECRET_KEY, 3600000L, 604800000L, "sandbox-api");
+    secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    String token = tokenProvider.generateAccessToken("admin", "ADMIN");
+    filter =
+        new JwtAuthenticationFilter(
+            new VerifiedTokenCache(tokenProvider, new SimpleMeterRegistry(), false, 10000));
+    cachingFilter =
+        new JwtAuthenticationFilter(
+            new VerifiedTokenCache(tokenProvider, new SimpleMeterRegistry(), true, 10000));
+    request = new MockHttpServletRequest("GET", "/api/messages");
+    request.addHeader("Authorization", "Bearer " + token);
+    response = new MockHttpServletResponse();
+  }
+
+  @Benchmark
+  public Authentication verifiedFromCache() throws ServletException, IOException {
+    cachingFilter.doFilterInternal(request, response, chain);
+    return takeAuthentication();
+  }
+
+  @Benchmark
+  public Authentication verifiedOnce() throws ServletException, IOException {
+    filter.doFilterInternal(request, response, chain);
+    return takeAuthentication();
+  }
+
+  /**
+   * The path used before: a new parser for each of validate, subject and role, each verifying the
+   * signature and parsing the claims again.
+   */
+  @Benchmark
+  public Authentication verifiedPerClaim() {
+    String jwt = request.getHeader("Authorization").substring("Bearer ".length());
+    Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(jwt);
+    String username =
+        Jwts.parser()
+            .verifyWith(secretKey)
+            .build()
+            .parseSignedClaims(jwt)
+            .getPayload()
+            .getSubject();
+    String role =
+        Jwts.parser()
+            .verifyWith(secretKey)
+            .build()
+            .parseSignedClaims(jwt)
+            .getPayload()
+            .get("role", String.class);
+    authenticate(request, username, role);
+    return takeAuthentication();
+  }
+
+  private static void authenticate(HttpServletRequest request, String username, String role) {
+    UsernamePasswordAuthenticationToken authentication =
+        new UsernamePasswordAuthenticationToken(
+            username, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
+    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+  }
+
+  private static Authentication takeAuthentication() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    SecurityContextHolder.clearContext();
+    return authentication;
+  }
+}
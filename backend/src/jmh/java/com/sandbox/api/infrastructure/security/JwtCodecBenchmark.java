@@ -0,0 +1,117 @@
+package com.sandbox.api.infrastructure.security;
+
+import com.sandbox.api.application.dto.TokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares signing and verifying an access token with {@link JwtCodec} and with jjwt, using the
+ * default key length (HS384), and measures the codec with an Ed25519 key (EdDSA).
+ *
+ * <p>Run with {@code ./mvnw -Pbenchmark test-compile exec:exec
+ * -Dbenchmark.include=JwtCodecBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtCodecBenchmark {
+
+  private static final String SECRET_KEY =
+      "default-dev-secret-key-change-in-production-minimum-256-bits";
+  private static final String ISSUER = "sandbox-api";
+
+  private SecretKey secretKey;
+  private JwtCodec codec;
+  private JwtCodec eddsaCodec;
+  private JwtParser parser;
+  private String token;
+  private String invalidToken;
+  private String eddsaToken;
+
+  @Setup
+  public void setUp() {
+    secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    codec = new JwtCodec(new HmacJwsKey(secretKey), List.of(), ISSUER, "ADMIN", "VIEWER");
+    eddsaCodec = new JwtCodec(TestKeys.ed25519(), List.of(), ISSUER, "ADMIN", "VIEWER");
+    parser = Jwts.parser().verifyWith(secretKey).build();
+    token = jjwtSign();
+    invalidToken = token.substring(0, token.length() - 2) + "AA";
+    eddsaToken = eddsaSign();
+  }
+
+  @Benchmark
+  public String jjwtSign() {
+    Instant now = Instant.now();
+    return Jwts.builder()
+        .subject("admin")
+        .claim("role", "ADMIN")
+        .issuer(ISSUER)
+        .issuedAt(Date.from(now))
+        .expiration(Date.from(now.plusSeconds(3600)))
+        .signWith(secretKey)
+        .compact();
+  }
+
+  @Benchmark
+  public String codecSign() {
+    long now = System.currentTimeMillis() / 1000;
+    return codec.encode("admin", "ADMIN", ISSUER, now, now + 3600);
+  }
+
+  @Benchmark
+  public Claims jjwtVerify() {
+    return parser.parseSignedClaims(token).getPayload();
+  }
+
+  @Benchmark
+  public TokenClaims codecVerify() {
+    return codec.verify(token, System.currentTimeMillis());
+  }
+
+  /** jjwt signals the bad signature with an exception, which is caught as before. */
+  @Benchmark
+  public Object jjwtRejectSignature() {
+    try {
+      return parser.parseSignedClaims(invalidToken);
+    } catch (RuntimeException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public TokenClaims codecRejectSignature() {
+    return codec.verify(invalidToken, System.currentTimeMillis());
+  }
+
+  @Benchmark
+  public String eddsaSign() {
+    long now = System.currentTimeMillis() / 1000;
+    return eddsaCodec.encode("admin", "ADMIN", ISSUER, now, now + 3600);
+  }
+
+  @Benchmark
+  public TokenClaims eddsaVerify() {
+    return eddsaCodec.verify(eddsaToken, System.currentTimeMillis());
+  }
+}
@@ -0,0 +1,128 @@
+package com.sandbox.api.presentation.dto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageField;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Compares the JSON, CBOR and Smile encodings of a page of messages.
+ *
+ * <p>{@code encode} writes the page the way the API does, and {@code decode} reads it back into
+ * generated models the way a Java client would. The encoded size of each page is printed once per
+ * trial.
+ *
+ * <p>Run with {@code ./mvnw -Pbenchmark test-compile exec:exec
+ * -Dbenchmark.include=MessagePageEncodingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessagePageEncodingBenchmark {
+
+  @Param({"json", "cbor", "smile"})
+  private String format;
+
+  @Param({"20", "100"})
+  private int size;
+
+  private ObjectWriter writer;
+  private ObjectReader reader;
+  private Slice<Message> page;
+  private MessageJsonCache jsonCache;
+  private byte[] encoded;
+
+  @Setup
+  public void setUp() throws IOException {
+    ObjectMapper jsonMapper = mapper(new JsonFactory());
+    ObjectMapper objectMapper =
+        switch (format) {
+          case "json" -> jsonMapper;
+          case "cbor" -> mapper(new CBORFactory());
+          case "smile" -> mapper(new SmileFactory());
+          default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+    writer = objectMapper.writer();
+    reader = objectMapper.readerFor(DecodedMessagePage.class);
+
+    LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+    List<Message> messages = new ArrayList<>(size);
+    for (long id = 1; id <= size; id++) {
+      messages.add(
+          Message.builder()
+              .id(id)
+              .code("MSG_" + id)
+              .content("Message content number " + id)
+              .createdAt(now)
+              .updatedAt(now.plusSeconds(id))
+              .build());
+    }
+    page =
+        new PageImpl<>(
+            messages, PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, "id")), size * 10L);
+
+    // Warm, as in production: JSON pages copy cached bytes, binary pages never use the cache
+    jsonCache =
+        new MessageJsonCache(jsonMapper, new SimpleMeterRegistry(), DataSize.ofMegabytes(32));
+    messages.forEach(jsonCache::json);
+
+    encoded =
+        writer.writeValueAsBytes(MessageMapper.toMessagePage(page, MessageField.ALL, jsonCache));
+    System.out.printf("%n%s page of %d messages: %d bytes%n", format, size, encoded.length);
+  }
+
+  @Benchmark
+  public void encode() throws IOException {
+    writer.writeValue(
+        OutputStream.nullOutputStream(),
+        MessageMapper.toMessagePage(page, MessageField.ALL, jsonCache));
+  }
+
+  @Benchmark
+  public DecodedMessagePage decode() throws IOException {
+    return reader.readValue(encoded);
+  }
+
+  /** A page as a client reads it, with each message in the generated MessageResponse. */
+  public record DecodedMessagePage(
+      List<com.sandbox.api.presentation.generated.model.MessageResponse> content,
+      com.sandbox.api.presentation.generated.model.MessagePagePage page) {}
+
+  private static ObjectMapper mapper(JsonFactory factory) {
+    return new ObjectMapper(factory)
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  }
+}
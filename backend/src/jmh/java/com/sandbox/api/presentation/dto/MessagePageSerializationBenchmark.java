@@ -0,0 +1,133 @@
+package com.sandbox.api.presentation.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageField;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Compares writing a page of messages through the generated DTOs with writing it straight from the
+ * domain model.
+ *
+ * <p>Run with {@code ./mvnw -Pbenchmark test-compile exec:exec} and add {@code -prof gc} to the JMH
+ * arguments to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessagePageSerializationBenchmark {
+
+  @Param({"20", "100"})
+  private int size;
+
+  private ObjectWriter writer;
+  private Slice<Message> page;
+  private com.sandbox.api.presentation.generated.model.MessagePagePage pageInfo;
+  private MessageJsonCache warmCache;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper =
+        new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    writer = objectMapper.writer();
+
+    LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+    List<Message> messages = new ArrayList<>(size);
+    for (long id = 1; id <= size; id++) {
+      messages.add(
+          Message.builder()
+              .id(id)
+              .code("MSG_" + id)
+              .content("Message content number " + id)
+              .createdAt(now)
+              .updatedAt(now)
+              .build());
+    }
+    page =
+        new PageImpl<>(
+            messages, PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, "id")), size * 10L);
+
+    warmCache =
+        new MessageJsonCache(objectMapper, new SimpleMeterRegistry(), DataSize.ofMegabytes(32));
+    messages.forEach(warmCache::json);
+    pageInfo = MessageMapper.toMessagePage(page, MessageField.ALL, warmCache).getPage();
+  }
+
+  /** The path used before: one internal and one generated DTO per message, then a list. */
+  @Benchmark
+  public void generatedModel() throws IOException {
+    var messagePage =
+        new GeneratedMessagePage(
+            page.getContent().stream()
+                .map(message -> MessageMapper.toGenerated(MessageResponse.from(message)))
+                .toList(),
+            pageInfo);
+    writer.writeValue(OutputStream.nullOutputStream(), messagePage);
+  }
+
+  /** Every message misses the cache, so its JSON is written and encoded on every call. */
+  @Benchmark
+  public void streamedCold() throws IOException {
+    writer.writeValue(
+        OutputStream.nullOutputStream(),
+        new StreamedMessagePage(
+            page.getContent(),
+            (message, gen, serializers) -> gen.writeRawValue(serialize(message)),
+            pageInfo));
+  }
+
+  @Benchmark
+  public void streamedWarm() throws IOException {
+    writer.writeValue(
+        OutputStream.nullOutputStream(),
+        MessageMapper.toMessagePage(page, MessageField.ALL, warmCache));
+  }
+
+  /** The shape the generated model of the MessagePage schema had, for the baseline. */
+  private record GeneratedMessagePage(
+      List<com.sandbox.api.presentation.generated.model.MessageResponse> content,
+      com.sandbox.api.presentation.generated.model.MessagePagePage page) {}
+
+  private SerializedString serialize(Message message) {
+    try {
+      var json = new SerializedString(writer.writeValueAsString(MessageJsonWriter.of(message)));
+      json.asUnquotedUTF8();
+      return json;
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -2,9 +2,11 @@ package com.sandbox.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /** Spring Boot application main class. */
 @SpringBootApplication
+@EnableScheduling
 public class ApiApplication {
 
   public static void main(String[] args) {
@@ -0,0 +1,58 @@
+package com.sandbox.api.application.dto;
+
+import com.sandbox.api.domain.model.Message;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Outcome of creating one item of a message batch. */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchCreateResult {
+
+  /** Status of a batch item. */
+  public enum Status {
+    CREATED,
+    DUPLICATE,
+    INVALID
+  }
+
+  private final int index;
+  private final Status status;
+  private final Message message;
+  private final String error;
+
+  /**
+   * Creates a result for an item that was inserted.
+   *
+   * @param index position of the item in the batch
+   * @param message the inserted message
+   * @return the result
+   */
+  public static BatchCreateResult created(int index, Message message) {
+    return new BatchCreateResult(index, Status.CREATED, message, null);
+  }
+
+  /**
+   * Creates a result for an item whose code is already in use.
+   *
+   * @param index position of the item in the batch
+   * @param code the duplicate code
+   * @return the result
+   */
+  public static BatchCreateResult duplicate(int index, String code) {
+    return new BatchCreateResult(
+        index, Status.DUPLICATE, null, "Message with code '" + code + "' already exists");
+  }
+
+  /**
+   * Creates a result for an item that failed domain validation.
+   *
+   * @param index position of the item in the batch
+   * @param error the validation error
+   * @return the result
+   */
+  public static BatchCreateResult invalid(int index, String error) {
+    return new BatchCreateResult(index, Status.INVALID, null, error);
+  }
+}
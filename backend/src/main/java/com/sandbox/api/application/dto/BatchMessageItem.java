@@ -0,0 +1,15 @@
+package com.sandbox.api.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One message to create as part of a batch. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchMessageItem {
+
+  private String code;
+  private String content;
+}
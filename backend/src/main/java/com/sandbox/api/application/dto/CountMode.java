@@ -0,0 +1,39 @@
+package com.sandbox.api.application.dto;
+
+import java.util.Locale;
+
+/**
+ * Strategy for computing the total number of messages alongside a paged listing.
+ *
+ * <ul>
+ *   <li>EXACT - runs {@code SELECT COUNT(*)} next to every page query
+ *   <li>CACHED - serves an in-process count that is refreshed once it is older than the configured
+ *       staleness bound, and is kept current by message creation and deletion in between
+ *   <li>ESTIMATED - reads the planner estimate from {@code pg_class.reltuples}
+ *   <li>NONE - skips counting entirely and only reports whether a next page exists
+ * </ul>
+ */
+public enum CountMode {
+  EXACT,
+  CACHED,
+  ESTIMATED,
+  NONE;
+
+  /**
+   * Parses a count mode from its case-insensitive name.
+   *
+   * @param value the mode name, e.g. {@code "exact"}
+   * @return the matching count mode
+   * @throws IllegalArgumentException if the value is not a known count mode
+   */
+  public static CountMode fromValue(String value) {
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException("Count mode cannot be null or blank");
+    }
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid count mode: " + value, e);
+    }
+  }
+}
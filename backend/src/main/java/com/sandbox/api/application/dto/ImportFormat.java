@@ -0,0 +1,36 @@
+package com.sandbox.api.application.dto;
+
+import java.util.Locale;
+
+/**
+ * Wire format of a message import.
+ *
+ * <ul>
+ *   <li>NDJSON - one JSON object with {@code code} and {@code content} per line
+ *   <li>CSV - RFC 4180 CSV whose first record is a header naming the {@code code} and {@code
+ *       content} columns
+ * </ul>
+ */
+public enum ImportFormat {
+  NDJSON,
+  CSV;
+
+  /**
+   * Resolves the import format from a request content type.
+   *
+   * @param contentType the content type, e.g. {@code "text/csv; charset=UTF-8"}
+   * @return the matching import format
+   * @throws IllegalArgumentException if the content type is not a supported import format
+   */
+  public static ImportFormat fromContentType(String contentType) {
+    if (contentType == null || contentType.isBlank()) {
+      throw new IllegalArgumentException("Content type cannot be null or blank");
+    }
+    String mediaType = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+    return switch (mediaType) {
+      case "application/x-ndjson" -> NDJSON;
+      case "text/csv" -> CSV;
+      default -> throw new IllegalArgumentException("Unsupported import format: " + contentType);
+    };
+  }
+}
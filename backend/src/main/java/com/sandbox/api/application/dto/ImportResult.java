@@ -0,0 +1,53 @@
+package com.sandbox.api.application.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/** Outcome of a message import. */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ImportResult {
+
+  /** Data records read from the input, excluding the CSV header and blank lines. */
+  private final long received;
+
+  /** Messages inserted. */
+  private final long imported;
+
+  /** Records rejected because they were malformed or failed domain validation. */
+  private final long invalid;
+
+  /** Valid records skipped because their code already existed or appeared earlier in the input. */
+  private final long duplicates;
+
+  private final long durationMillis;
+
+  /** Records processed per second, based on {@link #received}. */
+  private final double rowsPerSecond;
+
+  /** The first invalid records, in input order. */
+  private final List<RejectedLine> errors;
+
+  /**
+   * Returns the number of records that were not inserted.
+   *
+   * @return invalid plus duplicate records
+   */
+  public long getRejected() {
+    return invalid + duplicates;
+  }
+
+  /** A record rejected as invalid. */
+  @Getter
+  @AllArgsConstructor
+  public static class RejectedLine {
+
+    /** Line number, starting at 1, on which the record starts. */
+    private final long line;
+
+    private final String reason;
+  }
+}
@@ -0,0 +1,22 @@
+package com.sandbox.api.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Public key with which tokens issued by this service can be verified without a shared secret. */
+@Getter
+@AllArgsConstructor
+public class PublicSigningKey {
+
+  /** The {@code kid} written in the header of the tokens signed with this key. */
+  private final String keyId;
+
+  /** The JWS algorithm, such as {@code EdDSA}. */
+  private final String algorithm;
+
+  /** The curve of the key, such as {@code Ed25519}. */
+  private final String curve;
+
+  /** The raw public key, as encoded in the {@code x} member of a JWK. */
+  private final byte[] publicKey;
+}
@@ -0,0 +1,21 @@
+package com.sandbox.api.application.dto;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Claims of a token whose signature and expiry have already been verified. */
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+
+  /** The username the token was issued to. */
+  private final String subject;
+
+  /** The user role, or null for refresh tokens, which carry no role. */
+  private final String role;
+
+  private final Instant expiresAt;
+
+  private final String issuer;
+}
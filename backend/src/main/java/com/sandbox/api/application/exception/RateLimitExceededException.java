@@ -0,0 +1,29 @@
+package com.sandbox.api.application.exception;
+
+import java.time.Duration;
+
+/** Exception thrown when a client has used up its allowance of requests for the time being. */
+public class RateLimitExceededException extends RuntimeException {
+
+  private final Duration retryAfter;
+
+  /**
+   * Constructs a new RateLimitExceededException.
+   *
+   * @param message the detail message
+   * @param retryAfter how long the client should wait before retrying
+   */
+  public RateLimitExceededException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * Returns how long the client should wait before retrying.
+   *
+   * @return the retry delay
+   */
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
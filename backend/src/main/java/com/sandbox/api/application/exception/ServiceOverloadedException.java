@@ -0,0 +1,29 @@
+package com.sandbox.api.application.exception;
+
+import java.time.Duration;
+
+/** Exception thrown when work is turned away because the server is already at capacity. */
+public class ServiceOverloadedException extends RuntimeException {
+
+  private final Duration retryAfter;
+
+  /**
+   * Constructs a new ServiceOverloadedException.
+   *
+   * @param message the detail message
+   * @param retryAfter how long the client should wait before retrying
+   */
+  public ServiceOverloadedException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * Returns how long the client should wait before retrying.
+   *
+   * @return the retry delay
+   */
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+}
@@ -0,0 +1,139 @@
+package com.sandbox.api.application.service;
+
+import com.sandbox.api.application.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Limits how often authentication endpoints may be called, before any database lookup or password
+ * hash is spent on the attempt.
+ *
+ * <p>Every login and token refresh takes a token from the bucket of the client address, so a single
+ * client cannot burn CPU on BCrypt at will. Logins additionally take a token from the bucket of the
+ * username, so guessing one account's password from many addresses is throttled too. Usernames are
+ * compared case-insensitively so that case variants share a bucket.
+ *
+ * <p>Published metrics:
+ *
+ * <ul>
+ *   <li>{@code auth.rate-limit.rejected} - attempts refused, by {@code bucket}: {@code client} or
+ *       {@code username}
+ * </ul>
+ */
+@Service
+@Slf4j
+public class AuthAttemptLimiter {
+
+  private static final String CLIENT_KEY_PREFIX = "auth:client:";
+  private static final String USERNAME_KEY_PREFIX = "auth:username:";
+
+  private final RateLimiter rateLimiter;
+  private final boolean enabled;
+  private final int clientCapacity;
+  private final Duration clientRefillPeriod;
+  private final int usernameCapacity;
+  private final Duration usernameRefillPeriod;
+  private final Counter clientRejected;
+  private final Counter usernameRejected;
+
+  /**
+   * Constructs a new AuthAttemptLimiter.
+   *
+   * @param rateLimiter store of the token buckets
+   * @param meterRegistry registry the rejection metrics are published to
+   * @param enabled whether attempts are limited at all
+   * @param clientCapacity attempts a client address may make in a burst
+   * @param clientRefillPeriod time in which a client address regains its full allowance
+   * @param usernameCapacity logins a username may receive in a burst
+   * @param usernameRefillPeriod time in which a username regains its full allowance
+   */
+  public AuthAttemptLimiter(
+      RateLimiter rateLimiter,
+      MeterRegistry meterRegistry,
+      @Value("${security.rate-limit.enabled:true}") boolean enabled,
+      @Value("${security.rate-limit.per-client.capacity:20}") int clientCapacity,
+      @Value("${security.rate-limit.per-client.refill-period:1m}") Duration clientRefillPeriod,
+      @Value("${security.rate-limit.per-username.capacity:10}") int usernameCapacity,
+      @Value("${security.rate-limit.per-username.refill-period:1m}")
+          Duration usernameRefillPeriod) {
+    if (clientCapacity < 1 || usernameCapacity < 1) {
+      throw new IllegalArgumentException(
+          "Invalid rate limit capacity: client="
+              + clientCapacity
+              + ", username="
+              + usernameCapacity);
+    }
+    if (!clientRefillPeriod.isPositive() || !usernameRefillPeriod.isPositive()) {
+      throw new IllegalArgumentException(
+          "Invalid rate limit refill period: client="
+              + clientRefillPeriod
+              + ", username="
+              + usernameRefillPeriod);
+    }
+    this.rateLimiter = rateLimiter;
+    this.enabled = enabled;
+    this.clientCapacity = clientCapacity;
+    this.clientRefillPeriod = clientRefillPeriod;
+    this.usernameCapacity = usernameCapacity;
+    this.usernameRefillPeriod = usernameRefillPeriod;
+    String rejected = "auth.rate-limit.rejected";
+    this.clientRejected = Counter.builder(rejected).tag("bucket", "client").register(meterRegistry);
+    this.usernameRejected =
+        Counter.builder(rejected).tag("bucket", "username").register(meterRegistry);
+    if (!enabled) {
+      log.warn("Rate limiting of authentication endpoints is disabled");
+    }
+  }
+
+  /**
+   * Takes a login attempt from the allowances of the client address and the username.
+   *
+   * @param clientAddress address the request came from
+   * @param username the username being logged in as
+   * @throws RateLimitExceededException if either allowance is used up
+   */
+  public void checkLogin(String clientAddress, String username) {
+    if (!enabled) {
+      return;
+    }
+    checkClient(clientAddress);
+    Duration wait =
+        rateLimiter.tryAcquire(
+            USERNAME_KEY_PREFIX + username.toLowerCase(Locale.ROOT),
+            usernameCapacity,
+            usernameRefillPeriod);
+    if (wait.isPositive()) {
+      usernameRejected.increment();
+      throw new RateLimitExceededException(
+          "Too many login attempts for this user, please retry later", wait);
+    }
+  }
+
+  /**
+   * Takes a token refresh from the allowance of the client address.
+   *
+   * @param clientAddress address the request came from
+   * @throws RateLimitExceededException if the allowance is used up
+   */
+  public void checkRefresh(String clientAddress) {
+    if (enabled) {
+      checkClient(clientAddress);
+    }
+  }
+
+  private void checkClient(String clientAddress) {
+    Duration wait =
+        rateLimiter.tryAcquire(
+            CLIENT_KEY_PREFIX + clientAddress, clientCapacity, clientRefillPeriod);
+    if (wait.isPositive()) {
+      clientRejected.increment();
+      throw new RateLimitExceededException(
+          "Too many authentication requests, please retry later", wait);
+    }
+  }
+}
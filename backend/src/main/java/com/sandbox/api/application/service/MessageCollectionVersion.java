@@ -0,0 +1,45 @@
+package com.sandbox.api.application.service;
+
+import com.sandbox.api.domain.repository.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Version of the messages collection as a whole, shared by every application instance.
+ *
+ * <p>Every write use case calls {@link #advance()}. The version is advanced only after the write
+ * commits, so a reader can never pair the new version with rows from before the write. Writes made
+ * with direct SQL do not advance it.
+ */
+@Service
+@RequiredArgsConstructor
+public class MessageCollectionVersion {
+
+  private final MessageRepository messageRepository;
+
+  /**
+   * Returns the current collection version.
+   *
+   * @return the collection version
+   */
+  public long get() {
+    return messageRepository.findCollectionVersion();
+  }
+
+  /** Records that the collection changed, once the surrounding transaction commits. */
+  public void advance() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      messageRepository.advanceCollectionVersion();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            messageRepository.advanceCollectionVersion();
+          }
+        });
+  }
+}
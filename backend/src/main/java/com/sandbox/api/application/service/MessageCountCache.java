@@ -0,0 +1,108 @@
+package com.sandbox.api.application.service;
+
+import com.sandbox.api.domain.repository.MessageRepository;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-process cache of the total number of messages.
+ *
+ * <p>The count is loaded with an exact {@code COUNT(*)} and then kept current by {@link
+ * #increment()} and {@link #decrement()}, which the create and delete use cases call. Because other
+ * application instances and direct SQL writes are invisible to this counter, the cached value is
+ * reloaded once it is older than the configured staleness bound.
+ */
+@Service
+@Slf4j
+public class MessageCountCache {
+
+  private static final long NOT_LOADED = Long.MIN_VALUE;
+
+  private final MessageRepository messageRepository;
+  private final long stalenessNanos;
+
+  private final AtomicLong count = new AtomicLong();
+  private volatile long loadedAtNanos = NOT_LOADED;
+
+  /**
+   * Constructs a new MessageCountCache.
+   *
+   * @param messageRepository repository used to load the exact count
+   * @param staleness maximum age of the cached count before it is reloaded
+   */
+  public MessageCountCache(
+      MessageRepository messageRepository,
+      @Value("${messages.pagination.count-cache-staleness:30s}") Duration staleness) {
+    this.messageRepository = messageRepository;
+    this.stalenessNanos = staleness.toNanos();
+  }
+
+  /**
+   * Returns the cached message count, reloading it if it is older than the staleness bound.
+   *
+   * @return the number of messages
+   */
+  public long get() {
+    long loadedAt = loadedAtNanos;
+    if (loadedAt == NOT_LOADED || System.nanoTime() - loadedAt > stalenessNanos) {
+      reload();
+    }
+    return Math.max(0, count.get());
+  }
+
+  /** Records that a message was created, once the surrounding transaction commits. */
+  public void increment() {
+    afterCommit(count::incrementAndGet);
+  }
+
+  /**
+   * Records that several messages were created, once the surrounding transaction commits.
+   *
+   * @param created the number of messages created
+   */
+  public void incrementBy(long created) {
+    if (created > 0) {
+      afterCommit(() -> count.addAndGet(created));
+    }
+  }
+
+  /** Records that a message was deleted, once the surrounding transaction commits. */
+  public void decrement() {
+    afterCommit(count::decrementAndGet);
+  }
+
+  /** Forces the next {@link #get()} to reload the exact count. */
+  public void invalidate() {
+    loadedAtNanos = NOT_LOADED;
+  }
+
+  private synchronized void reload() {
+    long loadedAt = loadedAtNanos;
+    if (loadedAt != NOT_LOADED && System.nanoTime() - loadedAt <= stalenessNanos) {
+      // Another thread reloaded while we were waiting for the lock
+      return;
+    }
+    count.set(messageRepository.count());
+    loadedAtNanos = System.nanoTime();
+    log.debug("Reloaded message count cache: {}", count.get());
+  }
+
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
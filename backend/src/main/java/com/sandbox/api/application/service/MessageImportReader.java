@@ -0,0 +1,312 @@
+package com.sandbox.api.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sandbox.api.application.dto.ImportFormat;
+import com.sandbox.api.application.dto.ImportResult.RejectedLine;
+import com.sandbox.api.domain.model.Message;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads messages from an NDJSON or CSV stream one record at a time.
+ *
+ * <p>Only the current record is held in memory, so the input may be arbitrarily large. Blank lines
+ * are skipped. Records that are malformed or fail domain validation are counted and skipped rather
+ * than failing the import; the first few of them are kept with their line number and reason.
+ *
+ * <p>A CSV input must start with a header naming the {@code code} and {@code content} columns, in
+ * any order. Quoted fields may contain commas, doubled quotes and line breaks.
+ */
+public class MessageImportReader implements Iterator<Message> {
+
+  /** Longest record accepted; longer records are rejected without being buffered. */
+  public static final int MAX_RECORD_LENGTH = 16 * 1024;
+
+  /**
+   * Longest content the {@code messages.content} column stores, in characters. Message allows
+   * longer content, but a single such row would abort the whole {@code COPY}, so it is rejected
+   * here instead.
+   */
+  static final int MAX_STORED_CONTENT_LENGTH = 255;
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+  private final Reader reader;
+  private final ImportFormat format;
+  private final int maxErrors;
+  private final List<RejectedLine> errors = new ArrayList<>();
+
+  private final char[] buffer = new char[8192];
+  private int position;
+  private int limit;
+  private boolean started;
+  private boolean endOfInput;
+
+  private final StringBuilder record = new StringBuilder();
+  private boolean recordTooLong;
+  private long recordLine;
+  private long line = 1;
+
+  private int codeColumn = -1;
+  private int contentColumn = -1;
+
+  private long received;
+  private long invalid;
+  private Message next;
+
+  /**
+   * Constructs a new MessageImportReader over UTF-8 input.
+   *
+   * @param input the input to read; not closed by this reader
+   * @param format the format of the input
+   * @param maxErrors maximum number of rejected records kept for {@link #getErrors()}
+   */
+  public MessageImportReader(InputStream input, ImportFormat format, int maxErrors) {
+    this.reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+    this.format = format;
+    this.maxErrors = maxErrors;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalArgumentException if a CSV input does not start with a valid header
+   * @throws UncheckedIOException if the input cannot be read
+   */
+  @Override
+  public boolean hasNext() {
+    while (next == null && readRecord()) {
+      if (!recordTooLong && record.toString().isBlank()) {
+        continue;
+      }
+      if (format == ImportFormat.CSV && codeColumn < 0) {
+        readHeader();
+        continue;
+      }
+      received++;
+      if (recordTooLong) {
+        reject("Record must be " + MAX_RECORD_LENGTH + " characters or less");
+        continue;
+      }
+      try {
+        next = format == ImportFormat.CSV ? parseCsv() : parseNdjson();
+      } catch (IllegalArgumentException e) {
+        reject(e.getMessage());
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public Message next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Message message = next;
+    next = null;
+    return message;
+  }
+
+  /**
+   * Returns the number of data records read so far, excluding the CSV header and blank lines.
+   *
+   * @return the number of records read
+   */
+  public long getReceived() {
+    return received;
+  }
+
+  /**
+   * Returns the number of records rejected so far.
+   *
+   * @return the number of invalid records
+   */
+  public long getInvalid() {
+    return invalid;
+  }
+
+  /**
+   * Returns the first rejected records, in input order.
+   *
+   * @return at most {@code maxErrors} rejected records
+   */
+  public List<RejectedLine> getErrors() {
+    return Collections.unmodifiableList(errors);
+  }
+
+  private boolean readRecord() {
+    record.setLength(0);
+    recordTooLong = false;
+    recordLine = line;
+    if (endOfInput) {
+      return false;
+    }
+
+    boolean read = false;
+    boolean quoted = false;
+    while (fill()) {
+      char c = buffer[position++];
+      read = true;
+      if (c == '\n') {
+        line++;
+        if (!quoted) {
+          return true;
+        }
+      } else if (c == '"' && format == ImportFormat.CSV) {
+        quoted = !quoted;
+      }
+      if (record.length() < MAX_RECORD_LENGTH) {
+        record.append(c);
+      } else {
+        recordTooLong = true;
+      }
+    }
+    endOfInput = true;
+    return read;
+  }
+
+  private boolean fill() {
+    if (position < limit) {
+      return true;
+    }
+    try {
+      limit = reader.read(buffer);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read import input", e);
+    }
+    position = 0;
+    if (!started && limit > 0) {
+      started = true;
+      if (buffer[0] == BYTE_ORDER_MARK) {
+        position = 1;
+      }
+    }
+    return position < limit;
+  }
+
+  private void readHeader() {
+    List<String> columns = parseCsvRecord(trimLineEnd());
+    for (int i = 0; i < columns.size(); i++) {
+      switch (columns.get(i).trim().toLowerCase(Locale.ROOT)) {
+        case "code" -> codeColumn = i;
+        case "content" -> contentColumn = i;
+        default -> {
+          // Extra columns are ignored
+        }
+      }
+    }
+    if (codeColumn < 0 || contentColumn < 0) {
+      throw new IllegalArgumentException("CSV header must name the 'code' and 'content' columns");
+    }
+  }
+
+  private Message parseCsv() {
+    List<String> fields = parseCsvRecord(trimLineEnd());
+    int required = Math.max(codeColumn, contentColumn) + 1;
+    if (fields.size() < required) {
+      throw new IllegalArgumentException(
+          "Expected " + required + " columns but found " + fields.size());
+    }
+    return createMessage(fields.get(codeColumn), fields.get(contentColumn));
+  }
+
+  private Message parseNdjson() {
+    JsonNode node;
+    try {
+      node = OBJECT_MAPPER.readTree(trimLineEnd());
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Malformed JSON", e);
+    }
+    if (node == null || !node.isObject()) {
+      throw new IllegalArgumentException("Line must be a JSON object");
+    }
+    return createMessage(textField(node, "code"), textField(node, "content"));
+  }
+
+  private static String textField(JsonNode node, String field) {
+    JsonNode value = node.get(field);
+    if (value == null || value.isNull()) {
+      return null;
+    }
+    if (!value.isTextual()) {
+      throw new IllegalArgumentException("Field '" + field + "' must be a string");
+    }
+    return value.textValue();
+  }
+
+  private static Message createMessage(String code, String content) {
+    // PostgreSQL text columns cannot store NUL characters
+    if ((code != null && code.indexOf('\0') >= 0)
+        || (content != null && content.indexOf('\0') >= 0)) {
+      throw new IllegalArgumentException("Code and content must not contain NUL characters");
+    }
+    Message message = Message.createNew(code, content);
+    // VARCHAR limits count code points, not the UTF-16 units of String.length()
+    if (content.length() > MAX_STORED_CONTENT_LENGTH
+        && content.codePointCount(0, content.length()) > MAX_STORED_CONTENT_LENGTH) {
+      throw new IllegalArgumentException(
+          "Content must be " + MAX_STORED_CONTENT_LENGTH + " characters or less");
+    }
+    return message;
+  }
+
+  /** Splits one CSV record into its fields, unquoting quoted fields. */
+  static List<String> parseCsvRecord(CharSequence csv) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < csv.length(); i++) {
+      char c = csv.charAt(i);
+      if (quoted) {
+        if (c != '"') {
+          field.append(c);
+        } else if (i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else {
+          quoted = false;
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    if (quoted) {
+      throw new IllegalArgumentException("Unterminated quoted field");
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  private String trimLineEnd() {
+    int length = record.length();
+    if (length > 0 && record.charAt(length - 1) == '\r') {
+      length--;
+    }
+    return record.substring(0, length);
+  }
+
+  private void reject(String reason) {
+    invalid++;
+    if (errors.size() < maxErrors) {
+      errors.add(new RejectedLine(recordLine, reason));
+    }
+  }
+}
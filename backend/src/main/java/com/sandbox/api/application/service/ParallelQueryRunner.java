@@ -0,0 +1,145 @@
+package com.sandbox.api.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs two independent read queries at the same time on virtual threads.
+ *
+ * <p>Each query runs on its own virtual thread and therefore borrows its own pooled connection. The
+ * two results are returned together once both queries have completed. If either query fails, the
+ * other one is cancelled and the failure is rethrown to the caller.
+ *
+ * <p>The following timers are published per operation:
+ *
+ * <ul>
+ *   <li>{@code parallel.query.wall} - elapsed time until both results are available
+ *   <li>{@code parallel.query.serial} - sum of both query durations, i.e. the sequential cost
+ *   <li>{@code parallel.query.saved} - latency saved by overlapping the queries
+ * </ul>
+ */
+@Service
+@Slf4j
+public class ParallelQueryRunner implements DisposableBean {
+
+  private final MeterRegistry meterRegistry;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  /**
+   * Constructs a new ParallelQueryRunner.
+   *
+   * @param meterRegistry registry the overlap timers are published to
+   */
+  public ParallelQueryRunner(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Runs both queries concurrently and waits for both results.
+   *
+   * @param operation name used to tag the published timers, e.g. {@code "messages.page"}
+   * @param first the first query
+   * @param second the second query
+   * @param <A> result type of the first query
+   * @param <B> result type of the second query
+   * @return the results of both queries
+   * @throws RuntimeException the exception thrown by whichever query failed first
+   */
+  @SuppressWarnings("unchecked")
+  public <A, B> Results<A, B> run(String operation, Callable<A> first, Callable<B> second) {
+    long start = System.nanoTime();
+    AtomicLong serialNanos = new AtomicLong();
+
+    CompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+    Future<Object> firstFuture = completion.submit(timed(first, serialNanos));
+    Future<Object> secondFuture = completion.submit(timed(second, serialNanos));
+
+    try {
+      // Take results in completion order so that a failure cancels the sibling immediately
+      for (int i = 0; i < 2; i++) {
+        completion.take().get();
+      }
+    } catch (ExecutionException e) {
+      cancel(firstFuture, secondFuture);
+      throw propagate(e.getCause());
+    } catch (InterruptedException e) {
+      cancel(firstFuture, secondFuture);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for " + operation, e);
+    }
+
+    long wallNanos = System.nanoTime() - start;
+    record(operation, wallNanos, serialNanos.get());
+    return new Results<>((A) firstFuture.resultNow(), (B) secondFuture.resultNow());
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  private static <T> Callable<Object> timed(Callable<T> query, AtomicLong serialNanos) {
+    return () -> {
+      long start = System.nanoTime();
+      try {
+        return query.call();
+      } finally {
+        serialNanos.addAndGet(System.nanoTime() - start);
+      }
+    };
+  }
+
+  private static void cancel(Future<?>... futures) {
+    for (Future<?> future : futures) {
+      future.cancel(true);
+    }
+  }
+
+  private static RuntimeException propagate(Throwable cause) {
+    if (cause instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    if (cause instanceof Error error) {
+      throw error;
+    }
+    return new IllegalStateException("Parallel query failed", cause);
+  }
+
+  private void record(String operation, long wallNanos, long serialNanos) {
+    timer("parallel.query.wall", operation).record(Duration.ofNanos(wallNanos));
+    timer("parallel.query.serial", operation).record(Duration.ofNanos(serialNanos));
+    timer("parallel.query.saved", operation)
+        .record(Duration.ofNanos(Math.max(0, serialNanos - wallNanos)));
+    log.debug(
+        "Ran {} in parallel: wall={}us, serial={}us",
+        operation,
+        wallNanos / 1_000,
+        serialNanos / 1_000);
+  }
+
+  private Timer timer(String name, String operation) {
+    return Timer.builder(name).tag("operation", operation).register(meterRegistry);
+  }
+
+  /**
+   * Results of two queries run by {@link ParallelQueryRunner#run}.
+   *
+   * @param first result of the first query
+   * @param second result of the second query
+   * @param <A> result type of the first query
+   * @param <B> result type of the second query
+   */
+  public record Results<A, B>(A first, B second) {}
+}
@@ -0,0 +1,146 @@
+package com.sandbox.api.application.service;
+
+import com.sandbox.api.application.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Verifies passwords on a dedicated, bounded pool of CPU-sized threads.
+ *
+ * <p>BCrypt is deliberately slow. Running it on request threads lets a burst of logins occupy every
+ * request thread and every core, starving unrelated endpoints. Hashes are therefore computed by at
+ * most {@code threads} workers, with at most {@code queue-capacity} verifications waiting behind
+ * them. Any further login is rejected at once with {@link ServiceOverloadedException} instead of
+ * waiting, so a login flood holds at most {@code threads + queue-capacity} request threads.
+ *
+ * <p>Published metrics:
+ *
+ * <ul>
+ *   <li>{@code auth.password.queue.wait} - time a verification waited for a worker
+ *   <li>{@code auth.password.hash} - time spent computing the hash
+ *   <li>{@code auth.password.queue.size} - verifications currently waiting
+ *   <li>{@code auth.password.rejected} - verifications rejected because the queue was full
+ * </ul>
+ */
+@Service
+@Slf4j
+public class PasswordVerifier implements DisposableBean {
+
+  private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+  /** Default queued verifications per worker; each adds one hash time to the worst-case wait. */
+  private static final int DEFAULT_QUEUE_PER_THREAD = 4;
+
+  private final PasswordEncoder passwordEncoder;
+  private final ThreadPoolExecutor executor;
+  private final Timer queueWait;
+  private final Timer hashTime;
+  private final Counter rejected;
+
+  /**
+   * Constructs a new PasswordVerifier.
+   *
+   * @param passwordEncoder encoder that computes and compares the hashes
+   * @param meterRegistry registry the verification metrics are published to
+   * @param threads number of worker threads; 0 uses one per available processor
+   * @param queueCapacity verifications that may wait for a worker before logins are rejected; 0
+   *     allows four per worker
+   */
+  public PasswordVerifier(
+      PasswordEncoder passwordEncoder,
+      MeterRegistry meterRegistry,
+      @Value("${security.password-verification.threads:0}") int threads,
+      @Value("${security.password-verification.queue-capacity:0}") int queueCapacity) {
+    if (threads < 0 || queueCapacity < 0) {
+      throw new IllegalArgumentException(
+          "Invalid password verification pool: threads=" + threads + ", queue=" + queueCapacity);
+    }
+    int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    int capacity = queueCapacity > 0 ? queueCapacity : workers * DEFAULT_QUEUE_PER_THREAD;
+    this.passwordEncoder = passwordEncoder;
+    BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(capacity);
+    this.executor =
+        new ThreadPoolExecutor(
+            workers,
+            workers,
+            0L,
+            TimeUnit.MILLISECONDS,
+            queue,
+            Thread.ofPlatform().name("password-verifier-", 0).daemon().factory());
+    this.queueWait = Timer.builder("auth.password.queue.wait").register(meterRegistry);
+    this.hashTime = Timer.builder("auth.password.hash").register(meterRegistry);
+    this.rejected = Counter.builder("auth.password.rejected").register(meterRegistry);
+    Gauge.builder("auth.password.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    log.info("Verifying passwords on {} dedicated threads (queue capacity {})", workers, capacity);
+  }
+
+  /**
+   * Checks a raw password against its stored hash.
+   *
+   * @param rawPassword the password supplied by the user
+   * @param encodedPassword the stored hash
+   * @return true if the password matches
+   * @throws ServiceOverloadedException if too many verifications are already waiting
+   */
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    long submitted = System.nanoTime();
+    Future<Boolean> result;
+    try {
+      result =
+          executor.submit(
+              () -> {
+                long started = System.nanoTime();
+                queueWait.record(started - submitted, TimeUnit.NANOSECONDS);
+                try {
+                  return passwordEncoder.matches(rawPassword, encodedPassword);
+                } finally {
+                  hashTime.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+              });
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw new ServiceOverloadedException(
+          "Too many logins in progress, please retry later", RETRY_AFTER);
+    }
+
+    try {
+      return result.get();
+    } catch (ExecutionException e) {
+      throw propagate(e.getCause());
+    } catch (InterruptedException e) {
+      result.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while verifying a password", e);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  private static RuntimeException propagate(Throwable cause) {
+    if (cause instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    if (cause instanceof Error error) {
+      throw error;
+    }
+    return new IllegalStateException("Password verification failed", cause);
+  }
+}
@@ -0,0 +1,24 @@
+package com.sandbox.api.application.service;
+
+import java.time.Duration;
+
+/**
+ * Interface for token-bucket rate limiting.
+ *
+ * <p>Each key owns a bucket that holds at most {@code capacity} tokens and refills continuously at
+ * {@code capacity} tokens per {@code refillPeriod}. Every attempt takes one token; an attempt that
+ * finds the bucket empty is refused without taking anything. This interface abstracts where the
+ * buckets are kept from the infrastructure layer, following Clean Architecture principles.
+ */
+public interface RateLimiter {
+
+  /**
+   * Takes one token from the bucket of a key, creating a full bucket on first use.
+   *
+   * @param key identifies the bucket
+   * @param capacity maximum number of tokens the bucket holds, at least 1
+   * @param refillPeriod time in which an empty bucket refills completely
+   * @return {@link Duration#ZERO} if a token was taken, otherwise how long until one is available
+   */
+  Duration tryAcquire(String key, int capacity, Duration refillPeriod);
+}
@@ -1,5 +1,10 @@
 package com.sandbox.api.application.service;
 
+import com.sandbox.api.application.dto.PublicSigningKey;
+import com.sandbox.api.application.dto.TokenClaims;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Interface for JWT token generation and validation.
  *
@@ -26,26 +31,18 @@ public interface TokenProvider {
   String generateRefreshToken(String username);
 
   /**
-   * Validates the given token.
-   *
-   * @param token the token to validate
-   * @return true if valid, false otherwise
-   */
-  boolean validateToken(String token);
-
-  /**
-   * Extracts the username from the token.
+   * Verifies the signature and expiry of the given token once and returns all of its claims.
    *
-   * @param token the token
-   * @return the username
+   * @param token the token to verify
+   * @return the verified claims, or empty if the token is invalid or expired
    */
-  String getUsernameFromToken(String token);
+  Optional<TokenClaims> verifyToken(String token);
 
   /**
-   * Extracts the role from the token.
+   * Returns the public keys with which other services can verify the tokens issued here.
    *
-   * @param token the token
-   * @return the role
+   * @return the key tokens are currently signed with, followed by keys of previous rotations whose
+   *     tokens may not have expired yet; empty if tokens are signed with a shared secret
    */
-  String getRoleFromToken(String token);
+  List<PublicSigningKey> getPublicKeys();
 }
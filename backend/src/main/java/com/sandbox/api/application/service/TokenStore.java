@@ -9,7 +9,9 @@ package com.sandbox.api.application.service;
 public interface TokenStore {
 
   /**
-   * Stores a refresh token associated with a user ID.
+   * Stores a refresh token associated with a user ID, until the token expires.
+   *
+   * <p>An implementation may limit how many tokens a user holds, revoking the oldest ones first.
    *
    * @param token the refresh token
    * @param userId the user ID
@@ -17,7 +19,7 @@ public interface TokenStore {
   void store(String token, Long userId);
 
   /**
-   * Validates if a refresh token exists in the store.
+   * Validates if a refresh token exists in the store and has not expired.
    *
    * @param token the refresh token to validate
    * @return true if the token exists, false otherwise
@@ -25,7 +27,9 @@ public interface TokenStore {
   boolean isValid(String token);
 
   /**
-   * Retrieves the user ID associated with a refresh token.
+   * Retrieves the user ID associated with a refresh token that has not expired.
+   *
+   * <p>This also validates the token, in the same lookup: a null result means it is not valid.
    *
    * @param token the refresh token
    * @return the user ID if found, null otherwise
@@ -1,5 +1,7 @@
 package com.sandbox.api.application.usecase;
 
+import com.sandbox.api.application.service.MessageCollectionVersion;
+import com.sandbox.api.application.service.MessageCountCache;
 import com.sandbox.api.domain.exception.DuplicateMessageCodeException;
 import com.sandbox.api.domain.model.Message;
 import com.sandbox.api.domain.repository.MessageRepository;
@@ -16,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreateMessageUseCase {
 
   private final MessageRepository messageRepository;
+  private final MessageCountCache messageCountCache;
+  private final MessageCollectionVersion messageCollectionVersion;
 
   /**
    * Creates a new message with the given code and content.
@@ -29,13 +33,18 @@ public class CreateMessageUseCase {
   public Message execute(String code, String content) {
     log.debug("Creating message with code: {}", LogSanitizer.sanitize(code));
 
-    if (messageRepository.existsByCode(code)) {
-      log.warn("Duplicate message code: {}", LogSanitizer.sanitize(code));
-      throw new DuplicateMessageCodeException(code);
-    }
-
     Message message = Message.createNew(code, content);
-    Message saved = messageRepository.save(message);
+    // The database reports a duplicate code by inserting nothing, so no separate existence check
+    Message saved =
+        messageRepository
+            .insertIfCodeAbsent(message)
+            .orElseThrow(
+                () -> {
+                  log.warn("Duplicate message code: {}", LogSanitizer.sanitize(code));
+                  return new DuplicateMessageCodeException(code);
+                });
+    messageCountCache.increment();
+    messageCollectionVersion.advance();
     log.info(
         "Created message with id: {} and code: {}",
         saved.getId(),
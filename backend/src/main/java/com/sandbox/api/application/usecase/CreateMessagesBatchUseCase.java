@@ -0,0 +1,92 @@
+package com.sandbox.api.application.usecase;
+
+import com.sandbox.api.application.dto.BatchCreateResult;
+import com.sandbox.api.application.dto.BatchMessageItem;
+import com.sandbox.api.application.service.MessageCollectionVersion;
+import com.sandbox.api.application.service.MessageCountCache;
+import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.repository.MessageRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Use case for creating many messages in one request. */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CreateMessagesBatchUseCase {
+
+  /** Maximum number of messages accepted in one batch. */
+  public static final int MAX_BATCH_SIZE = 1000;
+
+  private final MessageRepository messageRepository;
+  private final MessageCountCache messageCountCache;
+  private final MessageCollectionVersion messageCollectionVersion;
+
+  /**
+   * Creates every valid message whose code is not already in use.
+   *
+   * <p>Items are validated individually and never fail the whole batch. When several items share a
+   * code, only the first one is inserted and the others are reported as duplicates.
+   *
+   * @param items the messages to create
+   * @return one result per item, in the order of {@code items}
+   * @throws IllegalArgumentException if the batch is empty or larger than {@link #MAX_BATCH_SIZE}
+   */
+  @Transactional
+  public List<BatchCreateResult> execute(List<BatchMessageItem> items) {
+    if (items == null || items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_SIZE);
+    }
+    log.debug("Creating batch of {} messages", items.size());
+
+    BatchCreateResult[] results = new BatchCreateResult[items.size()];
+    Map<String, Integer> indexByCode = new LinkedHashMap<>();
+    List<Message> candidates = new ArrayList<>(items.size());
+
+    for (int i = 0; i < items.size(); i++) {
+      BatchMessageItem item = items.get(i);
+      Message candidate;
+      try {
+        candidate = Message.createNew(item.getCode(), item.getContent());
+      } catch (IllegalArgumentException e) {
+        results[i] = BatchCreateResult.invalid(i, e.getMessage());
+        continue;
+      }
+      if (indexByCode.putIfAbsent(candidate.getCode(), i) != null) {
+        results[i] = BatchCreateResult.duplicate(i, candidate.getCode());
+        continue;
+      }
+      candidates.add(candidate);
+    }
+
+    Map<String, Message> insertedByCode = new HashMap<>();
+    if (!candidates.isEmpty()) {
+      for (Message inserted : messageRepository.insertAllIfCodeAbsent(candidates)) {
+        insertedByCode.put(inserted.getCode(), inserted);
+      }
+    }
+    indexByCode.forEach(
+        (code, index) -> {
+          Message inserted = insertedByCode.get(code);
+          results[index] =
+              inserted != null
+                  ? BatchCreateResult.created(index, inserted)
+                  : BatchCreateResult.duplicate(index, code);
+        });
+
+    messageCountCache.incrementBy(insertedByCode.size());
+    if (!insertedByCode.isEmpty()) {
+      messageCollectionVersion.advance();
+    }
+    log.info("Created {} of {} messages in batch", insertedByCode.size(), items.size());
+    return Arrays.asList(results);
+  }
+}
@@ -1,5 +1,7 @@
 package com.sandbox.api.application.usecase;
 
+import com.sandbox.api.application.service.MessageCollectionVersion;
+import com.sandbox.api.application.service.MessageCountCache;
 import com.sandbox.api.domain.exception.MessageNotFoundException;
 import com.sandbox.api.domain.repository.MessageRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +16,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteMessageUseCase {
 
   private final MessageRepository messageRepository;
+  private final MessageCountCache messageCountCache;
+  private final MessageCollectionVersion messageCollectionVersion;
 
   /**
    * Deletes a message by its ID.
@@ -25,12 +29,13 @@ public class DeleteMessageUseCase {
   public void execute(Long id) {
     log.debug("Deleting message with id: {}", id);
 
-    if (!messageRepository.existsById(id)) {
+    if (!messageRepository.deleteIfExists(id)) {
       log.warn("Message not found with id: {}", id);
       throw new MessageNotFoundException(id);
     }
 
-    messageRepository.deleteById(id);
+    messageCountCache.decrement();
+    messageCollectionVersion.advance();
     log.info("Deleted message with id: {}", id);
   }
 }
@@ -0,0 +1,37 @@
+package com.sandbox.api.application.usecase;
+
+import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.repository.MessageRepository;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Use case for exporting every message as a stream. */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportMessagesUseCase {
+
+  private final MessageRepository messageRepository;
+
+  /**
+   * Passes every message to the sink in ID order.
+   *
+   * <p>Messages are read from a database cursor within a read-only transaction, so memory use does
+   * not depend on the number of messages. If the sink throws, for example because the client
+   * disconnected, the cursor is closed and the transaction is rolled back before the exception is
+   * rethrown.
+   *
+   * @param sink receives each message
+   * @return the number of messages exported
+   */
+  @Transactional(readOnly = true)
+  public long execute(Consumer<Message> sink) {
+    long start = System.nanoTime();
+    long exported = messageRepository.forEach(sink);
+    log.info("Exported {} messages in {}ms", exported, (System.nanoTime() - start) / 1_000_000);
+    return exported;
+  }
+}
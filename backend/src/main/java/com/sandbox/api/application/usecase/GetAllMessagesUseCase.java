@@ -1,24 +1,74 @@
 package com.sandbox.api.application.usecase;
 
+import com.sandbox.api.application.dto.CountMode;
+import com.sandbox.api.application.service.MessageCollectionVersion;
+import com.sandbox.api.application.service.MessageCountCache;
+import com.sandbox.api.application.service.ParallelQueryRunner;
 import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageCursor;
+import com.sandbox.api.domain.model.MessageField;
 import com.sandbox.api.domain.repository.MessageRepository;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /** Use case for retrieving all messages. */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class GetAllMessagesUseCase {
 
   private final MessageRepository messageRepository;
+  private final MessageCountCache messageCountCache;
+  private final MessageCollectionVersion messageCollectionVersion;
+  private final ParallelQueryRunner parallelQueryRunner;
+  private final CountMode defaultCountMode;
+
+  /**
+   * Constructs a new GetAllMessagesUseCase.
+   *
+   * @param messageRepository repository for message queries
+   * @param messageCountCache in-process message count used by {@link CountMode#CACHED}
+   * @param messageCollectionVersion version of the collection, advanced by every write
+   * @param parallelQueryRunner runner overlapping the page and count queries for {@link
+   *     CountMode#EXACT}
+   * @param defaultCountMode count mode used when the caller does not choose one
+   */
+  public GetAllMessagesUseCase(
+      MessageRepository messageRepository,
+      MessageCountCache messageCountCache,
+      MessageCollectionVersion messageCollectionVersion,
+      ParallelQueryRunner parallelQueryRunner,
+      @Value("${messages.pagination.default-count-mode:exact}") String defaultCountMode) {
+    this.messageRepository = messageRepository;
+    this.messageCountCache = messageCountCache;
+    this.messageCollectionVersion = messageCollectionVersion;
+    this.parallelQueryRunner = parallelQueryRunner;
+    this.defaultCountMode = CountMode.fromValue(defaultCountMode);
+  }
+
+  /**
+   * Returns the version of the messages collection, which changes whenever a message is created,
+   * updated or deleted.
+   *
+   * <p>Reading it does not query the messages, so callers can tell whether a page they already have
+   * is still current before fetching it again.
+   *
+   * @return the collection version
+   */
+  public long collectionVersion() {
+    return messageCollectionVersion.get();
+  }
 
   /**
    * Retrieves all messages from the repository.
@@ -34,18 +84,135 @@ public class GetAllMessagesUseCase {
   }
 
   /**
-   * Retrieves messages with pagination.
+   * Retrieves messages with pagination and an exact total.
+   *
+   * <p>The page query and the count query run concurrently on separate connections, see {@link
+   * #findPageWithExactCount(Pageable, Function)}.
    *
    * @param page the page number (0-indexed)
    * @param size the number of items per page
    * @return a page of messages
    */
-  @Transactional(readOnly = true)
   public Page<Message> execute(int page, int size) {
     log.debug("Fetching messages with pagination: page={}, size={}", page, size);
     Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-    Page<Message> messages = messageRepository.findAll(pageable);
+    Page<Message> messages = findPageWithExactCount(pageable, messageRepository::findSlice);
     log.debug("Found {} messages in page {}", messages.getNumberOfElements(), page);
     return messages;
   }
+
+  /**
+   * Retrieves messages with pagination, computing the total with the given count mode.
+   *
+   * <p>For every mode except {@link CountMode#NONE} the result is a {@link Page}; with {@code NONE}
+   * it is a plain {@link Slice} that only knows whether a next page exists.
+   *
+   * @param page the page number (0-indexed)
+   * @param size the number of items per page
+   * @param countMode how to compute the total, or {@code null} for the server default
+   * @return a page or slice of messages
+   */
+  public Slice<Message> execute(int page, int size, CountMode countMode) {
+    return execute(page, size, countMode, MessageField.ALL);
+  }
+
+  /**
+   * Retrieves messages with pagination, loading only the given fields of each message.
+   *
+   * @param page the page number (0-indexed)
+   * @param size the number of items per page
+   * @param countMode how to compute the total, or {@code null} for the server default
+   * @param fields the fields the caller needs; other fields may be {@code null}
+   * @return a page or slice of messages
+   * @see #execute(int, int, CountMode)
+   */
+  public Slice<Message> execute(int page, int size, CountMode countMode, Set<MessageField> fields) {
+    CountMode mode = countMode != null ? countMode : defaultCountMode;
+    log.debug(
+        "Fetching messages with pagination: page={}, size={}, countMode={}, fields={}",
+        page,
+        size,
+        mode,
+        fields);
+    Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+    Function<Pageable, Slice<Message>> findSlice = findSlice(fields);
+
+    if (mode == CountMode.EXACT) {
+      return findPageWithExactCount(pageable, findSlice);
+    }
+
+    Slice<Message> slice = findSlice.apply(pageable);
+    return switch (mode) {
+      case CACHED -> toPage(slice, messageCountCache.get());
+      case ESTIMATED -> toPage(slice, messageRepository.estimateCount());
+      default -> slice;
+    };
+  }
+
+  /**
+   * Retrieves the messages that follow the given cursor (keyset pagination).
+   *
+   * @param after the cursor pointing at the last message of the previous page
+   * @param size the number of items per page
+   * @return a window of messages following the cursor
+   */
+  @Transactional(readOnly = true)
+  public Window<Message> execute(MessageCursor after, int size) {
+    return execute(after, size, MessageField.ALL);
+  }
+
+  /**
+   * Retrieves the messages that follow the given cursor, loading only the given fields.
+   *
+   * @param after the cursor pointing at the last message of the previous page
+   * @param size the number of items per page
+   * @param fields the fields the caller needs; other fields may be {@code null}
+   * @return a window of messages following the cursor
+   */
+  @Transactional(readOnly = true)
+  public Window<Message> execute(MessageCursor after, int size, Set<MessageField> fields) {
+    log.debug(
+        "Fetching messages after cursor: sort={}, size={}, fields={}",
+        after.toOrder(),
+        size,
+        fields);
+    Window<Message> messages =
+        fields.containsAll(MessageField.ALL)
+            ? messageRepository.findAll(after, size)
+            : messageRepository.findAll(after, size, fields);
+    log.debug("Found {} messages after cursor, hasNext={}", messages.size(), messages.hasNext());
+    return messages;
+  }
+
+  /**
+   * Runs the page query and {@code COUNT(*)} concurrently instead of one after the other.
+   *
+   * <p>This method is deliberately not transactional: each query borrows its own pooled connection
+   * and therefore sees its own READ COMMITTED snapshot. A write committed between the two
+   * statements can skew the total by the size of that write, which is harmless for paging as long
+   * as the total never contradicts the rows actually returned; {@link #toPage} guarantees that.
+   */
+  private Page<Message> findPageWithExactCount(
+      Pageable pageable, Function<Pageable, Slice<Message>> findSlice) {
+    ParallelQueryRunner.Results<Slice<Message>, Long> results =
+        parallelQueryRunner.run(
+            "messages.page", () -> findSlice.apply(pageable), messageRepository::count);
+    return toPage(results.first(), results.second());
+  }
+
+  /** Whole messages keep going through the unprojected query. */
+  private Function<Pageable, Slice<Message>> findSlice(Set<MessageField> fields) {
+    if (fields.containsAll(MessageField.ALL)) {
+      return messageRepository::findSlice;
+    }
+    return pageable -> messageRepository.findSlice(pageable, fields);
+  }
+
+  private Page<Message> toPage(Slice<Message> slice, long approximateTotal) {
+    // An approximate total must never contradict what the page query itself observed
+    long observed =
+        slice.getPageable().getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+    return new PageImpl<>(
+        slice.getContent(), slice.getPageable(), Math.max(approximateTotal, observed));
+  }
 }
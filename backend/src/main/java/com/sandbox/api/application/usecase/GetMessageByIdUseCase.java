@@ -2,7 +2,11 @@ package com.sandbox.api.application.usecase;
 
 import com.sandbox.api.domain.exception.MessageNotFoundException;
 import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageField;
 import com.sandbox.api.domain.repository.MessageRepository;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -34,4 +38,38 @@ public class GetMessageByIdUseCase {
               return new MessageNotFoundException(id);
             });
   }
+
+  /**
+   * Retrieves a message by its ID, loading only the given fields.
+   *
+   * @param id the ID of the message to retrieve
+   * @param fields the fields the caller needs; other fields may be {@code null}
+   * @return the message with the given ID
+   * @throws MessageNotFoundException if no message exists with the given ID
+   */
+  @Transactional(readOnly = true)
+  public Message execute(Long id, Set<MessageField> fields) {
+    log.debug("Fetching message with id: {}, fields: {}", id, fields);
+    return messageRepository
+        .findById(id, fields)
+        .orElseThrow(
+            () -> {
+              log.warn("Message not found with id: {}", id);
+              return new MessageNotFoundException(id);
+            });
+  }
+
+  /**
+   * Finds when a message was last updated, without loading the message itself.
+   *
+   * <p>Lets callers check whether a copy they already have is still current before fetching the
+   * message.
+   *
+   * @param id the ID of the message
+   * @return the last update time, or empty if no message exists with the given ID
+   */
+  @Transactional(readOnly = true)
+  public Optional<LocalDateTime> findUpdatedAt(Long id) {
+    return messageRepository.findUpdatedAtById(id);
+  }
 }
@@ -0,0 +1,74 @@
+package com.sandbox.api.application.usecase;
+
+import com.sandbox.api.application.dto.ImportFormat;
+import com.sandbox.api.application.dto.ImportResult;
+import com.sandbox.api.application.service.MessageCollectionVersion;
+import com.sandbox.api.application.service.MessageCountCache;
+import com.sandbox.api.application.service.MessageImportReader;
+import com.sandbox.api.domain.repository.MessageRepository;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Use case for bulk-importing messages from an NDJSON or CSV stream. */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportMessagesUseCase {
+
+  /** Maximum number of invalid records reported individually. */
+  public static final int MAX_REPORTED_ERRORS = 100;
+
+  private final MessageRepository messageRepository;
+  private final MessageCountCache messageCountCache;
+  private final MessageCollectionVersion messageCollectionVersion;
+
+  /**
+   * Imports every valid message whose code is not already in use.
+   *
+   * <p>The input is parsed while it is being loaded into the database, so it is never held in
+   * memory as a whole. Invalid and duplicate records are skipped and counted. When several records
+   * share a code, only the first one is imported.
+   *
+   * @param input the records to import
+   * @param format the format of {@code input}
+   * @return counts, throughput and the first invalid records of the import
+   * @throws IllegalArgumentException if a CSV input does not start with a valid header
+   */
+  @Transactional
+  public ImportResult execute(InputStream input, ImportFormat format) {
+    long start = System.nanoTime();
+    MessageImportReader reader = new MessageImportReader(input, format, MAX_REPORTED_ERRORS);
+    long imported = messageRepository.importIfCodeAbsent(reader);
+    long elapsedNanos = System.nanoTime() - start;
+
+    messageCountCache.incrementBy(imported);
+    if (imported > 0) {
+      messageCollectionVersion.advance();
+    }
+
+    long received = reader.getReceived();
+    long invalid = reader.getInvalid();
+    ImportResult result =
+        ImportResult.builder()
+            .received(received)
+            .imported(imported)
+            .invalid(invalid)
+            .duplicates(received - invalid - imported)
+            .durationMillis(elapsedNanos / 1_000_000)
+            .rowsPerSecond(elapsedNanos == 0 ? 0.0 : received * 1e9 / elapsedNanos)
+            .errors(reader.getErrors())
+            .build();
+    log.info(
+        "Imported {} of {} messages ({} invalid, {} duplicates) in {}ms, {} rows/s",
+        result.getImported(),
+        result.getReceived(),
+        result.getInvalid(),
+        result.getDuplicates(),
+        result.getDurationMillis(),
+        Math.round(result.getRowsPerSecond()));
+    return result;
+  }
+}
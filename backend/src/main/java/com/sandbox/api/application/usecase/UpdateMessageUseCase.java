@@ -1,10 +1,10 @@
 package com.sandbox.api.application.usecase;
 
+import com.sandbox.api.application.service.MessageCollectionVersion;
 import com.sandbox.api.domain.exception.DuplicateMessageCodeException;
 import com.sandbox.api.domain.exception.MessageNotFoundException;
 import com.sandbox.api.domain.model.Message;
 import com.sandbox.api.domain.repository.MessageRepository;
-import com.sandbox.api.domain.util.LogSanitizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateMessageUseCase {
 
   private final MessageRepository messageRepository;
+  private final MessageCollectionVersion messageCollectionVersion;
 
   /**
    * Updates an existing message with new code and content.
@@ -32,24 +33,16 @@ public class UpdateMessageUseCase {
   public Message execute(Long id, String code, String content) {
     log.debug("Updating message with id: {}", id);
 
-    Message existingMessage =
+    // The row itself is only read and written by the single UPDATE below
+    Message saved =
         messageRepository
-            .findById(id)
+            .updateIfExists(Message.forUpdate(id, code, content))
             .orElseThrow(
                 () -> {
                   log.warn("Message not found with id: {}", id);
                   return new MessageNotFoundException(id);
                 });
-
-    if (!existingMessage.getCode().equals(code)) {
-      if (messageRepository.existsByCode(code)) {
-        log.warn("Duplicate message code: {}", LogSanitizer.sanitize(code));
-        throw new DuplicateMessageCodeException(code);
-      }
-    }
-
-    Message updatedMessage = existingMessage.update(code, content);
-    Message saved = messageRepository.save(updatedMessage);
+    messageCollectionVersion.advance();
     log.info("Updated message with id: {}", saved.getId());
     return saved;
   }
@@ -0,0 +1,30 @@
+package com.sandbox.api.application.usecase.auth;
+
+import com.sandbox.api.application.dto.PublicSigningKey;
+import com.sandbox.api.application.service.TokenProvider;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use case for retrieving the public keys that tokens are signed with.
+ *
+ * <p>Other services and replicas verify tokens offline with these keys, published as a JSON Web Key
+ * Set.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetPublicKeysUseCase {
+
+  private final TokenProvider tokenProvider;
+
+  /**
+   * Retrieves the public keys tokens are verified with.
+   *
+   * @return the current signing key followed by previous ones, or an empty list if tokens are
+   *     signed with a shared secret
+   */
+  public List<PublicSigningKey> execute() {
+    return tokenProvider.getPublicKeys();
+  }
+}
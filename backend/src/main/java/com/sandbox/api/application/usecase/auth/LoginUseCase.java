@@ -1,6 +1,8 @@
 package com.sandbox.api.application.usecase.auth;
 
 import com.sandbox.api.application.dto.LoginResponse;
+import com.sandbox.api.application.exception.ServiceOverloadedException;
+import com.sandbox.api.application.service.PasswordVerifier;
 import com.sandbox.api.application.service.TokenProvider;
 import com.sandbox.api.application.service.TokenStore;
 import com.sandbox.api.domain.model.User;
@@ -8,7 +10,6 @@ import com.sandbox.api.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 /** Use case for user login. */
@@ -18,7 +19,7 @@ import org.springframework.stereotype.Service;
 public class LoginUseCase {
 
   private final UserRepository userRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordVerifier passwordVerifier;
   private final TokenProvider tokenProvider;
   private final TokenStore tokenStore;
 
@@ -29,6 +30,7 @@ public class LoginUseCase {
    * @param password the password
    * @return LoginResponse containing access and refresh tokens
    * @throws BadCredentialsException if authentication fails
+   * @throws ServiceOverloadedException if too many logins are already being verified
    */
   public LoginResponse execute(String username, String password) {
     // Sanitize username for logging to prevent log injection attacks
@@ -40,7 +42,7 @@ public class LoginUseCase {
             .findByUsername(username)
             .orElseThrow(() -> new BadCredentialsException("Invalid username or password"));
 
-    if (!passwordEncoder.matches(password, user.getPasswordHash())) {
+    if (!passwordVerifier.matches(password, user.getPasswordHash())) {
       log.warn("Failed login attempt for username: {}", sanitizedUsername);
       throw new BadCredentialsException("Invalid username or password");
     }
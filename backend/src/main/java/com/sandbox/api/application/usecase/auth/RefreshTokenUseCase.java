@@ -30,17 +30,18 @@ public class RefreshTokenUseCase {
   public LoginResponse execute(String refreshToken) {
     log.debug("Token refresh attempt");
 
-    if (!tokenProvider.validateToken(refreshToken)) {
+    if (tokenProvider.verifyToken(refreshToken).isEmpty()) {
       log.warn("Invalid refresh token");
       throw new BadCredentialsException("Invalid refresh token");
     }
 
-    if (!tokenStore.isValid(refreshToken)) {
+    // One lookup, so a token revoked in between cannot pass the check and then lose its user
+    Long userId = tokenStore.getUserId(refreshToken);
+    if (userId == null) {
       log.warn("Refresh token not found in store");
       throw new BadCredentialsException("Invalid refresh token");
     }
 
-    Long userId = tokenStore.getUserId(refreshToken);
     User user =
         userRepository
             .findById(userId)
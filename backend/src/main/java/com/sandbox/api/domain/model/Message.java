@@ -42,6 +42,26 @@ public class Message {
     return Message.builder().code(code).content(content).createdAt(LocalDateTime.now()).build();
   }
 
+  /**
+   * Describes the new code and content of an existing message, for updating it without loading it
+   * first.
+   *
+   * <p>The timestamps are left {@code null}; the stored message keeps its creation time and gets
+   * its update time from the database.
+   *
+   * @param id the ID of the message to update
+   * @param newCode the new code
+   * @param newContent the new content
+   * @return a Message carrying only the ID, code and content
+   * @throws IllegalArgumentException if newCode or newContent is invalid
+   */
+  public static Message forUpdate(Long id, String newCode, String newContent) {
+    validateCode(newCode);
+    validateContent(newContent);
+
+    return Message.builder().id(id).code(newCode).content(newContent).build();
+  }
+
   /**
    * Creates a new Message instance with updated code and content.
    *
@@ -0,0 +1,146 @@
+package com.sandbox.api.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Immutable keyset cursor pointing just after a message in a sorted listing.
+ *
+ * <p>A cursor captures the sort property, the sort direction, the value of that property for the
+ * last message a client has seen, and the message ID as a tie-breaker. It is exchanged with clients
+ * as an opaque Base64URL token so that the next page can be fetched with a {@code WHERE (sort_key,
+ * id) > (?, ?)} predicate instead of an {@code OFFSET}.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+public final class MessageCursor {
+
+  private static final Set<String> SORTABLE_PROPERTIES =
+      Set.of("id", "code", "content", "createdAt", "updatedAt");
+
+  private static final String SEPARATOR = "|";
+
+  private final String sortProperty;
+  private final Sort.Direction direction;
+  private final Object sortValue;
+  private final Long id;
+
+  /**
+   * Creates a cursor positioned just after the given message for the given sort order.
+   *
+   * @param message the last message of the current page
+   * @param order the sort order the listing uses
+   * @return a cursor pointing after the message
+   * @throws IllegalArgumentException if the sort property is not sortable
+   */
+  public static MessageCursor of(Message message, Sort.Order order) {
+    String property = validateProperty(order.getProperty());
+    return new MessageCursor(
+        property, order.getDirection(), valueOf(message, property), message.getId());
+  }
+
+  /**
+   * Creates a cursor with the same sort order as this one, positioned just after the given message.
+   *
+   * @param message the last message of the current page
+   * @return a cursor pointing after the message
+   */
+  public MessageCursor next(Message message) {
+    return new MessageCursor(
+        sortProperty, direction, valueOf(message, sortProperty), message.getId());
+  }
+
+  /**
+   * Returns the sort order this cursor was created for.
+   *
+   * @return the sort order
+   */
+  public Sort.Order toOrder() {
+    return new Sort.Order(direction, sortProperty);
+  }
+
+  /**
+   * Encodes this cursor as an opaque, URL-safe token.
+   *
+   * @return the encoded cursor
+   */
+  public String encode() {
+    String raw =
+        sortProperty
+            + SEPARATOR
+            + direction.name()
+            + SEPARATOR
+            + id
+            + SEPARATOR
+            + formatValue(sortValue);
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a token previously produced by {@link #encode()}.
+   *
+   * @param token the opaque cursor token
+   * @return the decoded cursor
+   * @throws IllegalArgumentException if the token is malformed
+   */
+  public static MessageCursor decode(String token) {
+    if (token == null || token.isBlank()) {
+      throw new IllegalArgumentException("Cursor cannot be null or blank");
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\" + SEPARATOR, 4);
+      if (parts.length != 4) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+      String property = validateProperty(parts[0]);
+      Sort.Direction direction = Sort.Direction.fromString(parts[1]);
+      Long id = Long.valueOf(parts[2]);
+      return new MessageCursor(property, direction, parseValue(property, parts[3]), id);
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      // NumberFormatException is an IllegalArgumentException as well
+      throw new IllegalArgumentException("Invalid cursor", e);
+    }
+  }
+
+  private static String validateProperty(String property) {
+    if (!SORTABLE_PROPERTIES.contains(property)) {
+      throw new IllegalArgumentException("Invalid sort field: " + property);
+    }
+    return property;
+  }
+
+  private static Object valueOf(Message message, String property) {
+    return switch (property) {
+      case "id" -> message.getId();
+      case "code" -> message.getCode();
+      case "content" -> message.getContent();
+      case "createdAt" -> message.getCreatedAt();
+      case "updatedAt" -> message.getUpdatedAt();
+      default -> throw new IllegalArgumentException("Invalid sort field: " + property);
+    };
+  }
+
+  private static String formatValue(Object value) {
+    return value == null ? "" : value.toString();
+  }
+
+  private static Object parseValue(String property, String value) {
+    return switch (property) {
+      case "id" -> Long.valueOf(value);
+      case "createdAt", "updatedAt" -> LocalDateTime.parse(value);
+      default -> value;
+    };
+  }
+}
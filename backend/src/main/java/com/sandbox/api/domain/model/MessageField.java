@@ -0,0 +1,76 @@
+package com.sandbox.api.domain.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A property of a message that a read can be narrowed to (a sparse fieldset).
+ *
+ * <p>Reads that are given a subset of the fields only load those properties; the others are left
+ * {@code null} on the returned messages. The ID is always loaded.
+ */
+public enum MessageField {
+  ID("id"),
+  CODE("code"),
+  CONTENT("content"),
+  CREATED_AT("createdAt"),
+  UPDATED_AT("updatedAt");
+
+  /** Every field, i.e. the full message. */
+  public static final Set<MessageField> ALL =
+      Collections.unmodifiableSet(EnumSet.allOf(MessageField.class));
+
+  private final String property;
+
+  MessageField(String property) {
+    this.property = property;
+  }
+
+  /**
+   * Returns the name of the property, as used in the API and in {@link MessageCursor}.
+   *
+   * @return the property name, e.g. {@code "createdAt"}
+   */
+  public String getProperty() {
+    return property;
+  }
+
+  /**
+   * Parses a field from its property name.
+   *
+   * @param value the property name, e.g. {@code "createdAt"}
+   * @return the matching field
+   * @throws IllegalArgumentException if the value is not a known field
+   */
+  public static MessageField fromValue(String value) {
+    if (value != null) {
+      String trimmed = value.trim();
+      for (MessageField field : values()) {
+        if (field.property.equals(trimmed)) {
+          return field;
+        }
+      }
+    }
+    throw new IllegalArgumentException("Invalid field: " + value);
+  }
+
+  /**
+   * Parses a sparse fieldset from property names.
+   *
+   * @param values the property names, or {@code null} or empty for every field
+   * @return the selected fields, always including {@link #ID}
+   * @throws IllegalArgumentException if a value is not a known field
+   */
+  public static Set<MessageField> fromValues(Collection<String> values) {
+    if (values == null || values.isEmpty()) {
+      return ALL;
+    }
+    EnumSet<MessageField> fields = EnumSet.of(ID);
+    for (String value : values) {
+      fields.add(fromValue(value));
+    }
+    return fields.size() == ALL.size() ? ALL : Collections.unmodifiableSet(fields);
+  }
+}
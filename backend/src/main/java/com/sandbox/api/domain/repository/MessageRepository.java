@@ -1,10 +1,18 @@
 package com.sandbox.api.domain.repository;
 
 import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageCursor;
+import com.sandbox.api.domain.model.MessageField;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 
 /** Repository interface for managing messages. */
 public interface MessageRepository {
@@ -12,15 +20,166 @@ public interface MessageRepository {
 
   List<Message> findAll();
 
+  /**
+   * Passes every message to the action in ID order, reading them from the database in batches
+   * rather than loading the whole table into memory.
+   *
+   * <p>Must be called within a transaction. An exception thrown by the action stops the iteration
+   * and is rethrown.
+   *
+   * @param action the action to perform on each message
+   * @return the number of messages passed to the action
+   */
+  long forEach(Consumer<Message> action);
+
   Page<Message> findAll(Pageable pageable);
 
+  /**
+   * Finds a page of messages without counting the total number of messages.
+   *
+   * @param pageable the page request
+   * @return a slice of messages, with {@code hasNext()} telling whether more messages follow
+   */
+  Slice<Message> findSlice(Pageable pageable);
+
+  /**
+   * Finds a page of messages without counting them, loading only the given fields.
+   *
+   * <p>Fields the page is sorted by are loaded as well, so that the returned messages can position
+   * a cursor.
+   *
+   * @param pageable the page request
+   * @param fields the fields to load; the others are {@code null} on the returned messages
+   * @return a slice of messages, with {@code hasNext()} telling whether more messages follow
+   */
+  Slice<Message> findSlice(Pageable pageable, Set<MessageField> fields);
+
+  /**
+   * Counts all messages exactly.
+   *
+   * @return the number of messages
+   */
+  long count();
+
+  /**
+   * Estimates the number of messages from database statistics without scanning the table.
+   *
+   * @return the estimated number of messages
+   */
+  long estimateCount();
+
+  /**
+   * Reads the version of the messages collection without querying the messages themselves.
+   *
+   * @return the current collection version
+   */
+  long findCollectionVersion();
+
+  /**
+   * Advances the version of the messages collection.
+   *
+   * <p>The new version is visible to every reader immediately, whether or not a surrounding
+   * transaction commits.
+   */
+  void advanceCollectionVersion();
+
+  /**
+   * Finds the messages that follow the given cursor in the cursor's sort order.
+   *
+   * <p>Uses a keyset predicate instead of an offset, so every page costs the same as the first.
+   *
+   * @param after the cursor pointing at the last message already seen
+   * @param limit the maximum number of messages to return
+   * @return a window of messages, with {@code hasNext()} telling whether more messages follow
+   */
+  Window<Message> findAll(MessageCursor after, int limit);
+
+  /**
+   * Finds the messages that follow the given cursor, loading only the given fields.
+   *
+   * <p>The cursor's sort property is loaded as well, so that the window can position the next
+   * cursor.
+   *
+   * @param after the cursor pointing at the last message already seen
+   * @param limit the maximum number of messages to return
+   * @param fields the fields to load; the others are {@code null} on the returned messages
+   * @return a window of messages, with {@code hasNext()} telling whether more messages follow
+   */
+  Window<Message> findAll(MessageCursor after, int limit, Set<MessageField> fields);
+
   Optional<Message> findById(Long id);
 
-  Message save(Message message);
+  /**
+   * Finds a message by ID, loading only the given fields.
+   *
+   * <p>A cached copy of the whole message may be returned instead, so callers must not rely on the
+   * other fields being {@code null}.
+   *
+   * @param id the ID of the message
+   * @param fields the fields to load
+   * @return the message, or empty if no message exists with the given ID
+   */
+  Optional<Message> findById(Long id, Set<MessageField> fields);
+
+  /**
+   * Finds when a message was last updated, without loading its code or content.
+   *
+   * @param id the ID of the message
+   * @return the last update time, or empty if no message exists with the given ID
+   */
+  Optional<LocalDateTime> findUpdatedAtById(Long id);
+
+  /**
+   * Inserts a new message unless another message already uses its code.
+   *
+   * <p>The insert and the duplicate check are a single statement, so the check cannot race with a
+   * concurrent insert of the same code.
+   *
+   * @param message the message to insert, without an ID
+   * @return the inserted message with its generated ID and database timestamps, or empty if the
+   *     code is already in use
+   */
+  Optional<Message> insertIfCodeAbsent(Message message);
+
+  /**
+   * Inserts every message whose code is not already in use, using multi-row inserts.
+   *
+   * <p>Messages whose code is taken are skipped rather than failing the whole insert. The given
+   * messages must not share codes with each other.
+   *
+   * @param messages the messages to insert, without IDs
+   * @return the inserted messages with their generated IDs and database timestamps, in no
+   *     particular order
+   */
+  List<Message> insertAllIfCodeAbsent(List<Message> messages);
 
-  void deleteById(Long id);
+  /**
+   * Bulk-loads messages whose code is not already in use, consuming them as a stream.
+   *
+   * <p>Messages are pulled from the iterator one at a time and never collected in memory, so the
+   * input may be arbitrarily large. Messages whose code is taken, or repeats the code of an earlier
+   * message in the stream, are skipped.
+   *
+   * @param messages the messages to insert, without IDs
+   * @return the number of messages inserted
+   */
+  long importIfCodeAbsent(Iterator<Message> messages);
 
-  boolean existsByCode(String code);
+  /**
+   * Updates the code and content of an existing message in a single statement.
+   *
+   * @param message the message carrying the ID to update and the new code and content
+   * @return the updated message as stored, or empty if no message has the given ID
+   * @throws com.sandbox.api.domain.exception.DuplicateMessageCodeException if another message
+   *     already uses the new code
+   */
+  Optional<Message> updateIfExists(Message message);
 
-  boolean existsById(Long id);
+  /**
+   * Deletes a message in a single statement.
+   *
+   * @param id the ID of the message to delete
+   * @return {@code true} if a message was deleted, {@code false} if none had the given ID
+   */
+  boolean deleteIfExists(Long id);
 }
@@ -0,0 +1,141 @@
+package com.sandbox.api.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread.
+ *
+ * <p>A pinned virtual thread keeps its carrier (one of roughly as many platform threads as CPU
+ * cores) while it blocks, so a few pinned waits on the database can stall every other request. This
+ * monitor streams the JDK Flight Recorder event {@code jdk.VirtualThreadPinned}, which the JVM
+ * emits when a pinned virtual thread blocks for longer than {@code threshold}. Each event is
+ * recorded in the {@code jvm.threads.virtual.pinned} timer. The first event from each code location
+ * (the innermost frame outside the JDK) is logged as a warning with its stack trace; later events
+ * from the same location are only logged at debug level.
+ *
+ * <p>Only active when requests run on virtual threads ({@code spring.threads.virtual.enabled}).
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+
+  private static final int LOGGED_FRAMES = 12;
+
+  private final Duration threshold;
+  private final Timer pinned;
+  private final Set<String> reportedLocations = ConcurrentHashMap.newKeySet();
+
+  private volatile RecordingStream stream;
+
+  /**
+   * Constructs a new VirtualThreadPinningMonitor.
+   *
+   * @param meterRegistry registry the pinning timer is published to
+   * @param threshold shortest pinned wait that is reported
+   */
+  public VirtualThreadPinningMonitor(
+      MeterRegistry meterRegistry,
+      @Value("${concurrency.pinning.threshold:20ms}") Duration threshold) {
+    this.threshold = threshold;
+    this.pinned =
+        Timer.builder("jvm.threads.virtual.pinned")
+            .description("Time virtual threads spent blocked while pinned to their carrier")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public void start() {
+    RecordingStream recording = new RecordingStream();
+    recording.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+    recording.onEvent(EVENT_NAME, this::record);
+    recording.startAsync();
+    stream = recording;
+    log.info("Monitoring virtual thread pinning (threshold {})", threshold);
+  }
+
+  @Override
+  public void stop() {
+    RecordingStream recording = stream;
+    stream = null;
+    if (recording != null) {
+      recording.close();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return stream != null;
+  }
+
+  /**
+   * Records one pinning event.
+   *
+   * @param event a {@code jdk.VirtualThreadPinned} event
+   */
+  void record(RecordedEvent event) {
+    pinned.record(event.getDuration());
+    List<RecordedFrame> frames = frames(event.getStackTrace());
+    String location = location(frames);
+    if (reportedLocations.add(location)) {
+      log.warn(
+          "Virtual thread was pinned to its carrier for {} ms at {}\n\t{}",
+          event.getDuration().toMillis(),
+          location,
+          frames.stream()
+              .limit(LOGGED_FRAMES)
+              .map(VirtualThreadPinningMonitor::describe)
+              .collect(Collectors.joining("\n\t")));
+    } else {
+      log.debug(
+          "Virtual thread was pinned to its carrier for {} ms at {}",
+          event.getDuration().toMillis(),
+          location);
+    }
+  }
+
+  private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+    return stackTrace == null ? List.of() : stackTrace.getFrames();
+  }
+
+  /** The innermost frame outside the JDK, which is where the blocking call was made. */
+  private static String location(List<RecordedFrame> frames) {
+    return frames.stream()
+        .filter(frame -> !isJdkFrame(frame))
+        .findFirst()
+        .or(() -> frames.stream().findFirst())
+        .map(VirtualThreadPinningMonitor::describe)
+        .orElse("unknown");
+  }
+
+  private static boolean isJdkFrame(RecordedFrame frame) {
+    String type = frame.getMethod().getType().getName();
+    return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+  }
+
+  private static String describe(RecordedFrame frame) {
+    return frame.getMethod().getType().getName()
+        + "."
+        + frame.getMethod().getName()
+        + ":"
+        + frame.getLineNumber();
+  }
+}
@@ -0,0 +1,218 @@
+package com.sandbox.api.infrastructure.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageCursor;
+import com.sandbox.api.domain.model.MessageField;
+import com.sandbox.api.domain.repository.MessageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Caching decorator around {@link MessageRepositoryImpl}.
+ *
+ * <p>{@link #findById(Long)} is served from a bounded in-memory cache that evicts by size and by
+ * time since write. Writes made through {@link #insertIfCodeAbsent(Message)}, {@link
+ * #updateIfExists(Message)} and {@link #deleteIfExists(Long)} invalidate the affected entry once
+ * the surrounding transaction commits, so that concurrent readers never repopulate the cache with a
+ * row that is about to change. Every other method is passed straight through.
+ *
+ * <p>{@link #findUpdatedAtById(Long)} and the sparse {@link #findById(Long, Set)} are answered from
+ * the same cache when the message is cached, but never populate it.
+ *
+ * <p>Hit, miss and eviction counts are published as {@code cache.*} metrics with {@code
+ * cache=messages.byId}.
+ */
+@Primary
+@Repository
+public class CachingMessageRepository implements MessageRepository {
+
+  static final String CACHE_NAME = "messages.byId";
+
+  private final MessageRepository delegate;
+  private final Cache<Long, Message> byId;
+
+  /**
+   * Constructs a new CachingMessageRepository.
+   *
+   * @param delegate the repository that actually queries the database
+   * @param meterRegistry registry the cache statistics are published to
+   * @param maximumSize maximum number of cached messages
+   * @param timeToLive how long a cached message is served after it was loaded
+   */
+  public CachingMessageRepository(
+      MessageRepositoryImpl delegate,
+      MeterRegistry meterRegistry,
+      @Value("${messages.cache.by-id.maximum-size:10000}") long maximumSize,
+      @Value("${messages.cache.by-id.time-to-live:5m}") Duration timeToLive) {
+    this.delegate = delegate;
+    this.byId =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, byId, CACHE_NAME);
+  }
+
+  @Override
+  public Optional<Message> findById(Long id) {
+    Message cached = byId.getIfPresent(id);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    // Misses are not cached, so a newly created message is visible immediately
+    Optional<Message> loaded = delegate.findById(id);
+    loaded.ifPresent(message -> byId.put(id, message));
+    return loaded;
+  }
+
+  @Override
+  public Optional<Message> findById(Long id, Set<MessageField> fields) {
+    Message cached = byId.getIfPresent(id);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    // A partially loaded message must never be served to readers of the whole message
+    return delegate.findById(id, fields);
+  }
+
+  @Override
+  public Optional<LocalDateTime> findUpdatedAtById(Long id) {
+    Message cached = byId.getIfPresent(id);
+    if (cached != null) {
+      return Optional.of(cached.getUpdatedAt());
+    }
+    // A version lookup does not load the message, so there is nothing to populate the cache with
+    return delegate.findUpdatedAtById(id);
+  }
+
+  @Override
+  public Optional<Message> insertIfCodeAbsent(Message message) {
+    Optional<Message> inserted = delegate.insertIfCodeAbsent(message);
+    inserted.ifPresent(saved -> invalidateAfterCommit(saved.getId()));
+    return inserted;
+  }
+
+  @Override
+  public List<Message> insertAllIfCodeAbsent(List<Message> messages) {
+    // New IDs cannot be cached yet because misses are never cached, so nothing is invalidated
+    return delegate.insertAllIfCodeAbsent(messages);
+  }
+
+  @Override
+  public long importIfCodeAbsent(Iterator<Message> messages) {
+    return delegate.importIfCodeAbsent(messages);
+  }
+
+  @Override
+  public Optional<Message> updateIfExists(Message message) {
+    Optional<Message> updated = delegate.updateIfExists(message);
+    updated.ifPresent(saved -> invalidateAfterCommit(saved.getId()));
+    return updated;
+  }
+
+  @Override
+  public boolean deleteIfExists(Long id) {
+    boolean deleted = delegate.deleteIfExists(id);
+    if (deleted) {
+      invalidateAfterCommit(id);
+    }
+    return deleted;
+  }
+
+  @Override
+  public Optional<Message> findByCode(String code) {
+    return delegate.findByCode(code);
+  }
+
+  @Override
+  public List<Message> findAll() {
+    return delegate.findAll();
+  }
+
+  @Override
+  public long forEach(Consumer<Message> action) {
+    return delegate.forEach(action);
+  }
+
+  @Override
+  public Page<Message> findAll(Pageable pageable) {
+    return delegate.findAll(pageable);
+  }
+
+  @Override
+  public Slice<Message> findSlice(Pageable pageable) {
+    return delegate.findSlice(pageable);
+  }
+
+  @Override
+  public Slice<Message> findSlice(Pageable pageable, Set<MessageField> fields) {
+    return delegate.findSlice(pageable, fields);
+  }
+
+  @Override
+  public long count() {
+    return delegate.count();
+  }
+
+  @Override
+  public long estimateCount() {
+    return delegate.estimateCount();
+  }
+
+  @Override
+  public long findCollectionVersion() {
+    return delegate.findCollectionVersion();
+  }
+
+  @Override
+  public void advanceCollectionVersion() {
+    delegate.advanceCollectionVersion();
+  }
+
+  @Override
+  public Window<Message> findAll(MessageCursor after, int limit) {
+    return delegate.findAll(after, limit);
+  }
+
+  @Override
+  public Window<Message> findAll(MessageCursor after, int limit, Set<MessageField> fields) {
+    return delegate.findAll(after, limit, fields);
+  }
+
+  private void invalidateAfterCommit(Long id) {
+    if (id == null) {
+      return;
+    }
+    // Evict now as well, so this transaction itself never reads its own stale entry
+    byId.invalidate(id);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            byId.invalidate(id);
+          }
+        });
+  }
+}
@@ -1,34 +1,90 @@
 package com.sandbox.api.infrastructure.persistence;
 
 import com.sandbox.api.domain.model.Message;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 /** MyBatis mapper for message database operations. */
 @Mapper
 public interface MessageMapper {
+  /** Every column of {@code messages} besides {@code id}, for reads of whole messages. */
+  Set<String> ALL_COLUMNS = Set.of("code", "content", "created_at", "updated_at");
+
   Message findByCode(@Param("code") String code);
 
   List<Message> findAll();
 
+  Cursor<Message> streamAll();
+
+  default List<Message> findAllWithPagination(
+      long offset, int limit, String sortField, String sortDirection) {
+    return findAllWithPagination(offset, limit, sortField, sortDirection, ALL_COLUMNS);
+  }
+
+  /**
+   * Finds a page of messages, reading only the given columns.
+   *
+   * @param columns the columns to read besides {@code id}; unknown names are ignored
+   */
   List<Message> findAllWithPagination(
       @Param("offset") long offset,
       @Param("limit") int limit,
       @Param("sortField") String sortField,
-      @Param("sortDirection") String sortDirection);
+      @Param("sortDirection") String sortDirection,
+      @Param("columns") Set<String> columns);
+
+  default List<Message> findAllAfter(
+      String sortField, String sortDirection, Object afterValue, Long afterId, int limit) {
+    return findAllAfter(sortField, sortDirection, afterValue, afterId, limit, ALL_COLUMNS);
+  }
+
+  /**
+   * Finds the messages after a keyset position, reading only the given columns.
+   *
+   * @param columns the columns to read besides {@code id}; unknown names are ignored
+   */
+  List<Message> findAllAfter(
+      @Param("sortField") String sortField,
+      @Param("sortDirection") String sortDirection,
+      @Param("afterValue") Object afterValue,
+      @Param("afterId") Long afterId,
+      @Param("limit") int limit,
+      @Param("columns") Set<String> columns);
+
+  Message insertIfCodeAbsent(Message message);
+
+  List<Message> insertAllIfCodeAbsent(@Param("messages") List<Message> messages);
+
+  void createImportStaging();
+
+  long mergeImportStaging();
+
+  Message updateReturning(Message message);
+
+  Long deleteReturningId(@Param("id") Long id);
 
   long count();
 
-  Message findById(@Param("id") Long id);
+  long estimateCount();
 
-  void insert(Message message);
+  long findCollectionVersion();
 
-  void update(Message message);
+  long advanceCollectionVersion();
 
-  void deleteById(@Param("id") Long id);
+  default Message findById(Long id) {
+    return findById(id, ALL_COLUMNS);
+  }
 
-  boolean existsByCode(@Param("code") String code);
+  /**
+   * Finds a message by ID, reading only the given columns.
+   *
+   * @param columns the columns to read besides {@code id}; unknown names are ignored
+   */
+  Message findById(@Param("id") Long id, @Param("columns") Set<String> columns);
 
-  boolean existsById(@Param("id") Long id);
+  LocalDateTime findUpdatedAtById(@Param("id") Long id);
 }
@@ -1,13 +1,32 @@
 package com.sandbox.api.infrastructure.persistence;
 
+import com.sandbox.api.domain.exception.DuplicateMessageCodeException;
 import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageCursor;
+import com.sandbox.api.domain.model.MessageField;
 import com.sandbox.api.domain.repository.MessageRepository;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
 
 /** MyBatis implementation of the MessageRepository interface. */
@@ -19,10 +38,19 @@ public class MessageRepositoryImpl implements MessageRepository {
 
   private static final Set<String> ALLOWED_SORT_DIRECTIONS = Set.of("ASC", "DESC");
 
+  /** Maximum number of rows per multi-row INSERT statement. */
+  static final int INSERT_CHUNK_SIZE = 500;
+
+  /** PostgreSQL SQLState for unique_violation; {@code code} is the only unique column updated. */
+  private static final String UNIQUE_VIOLATION = "23505";
+
   private final MessageMapper messageMapper;
+  private final MessageStagingCopier messageStagingCopier;
 
-  public MessageRepositoryImpl(MessageMapper messageMapper) {
+  public MessageRepositoryImpl(
+      MessageMapper messageMapper, MessageStagingCopier messageStagingCopier) {
     this.messageMapper = messageMapper;
+    this.messageStagingCopier = messageStagingCopier;
   }
 
   @Override
@@ -36,53 +64,158 @@ public class MessageRepositoryImpl implements MessageRepository {
   }
 
   @Override
-  public Page<Message> findAll(Pageable pageable) {
-    long offset = pageable.getOffset();
-    int limit = pageable.getPageSize();
-    String sortField = "created_at";
-    String sortDirection = "DESC";
-
-    if (pageable.getSort().isSorted()) {
-      var order = pageable.getSort().iterator().next();
-      sortField = validateSortField(order.getProperty());
-      sortDirection = validateSortDirection(order.getDirection().name());
+  public long forEach(Consumer<Message> action) {
+    long count = 0;
+    try (Cursor<Message> cursor = messageMapper.streamAll()) {
+      for (Message message : cursor) {
+        action.accept(message);
+        count++;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close message cursor", e);
     }
+    return count;
+  }
 
-    List<Message> messages =
-        messageMapper.findAllWithPagination(offset, limit, sortField, sortDirection);
+  @Override
+  public Page<Message> findAll(Pageable pageable) {
+    List<Message> messages = findPageRows(pageable, pageable.getPageSize(), MessageField.ALL);
     long total = messageMapper.count();
 
     return new PageImpl<>(messages, pageable, total);
   }
 
+  @Override
+  public Slice<Message> findSlice(Pageable pageable) {
+    return findSlice(pageable, MessageField.ALL);
+  }
+
+  @Override
+  public Slice<Message> findSlice(Pageable pageable, Set<MessageField> fields) {
+    int limit = pageable.getPageSize();
+
+    // Fetch one extra row to learn whether another page follows without a COUNT(*)
+    List<Message> rows = findPageRows(pageable, limit + 1, fields);
+    boolean hasNext = rows.size() > limit;
+    List<Message> messages = hasNext ? rows.subList(0, limit) : rows;
+
+    return new SliceImpl<>(messages, pageable, hasNext);
+  }
+
+  @Override
+  public long count() {
+    return messageMapper.count();
+  }
+
+  @Override
+  public long estimateCount() {
+    long estimate = messageMapper.estimateCount();
+    // reltuples is -1 until the table is first vacuumed or analyzed
+    return estimate < 0 ? messageMapper.count() : estimate;
+  }
+
+  @Override
+  public long findCollectionVersion() {
+    return messageMapper.findCollectionVersion();
+  }
+
+  @Override
+  public void advanceCollectionVersion() {
+    messageMapper.advanceCollectionVersion();
+  }
+
+  @Override
+  public Window<Message> findAll(MessageCursor after, int limit) {
+    return findAll(after, limit, MessageField.ALL);
+  }
+
+  @Override
+  public Window<Message> findAll(MessageCursor after, int limit, Set<MessageField> fields) {
+    String sortField = validateSortField(after.getSortProperty());
+    String sortDirection = validateSortDirection(after.getDirection().name());
+
+    // Fetch one extra row to learn whether another page follows without a COUNT(*)
+    List<Message> rows =
+        fields.containsAll(MessageField.ALL)
+            ? messageMapper.findAllAfter(
+                sortField, sortDirection, after.getSortValue(), after.getId(), limit + 1)
+            : messageMapper.findAllAfter(
+                sortField,
+                sortDirection,
+                after.getSortValue(),
+                after.getId(),
+                limit + 1,
+                columns(fields, sortField));
+    boolean hasNext = rows.size() > limit;
+    List<Message> messages = hasNext ? rows.subList(0, limit) : rows;
+
+    return Window.from(messages, index -> keysetPosition(after.next(messages.get(index))), hasNext);
+  }
+
   @Override
   public Optional<Message> findById(Long id) {
     return Optional.ofNullable(messageMapper.findById(id));
   }
 
   @Override
-  public Message save(Message message) {
-    if (message.getId() == null) {
-      messageMapper.insert(message);
-    } else {
-      messageMapper.update(message);
+  public Optional<Message> findById(Long id, Set<MessageField> fields) {
+    if (fields.containsAll(MessageField.ALL)) {
+      return findById(id);
     }
-    return message;
+    return Optional.ofNullable(messageMapper.findById(id, columns(fields, "id")));
   }
 
   @Override
-  public void deleteById(Long id) {
-    messageMapper.deleteById(id);
+  public Optional<LocalDateTime> findUpdatedAtById(Long id) {
+    return Optional.ofNullable(messageMapper.findUpdatedAtById(id));
   }
 
   @Override
-  public boolean existsByCode(String code) {
-    return messageMapper.existsByCode(code);
+  public Optional<Message> insertIfCodeAbsent(Message message) {
+    return Optional.ofNullable(messageMapper.insertIfCodeAbsent(message));
+  }
+
+  @Override
+  public List<Message> insertAllIfCodeAbsent(List<Message> messages) {
+    List<Message> inserted = new ArrayList<>(messages.size());
+    // Keeps each statement well below PostgreSQL's 65535 bind parameter limit
+    for (int from = 0; from < messages.size(); from += INSERT_CHUNK_SIZE) {
+      int to = Math.min(from + INSERT_CHUNK_SIZE, messages.size());
+      inserted.addAll(messageMapper.insertAllIfCodeAbsent(messages.subList(from, to)));
+    }
+    return inserted;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Rows are streamed with {@code COPY} into a temporary {@code message_import_staging} table
+   * and merged into {@code messages} with a single {@code INSERT ... SELECT ... ON CONFLICT DO
+   * NOTHING}. Must run inside a transaction, at most once per transaction: the staging table is
+   * private to it and dropped when it ends.
+   */
   @Override
-  public boolean existsById(Long id) {
-    return messageMapper.existsById(id);
+  public long importIfCodeAbsent(Iterator<Message> messages) {
+    messageMapper.createImportStaging();
+    messageStagingCopier.copy(messages);
+    return messageMapper.mergeImportStaging();
+  }
+
+  @Override
+  public Optional<Message> updateIfExists(Message message) {
+    try {
+      return Optional.ofNullable(messageMapper.updateReturning(message));
+    } catch (DataIntegrityViolationException e) {
+      if (isUniqueViolation(e)) {
+        throw new DuplicateMessageCodeException(message.getCode());
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean deleteIfExists(Long id) {
+    return messageMapper.deleteReturningId(id) != null;
   }
 
   private String validateSortField(String field) {
@@ -101,6 +234,56 @@ public class MessageRepositoryImpl implements MessageRepository {
     return upper;
   }
 
+  private List<Message> findPageRows(Pageable pageable, int limit, Set<MessageField> fields) {
+    String sortField = "created_at";
+    String sortDirection = "DESC";
+
+    if (pageable.getSort().isSorted()) {
+      var order = pageable.getSort().iterator().next();
+      sortField = validateSortField(order.getProperty());
+      sortDirection = validateSortDirection(order.getDirection().name());
+    }
+
+    if (fields.containsAll(MessageField.ALL)) {
+      return messageMapper.findAllWithPagination(
+          pageable.getOffset(), limit, sortField, sortDirection);
+    }
+    return messageMapper.findAllWithPagination(
+        pageable.getOffset(), limit, sortField, sortDirection, columns(fields, sortField));
+  }
+
+  /**
+   * Maps a sparse fieldset to the columns to select, adding the sort column.
+   *
+   * <p>The mapper only selects columns it knows, so the result never reaches the SQL as text.
+   */
+  private Set<String> columns(Set<MessageField> fields, String sortField) {
+    Set<String> columns = new HashSet<>();
+    for (MessageField field : fields) {
+      columns.add(camelToSnake(field.getProperty()));
+    }
+    // Rows are ordered and cursors positioned by the sort column, so it is always read for real
+    columns.add(sortField);
+    return columns;
+  }
+
+  private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SQLException sqlException
+          && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private ScrollPosition keysetPosition(MessageCursor cursor) {
+    Map<String, Object> keys = new LinkedHashMap<>();
+    keys.put(cursor.getSortProperty(), cursor.getSortValue());
+    keys.put("id", cursor.getId());
+    return ScrollPosition.of(keys, ScrollPosition.Direction.FORWARD);
+  }
+
   private String camelToSnake(String camelCase) {
     return camelCase.replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase();
   }
@@ -0,0 +1,106 @@
+package com.sandbox.api.infrastructure.persistence;
+
+import com.sandbox.api.domain.model.Message;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams messages into {@code message_import_staging} with PostgreSQL's {@code COPY ... FROM
+ * STDIN}.
+ *
+ * <p>Rows are encoded in COPY text format and sent in fixed-size chunks as the iterator produces
+ * them, so memory use does not grow with the input. The copy runs on the connection bound to the
+ * current transaction, which is the only one that sees the temporary staging table the caller
+ * created in it.
+ */
+@Component
+public class MessageStagingCopier {
+
+  static final String COPY_SQL =
+      "COPY message_import_staging (position, code, content) FROM STDIN (FORMAT text)";
+
+  /** Bytes buffered before a chunk is sent to the server. */
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final DataSource dataSource;
+
+  /**
+   * Constructs a new MessageStagingCopier.
+   *
+   * @param dataSource data source whose transactional connection the copy runs on
+   */
+  public MessageStagingCopier(DataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  /**
+   * Copies every message into the staging table, numbering rows in iteration order.
+   *
+   * @param messages the messages to stage
+   * @return the number of rows copied
+   */
+  public long copy(Iterator<Message> messages) {
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+      try {
+        Writer writer =
+            new BufferedWriter(
+                new OutputStreamWriter(
+                    new PGCopyOutputStream(copyIn, BUFFER_SIZE), StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+        long position = 0;
+        while (messages.hasNext()) {
+          writeRow(writer, ++position, messages.next());
+        }
+        writer.flush();
+        return copyIn.endCopy();
+      } finally {
+        // Still active only if the input or the connection failed part way through
+        if (copyIn.isActive()) {
+          copyIn.cancelCopy();
+        }
+      }
+    } catch (SQLException | IOException e) {
+      throw new DataAccessResourceFailureException("Failed to copy messages into staging table", e);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  private static void writeRow(Writer writer, long position, Message message) throws IOException {
+    writer.write(Long.toString(position));
+    writer.write('\t');
+    writeEscaped(writer, message.getCode());
+    writer.write('\t');
+    writeEscaped(writer, message.getContent());
+    writer.write('\n');
+  }
+
+  /** Escapes the characters that are significant in COPY text format. */
+  static void writeEscaped(Writer writer, String value) throws IOException {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '\\' -> writer.write("\\\\");
+        case '\t' -> writer.write("\\t");
+        case '\n' -> writer.write("\\n");
+        case '\r' -> writer.write("\\r");
+        default -> writer.write(c);
+      }
+    }
+  }
+}
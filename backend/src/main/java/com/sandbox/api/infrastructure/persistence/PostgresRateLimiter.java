@@ -0,0 +1,60 @@
+package com.sandbox.api.infrastructure.persistence;
+
+import com.sandbox.api.application.service.RateLimiter;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rate limiter that keeps its token buckets in the {@code rate_limit_buckets} table, so that every
+ * instance of the application draws from the same allowances.
+ *
+ * <p>Each attempt is a single upsert that refills and takes a token under the row lock, timed by
+ * the database clock so that instances need not agree on the time. Buckets that have refilled
+ * completely are deleted periodically; the number of rows is otherwise unbounded, so prefer the
+ * {@code memory} store for a single instance.
+ */
+@Component
+@ConditionalOnProperty(name = "security.rate-limit.store", havingValue = "postgres")
+@Slf4j
+public class PostgresRateLimiter implements RateLimiter {
+
+  /** Wait reported when the bucket vanished between the refusal and the lookup of its refill. */
+  private static final Duration MINIMUM_WAIT = Duration.ofSeconds(1);
+
+  private final RateLimitBucketMapper rateLimitBucketMapper;
+
+  /**
+   * Constructs a new PostgresRateLimiter.
+   *
+   * @param rateLimitBucketMapper mapper for the bucket table
+   */
+  public PostgresRateLimiter(RateLimitBucketMapper rateLimitBucketMapper) {
+    this.rateLimitBucketMapper = rateLimitBucketMapper;
+    log.info("Sharing rate limit buckets through the database");
+  }
+
+  @Override
+  public Duration tryAcquire(String key, int capacity, Duration refillPeriod) {
+    double refillSeconds = refillPeriod.toNanos() / 1e9;
+    if (rateLimitBucketMapper.takeToken(key, capacity, refillSeconds) != null) {
+      return Duration.ZERO;
+    }
+    Double seconds = rateLimitBucketMapper.secondsUntilToken(key, capacity, refillSeconds);
+    if (seconds == null || seconds <= 0) {
+      return MINIMUM_WAIT;
+    }
+    return Duration.ofNanos((long) Math.ceil(seconds * 1e9));
+  }
+
+  /** Deletes every bucket that has refilled completely. */
+  @Scheduled(fixedDelayString = "${security.rate-limit.purge-interval:PT1M}")
+  public void purgeIdle() {
+    int removed = rateLimitBucketMapper.deleteFull();
+    if (removed > 0) {
+      log.debug("Removed {} idle rate limit buckets", removed);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.sandbox.api.infrastructure.persistence;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/** MyBatis mapper for the token buckets of the rate limiter. */
+@Mapper
+public interface RateLimitBucketMapper {
+  /**
+   * Refills the bucket of a key and takes one token from it, creating a full bucket on first use.
+   *
+   * @param key identifies the bucket
+   * @param capacity maximum number of tokens the bucket holds
+   * @param refillSeconds seconds in which an empty bucket refills completely
+   * @return the tokens left after taking one, or null if the bucket was empty
+   */
+  Double takeToken(
+      @Param("key") String key,
+      @Param("capacity") int capacity,
+      @Param("refillSeconds") double refillSeconds);
+
+  /**
+   * Returns how long until the bucket of a key holds a token again.
+   *
+   * @param key identifies the bucket
+   * @param capacity maximum number of tokens the bucket holds
+   * @param refillSeconds seconds in which an empty bucket refills completely
+   * @return seconds until a token is available, or null if the key has no bucket
+   */
+  Double secondsUntilToken(
+      @Param("key") String key,
+      @Param("capacity") int capacity,
+      @Param("refillSeconds") double refillSeconds);
+
+  /**
+   * Deletes every bucket that has refilled completely.
+   *
+   * @return the number of deleted buckets
+   */
+  int deleteFull();
+}
@@ -0,0 +1,177 @@
+package com.sandbox.api.infrastructure.security;
+
+import com.sandbox.api.application.dto.PublicSigningKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Ed25519 key pair, signing with the {@code EdDSA} JWS algorithm (RFC 8037).
+ *
+ * <p>Unlike a shared HMAC secret, only the public key is needed to verify tokens, so it can be
+ * published to other services. Its {@code kid} is the JWK thumbprint of the public key (RFC 7638),
+ * so the same key always has the same ID on every replica without configuring one. A key without
+ * its private half only verifies, which is how tokens signed before a key rotation stay valid.
+ */
+final class Ed25519JwsKey extends JwsKey {
+
+  static final String ALGORITHM = "EdDSA";
+  static final String CURVE = "Ed25519";
+
+  private static final int SIGNATURE_LENGTH = 64;
+  private static final int PUBLIC_KEY_LENGTH = 32;
+
+  private final String keyId;
+  private final byte[] rawPublicKey;
+  private final StripedPool<Signature> signers;
+  private final StripedPool<Signature> verifiers;
+
+  private Ed25519JwsKey(
+      String keyId, byte[] rawPublicKey, PrivateKey privateKey, PublicKey publicKey) {
+    super("{\"alg\":\"" + ALGORITHM + "\",\"kid\":\"" + keyId + "\"}", SIGNATURE_LENGTH);
+    this.keyId = keyId;
+    this.rawPublicKey = rawPublicKey;
+    this.signers = privateKey != null ? new StripedPool<>(() -> signer(privateKey)) : null;
+    this.verifiers = new StripedPool<>(() -> verifier(publicKey));
+    // Fails fast on unusable keys, and leaves the first instances ready for use
+    if (signers != null) {
+      signers.release(signer(privateKey));
+    }
+    verifiers.release(verifier(publicKey));
+  }
+
+  /**
+   * Creates a key that signs and verifies.
+   *
+   * @param privateKey the private key, PKCS#8 DER encoded in Base64
+   * @param publicKey the matching public key, X.509 DER encoded in Base64
+   * @return the key
+   * @throws IllegalArgumentException if a key cannot be decoded or the keys do not match
+   */
+  static Ed25519JwsKey signing(String privateKey, String publicKey) {
+    try {
+      KeyFactory keyFactory = KeyFactory.getInstance(CURVE);
+      PrivateKey decodedPrivateKey =
+          keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decode(privateKey)));
+      PublicKey decodedPublicKey =
+          keyFactory.generatePublic(new X509EncodedKeySpec(decode(publicKey)));
+      Ed25519JwsKey key = of(decodedPrivateKey, decodedPublicKey);
+      byte[] probe = "key-check".getBytes(StandardCharsets.US_ASCII);
+      byte[] signature = new byte[SIGNATURE_LENGTH];
+      key.sign(probe, probe.length, signature);
+      if (!key.verify(probe, probe.length, signature)) {
+        throw new IllegalArgumentException("The EdDSA private and public keys do not match");
+      }
+      return key;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalArgumentException("Invalid EdDSA key", e);
+    }
+  }
+
+  /**
+   * Creates a key that only verifies.
+   *
+   * @param publicKey the public key, X.509 DER encoded in Base64
+   * @return the key
+   * @throws IllegalArgumentException if the key cannot be decoded
+   */
+  static Ed25519JwsKey verifying(String publicKey) {
+    try {
+      return of(
+          null,
+          KeyFactory.getInstance(CURVE).generatePublic(new X509EncodedKeySpec(decode(publicKey))));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalArgumentException("Invalid EdDSA public key", e);
+    }
+  }
+
+  private static Ed25519JwsKey of(PrivateKey privateKey, PublicKey publicKey)
+      throws GeneralSecurityException {
+    // The X.509 encoding of an Ed25519 key ends with the raw key
+    byte[] encoded = publicKey.getEncoded();
+    byte[] raw = Arrays.copyOfRange(encoded, encoded.length - PUBLIC_KEY_LENGTH, encoded.length);
+    String x = base64Url(raw);
+    String thumbprint = "{\"crv\":\"" + CURVE + "\",\"kty\":\"OKP\",\"x\":\"" + x + "\"}";
+    String keyId =
+        base64Url(
+            MessageDigest.getInstance("SHA-256")
+                .digest(thumbprint.getBytes(StandardCharsets.US_ASCII)));
+    return new Ed25519JwsKey(keyId, raw, privateKey, publicKey);
+  }
+
+  /** Returns the {@code kid} of this key. */
+  String keyId() {
+    return keyId;
+  }
+
+  @Override
+  boolean canSign() {
+    return signers != null;
+  }
+
+  @Override
+  void sign(byte[] input, int length, byte[] signature) throws GeneralSecurityException {
+    if (signers == null) {
+      throw new IllegalStateException("EdDSA key " + keyId + " has no private key");
+    }
+    Signature signer = signers.acquire();
+    try {
+      signer.update(input, 0, length);
+      signer.sign(signature, 0, SIGNATURE_LENGTH);
+    } finally {
+      signers.release(signer);
+    }
+  }
+
+  @Override
+  boolean verify(byte[] input, int length, byte[] signature) throws GeneralSecurityException {
+    Signature verifier = verifiers.acquire();
+    try {
+      verifier.update(input, 0, length);
+      return verifier.verify(signature, 0, SIGNATURE_LENGTH);
+    } finally {
+      verifiers.release(verifier);
+    }
+  }
+
+  @Override
+  PublicSigningKey toPublicKey() {
+    return new PublicSigningKey(keyId, ALGORITHM, CURVE, rawPublicKey.clone());
+  }
+
+  private static Signature signer(PrivateKey privateKey) {
+    try {
+      Signature signature = Signature.getInstance(CURVE);
+      signature.initSign(privateKey);
+      return signature;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalArgumentException("Cannot sign with the EdDSA key", e);
+    }
+  }
+
+  private static Signature verifier(PublicKey publicKey) {
+    try {
+      Signature signature = Signature.getInstance(CURVE);
+      signature.initVerify(publicKey);
+      return signature;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalArgumentException("Cannot verify with the EdDSA key", e);
+    }
+  }
+
+  private static byte[] decode(String base64) {
+    return Base64.getMimeDecoder().decode(base64.trim());
+  }
+
+  private static String base64Url(byte[] bytes) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+}
@@ -0,0 +1,109 @@
+package com.sandbox.api.infrastructure.security;
+
+import com.sandbox.api.application.dto.PublicSigningKey;
+import java.security.GeneralSecurityException;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+/**
+ * Shared HMAC-SHA secret, signing with HS256, HS384 or HS512 depending on the key algorithm.
+ *
+ * <p>The header carries no {@code kid}, so tokens are identical to those jjwt builds with the same
+ * key. The signature is compared in constant time.
+ */
+final class HmacJwsKey extends JwsKey {
+
+  private final SecretKey key;
+  private final StripedPool<Hmac> macs;
+
+  /**
+   * Constructs a new HmacJwsKey.
+   *
+   * @param key HMAC-SHA key, such as one built by {@code Keys.hmacShaKeyFor}
+   */
+  HmacJwsKey(SecretKey key) {
+    super("{\"alg\":\"" + algorithm(key) + "\"}", macLength(key));
+    this.key = key;
+    this.macs = new StripedPool<>(this::newHmac);
+    // Fails fast on an unusable key, and leaves the first Mac ready for use
+    macs.release(newHmac());
+  }
+
+  @Override
+  boolean canSign() {
+    return true;
+  }
+
+  @Override
+  void sign(byte[] input, int length, byte[] signature) throws GeneralSecurityException {
+    Hmac hmac = macs.acquire();
+    try {
+      hmac.mac.update(input, 0, length);
+      hmac.mac.doFinal(signature, 0);
+    } finally {
+      macs.release(hmac);
+    }
+  }
+
+  @Override
+  boolean verify(byte[] input, int length, byte[] signature) throws GeneralSecurityException {
+    Hmac hmac = macs.acquire();
+    try {
+      hmac.mac.update(input, 0, length);
+      hmac.mac.doFinal(hmac.expected, 0);
+      int difference = 0;
+      for (int i = 0; i < hmac.expected.length; i++) {
+        difference |= hmac.expected[i] ^ signature[i];
+      }
+      return difference == 0;
+    } finally {
+      macs.release(hmac);
+    }
+  }
+
+  @Override
+  PublicSigningKey toPublicKey() {
+    return null;
+  }
+
+  private Hmac newHmac() {
+    try {
+      Mac mac = Mac.getInstance(key.getAlgorithm());
+      mac.init(key);
+      return new Hmac(mac);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalArgumentException("Cannot use the JWT key with " + key.getAlgorithm(), e);
+    }
+  }
+
+  private static String algorithm(SecretKey key) {
+    return switch (key.getAlgorithm()) {
+      case "HmacSHA256" -> "HS256";
+      case "HmacSHA384" -> "HS384";
+      case "HmacSHA512" -> "HS512";
+      default ->
+          throw new IllegalArgumentException(
+              "Unsupported JWT key algorithm: " + key.getAlgorithm());
+    };
+  }
+
+  private static int macLength(SecretKey key) {
+    return switch (algorithm(key)) {
+      case "HS256" -> 32;
+      case "HS384" -> 48;
+      default -> 64;
+    };
+  }
+
+  /** A Mac with the buffer the expected signature is computed into. */
+  private static final class Hmac {
+
+    final Mac mac;
+    final byte[] expected;
+
+    Hmac(Mac mac) {
+      this.mac = mac;
+      this.expected = new byte[mac.getMacLength()];
+    }
+  }
+}
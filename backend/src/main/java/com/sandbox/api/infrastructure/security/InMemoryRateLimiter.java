@@ -0,0 +1,186 @@
+package com.sandbox.api.infrastructure.security;
+
+import com.sandbox.api.application.service.RateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rate limiter that keeps its token buckets in memory of this instance.
+ *
+ * <p>Buckets are spread over a fixed number of stripes, each an access-ordered map behind its own
+ * lock, so concurrent attempts for different keys rarely wait for each other. Memory is bounded in
+ * two ways:
+ *
+ * <ul>
+ *   <li>Buckets that have refilled completely are removed periodically. A full bucket behaves
+ *       exactly like a missing one, so removing it loses nothing.
+ *   <li>Each stripe holds at most its share of {@code max-buckets}; beyond that the least recently
+ *       used bucket is dropped, which forgets the attempts it had counted.
+ * </ul>
+ *
+ * <p>Limits apply per instance. When several instances run behind a load balancer, use the {@code
+ * postgres} store to share the buckets.
+ *
+ * <p>Published metrics:
+ *
+ * <ul>
+ *   <li>{@code auth.rate-limit.buckets} - buckets currently held
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(
+    name = "security.rate-limit.store",
+    havingValue = "memory",
+    matchIfMissing = true)
+@Slf4j
+public class InMemoryRateLimiter implements RateLimiter {
+
+  /** Number of independently locked stripes; a power of two. */
+  private static final int STRIPES = 32;
+
+  private final Stripe[] stripes = new Stripe[STRIPES];
+  private final LongSupplier nanoTime;
+
+  /**
+   * Constructs a new InMemoryRateLimiter.
+   *
+   * @param maxBuckets most buckets held at once, across all stripes
+   * @param meterRegistry registry the bucket count is published to
+   */
+  @Autowired
+  public InMemoryRateLimiter(
+      @Value("${security.rate-limit.max-buckets:100000}") int maxBuckets,
+      MeterRegistry meterRegistry) {
+    this(maxBuckets, System::nanoTime);
+    Gauge.builder("auth.rate-limit.buckets", this, InMemoryRateLimiter::size)
+        .register(meterRegistry);
+  }
+
+  InMemoryRateLimiter(int maxBuckets, LongSupplier nanoTime) {
+    if (maxBuckets < 1) {
+      throw new IllegalArgumentException("Invalid max-buckets: " + maxBuckets);
+    }
+    int perStripe = Math.max(1, (maxBuckets + STRIPES - 1) / STRIPES);
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new Stripe(perStripe);
+    }
+    this.nanoTime = nanoTime;
+  }
+
+  @Override
+  public Duration tryAcquire(String key, int capacity, Duration refillPeriod) {
+    double nanosPerToken = (double) refillPeriod.toNanos() / capacity;
+    Stripe stripe = stripeFor(key);
+    stripe.lock.lock();
+    try {
+      long now = nanoTime.getAsLong();
+      Bucket bucket = stripe.buckets.get(key);
+      if (bucket == null) {
+        bucket = new Bucket(capacity, now);
+        stripe.buckets.put(key, bucket);
+      }
+      return bucket.tryTake(capacity, nanosPerToken, now);
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+  /** Removes every bucket that has refilled completely. */
+  @Scheduled(fixedDelayString = "${security.rate-limit.purge-interval:PT1M}")
+  public void purgeIdle() {
+    int removed = 0;
+    for (Stripe stripe : stripes) {
+      stripe.lock.lock();
+      try {
+        long now = nanoTime.getAsLong();
+        int before = stripe.buckets.size();
+        stripe.buckets.values().removeIf(bucket -> now - bucket.fullAt >= 0);
+        removed += before - stripe.buckets.size();
+      } finally {
+        stripe.lock.unlock();
+      }
+    }
+    if (removed > 0) {
+      log.debug("Removed {} idle rate limit buckets", removed);
+    }
+  }
+
+  /**
+   * Returns the number of buckets currently held.
+   *
+   * @return the bucket count
+   */
+  int size() {
+    int size = 0;
+    for (Stripe stripe : stripes) {
+      stripe.lock.lock();
+      try {
+        size += stripe.buckets.size();
+      } finally {
+        stripe.lock.unlock();
+      }
+    }
+    return size;
+  }
+
+  private Stripe stripeFor(String key) {
+    int hash = key.hashCode();
+    return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+  }
+
+  /** One lock and the buckets it guards, least recently used first. */
+  private static final class Stripe {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Bucket> buckets;
+
+    private Stripe(int maxBuckets) {
+      this.buckets =
+          new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+              return size() > maxBuckets;
+            }
+          };
+    }
+  }
+
+  /** Token count of one key, refilled lazily whenever it is touched. Guarded by its stripe. */
+  private static final class Bucket {
+
+    private double tokens;
+    private long refilledAt;
+    private long fullAt;
+
+    private Bucket(int capacity, long now) {
+      this.tokens = capacity;
+      this.refilledAt = now;
+      this.fullAt = now;
+    }
+
+    private Duration tryTake(int capacity, double nanosPerToken, long now) {
+      tokens = Math.min(capacity, tokens + (now - refilledAt) / nanosPerToken);
+      refilledAt = now;
+      Duration wait;
+      if (tokens >= 1) {
+        tokens -= 1;
+        wait = Duration.ZERO;
+      } else {
+        wait = Duration.ofNanos((long) Math.ceil((1 - tokens) * nanosPerToken));
+      }
+      fullAt = now + (long) Math.ceil((capacity - tokens) * nanosPerToken);
+      return wait;
+    }
+  }
+}
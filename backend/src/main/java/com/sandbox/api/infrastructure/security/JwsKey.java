@@ -0,0 +1,74 @@
+package com.sandbox.api.infrastructure.security;
+
+import com.sandbox.api.application.dto.PublicSigningKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/**
+ * A key {@link JwtCodec} signs or verifies tokens with.
+ *
+ * <p>Each key writes one exact JWS header, which also identifies it: a token is verified with the
+ * key whose header it starts with, so neither the algorithm nor the key can be chosen by the token.
+ */
+abstract class JwsKey {
+
+  private final String encodedHeader;
+  private final int signatureLength;
+
+  /**
+   * Constructs a new JwsKey.
+   *
+   * @param header the JWS header written into tokens, as JSON
+   * @param signatureLength length of each signature, in bytes
+   */
+  JwsKey(String header, int signatureLength) {
+    this.encodedHeader =
+        Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(header.getBytes(StandardCharsets.UTF_8));
+    this.signatureLength = signatureLength;
+  }
+
+  /** Returns the JWS header written into tokens, Base64URL-encoded. */
+  final String encodedHeader() {
+    return encodedHeader;
+  }
+
+  /** Returns the length of each signature, in bytes. */
+  final int signatureLength() {
+    return signatureLength;
+  }
+
+  /** Returns whether this key can sign tokens, or only verify them. */
+  abstract boolean canSign();
+
+  /**
+   * Signs the input, writing {@link #signatureLength()} bytes.
+   *
+   * @param input the signing input
+   * @param length length of the signing input
+   * @param signature buffer the signature is written to
+   * @throws GeneralSecurityException if signing fails
+   */
+  abstract void sign(byte[] input, int length, byte[] signature) throws GeneralSecurityException;
+
+  /**
+   * Verifies the first {@link #signatureLength()} bytes of {@code signature} over the input.
+   *
+   * @param input the signing input
+   * @param length length of the signing input
+   * @param signature the signature the token carries
+   * @return true if the signature is valid
+   * @throws GeneralSecurityException if verification cannot be performed
+   */
+  abstract boolean verify(byte[] input, int length, byte[] signature)
+      throws GeneralSecurityException;
+
+  /**
+   * Returns the key as it may be published to other services.
+   *
+   * @return the public key, or null for a shared secret
+   */
+  abstract PublicSigningKey toPublicKey();
+}
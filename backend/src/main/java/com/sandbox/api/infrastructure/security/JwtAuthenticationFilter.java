@@ -1,11 +1,13 @@
 package com.sandbox.api.infrastructure.security;
 
+import com.sandbox.api.application.dto.TokenClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,10 +26,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
   private static final String AUTHORIZATION_HEADER = "Authorization";
   private static final String BEARER_PREFIX = "Bearer ";
 
-  private final JwtTokenProvider jwtTokenProvider;
+  private final VerifiedTokenCache verifiedTokenCache;
 
-  public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
-    this.jwtTokenProvider = jwtTokenProvider;
+  public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache) {
+    this.verifiedTokenCache = verifiedTokenCache;
   }
 
   @Override
@@ -37,10 +39,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     try {
       String jwt = extractJwtFromRequest(request);
+      // Verified once per token lifetime; later requests with the same token hit the cache
+      Optional<TokenClaims> claims =
+          jwt != null ? verifiedTokenCache.verifyToken(jwt) : Optional.empty();
 
-      if (jwt != null && jwtTokenProvider.validateToken(jwt)) {
-        String username = jwtTokenProvider.getUsernameFromToken(jwt);
-        String role = jwtTokenProvider.getRoleFromToken(jwt);
+      if (claims.isPresent()) {
+        String username = claims.get().getSubject();
+        String role = claims.get().getRole();
 
         // Create authentication object with role as authority
         SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role);
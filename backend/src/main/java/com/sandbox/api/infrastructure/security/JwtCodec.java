@@ -0,0 +1,665 @@
+package com.sandbox.api.infrastructure.security;
+
+import com.sandbox.api.application.dto.TokenClaims;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Encoder and verifier of the JWTs this service issues.
+ *
+ * <p>Tokens carry a fixed claim set ({@code sub}, {@code role}, {@code iss}, {@code iat}, {@code
+ * exp}) and are byte-for-byte identical to those built by jjwt with the same key: claims are
+ * written in that order, and strings are escaped as jjwt's Jackson serializer escapes them. Tokens
+ * are signed with one {@link JwsKey}; they are verified with that key or with any of the keys
+ * signing used before a rotation.
+ *
+ * <p>Verification rejects a token as cheaply as possible before any cryptography: its length, its
+ * header (which must be exactly one a known key writes, so neither {@code alg} nor {@code kid} can
+ * be substituted), its signature length and its Base64URL alphabet are checked first. Base64URL is
+ * decoded straight from the token characters into reusable buffers, and the claims are parsed from
+ * the decoded bytes without building a map. Failures are reported by return value, not exception,
+ * and logged at DEBUG, since any client can send an invalid token.
+ *
+ * <p>Buffers are reused through a {@link StripedPool} rather than a thread-local, so that requests
+ * on virtual threads, which are never reused, do not allocate them each time. Apart from the
+ * returned claims, verifying an HMAC-signed token allocates nothing.
+ */
+final class JwtCodec {
+
+  private static final Logger logger = LoggerFactory.getLogger(JwtCodec.class);
+
+  /** Longest token accepted; ours are a few hundred characters. */
+  static final int MAX_TOKEN_LENGTH = 8192;
+
+  private static final char[] BASE64URL =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+  private static final byte[] BASE64URL_VALUES = new byte[128];
+  private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+  /** Control characters with a two-character escape, by character; zero for the others. */
+  private static final byte[] SHORT_ESCAPES = new byte[0x20];
+
+  private static final byte[] SUB = ascii("sub");
+  private static final byte[] ROLE = ascii("role");
+  private static final byte[] ISS = ascii("iss");
+  private static final byte[] IAT = ascii("iat");
+  private static final byte[] EXP = ascii("exp");
+  private static final byte[] NBF = ascii("nbf");
+
+  /** Returned by the parsing helpers for input that is not a supported JSON value. */
+  private static final String INVALID_STRING = new String("invalid");
+
+  private static final long INVALID_NUMBER = Long.MIN_VALUE;
+
+  static {
+    Arrays.fill(BASE64URL_VALUES, (byte) -1);
+    for (int i = 0; i < BASE64URL.length; i++) {
+      BASE64URL_VALUES[BASE64URL[i]] = (byte) i;
+    }
+    SHORT_ESCAPES['\b'] = 'b';
+    SHORT_ESCAPES['\f'] = 'f';
+    SHORT_ESCAPES['\n'] = 'n';
+    SHORT_ESCAPES['\r'] = 'r';
+    SHORT_ESCAPES['\t'] = 't';
+  }
+
+  private final JwsKey signingKey;
+  private final JwsKey[] keys;
+  private final String[] knownValues;
+  private final byte[][] knownValueBytes;
+  private final StripedPool<Scratch> scratches;
+
+  /**
+   * Constructs a new JwtCodec.
+   *
+   * @param signingKey the key tokens are signed with, and verified with first
+   * @param verificationKeys further keys that only verify, such as those of a previous rotation
+   * @param knownValues claim values, such as the issuer and role names, that are returned as these
+   *     same instances instead of being decoded into new strings
+   * @throws IllegalArgumentException if the signing key cannot sign, or two keys write the same
+   *     header
+   */
+  JwtCodec(JwsKey signingKey, List<JwsKey> verificationKeys, String... knownValues) {
+    if (!signingKey.canSign()) {
+      throw new IllegalArgumentException("The JWT signing key has no private key");
+    }
+    List<JwsKey> allKeys = new ArrayList<>();
+    allKeys.add(signingKey);
+    allKeys.addAll(verificationKeys);
+    Set<String> headers = new HashSet<>();
+    int maxSignatureLength = 0;
+    for (JwsKey key : allKeys) {
+      if (!headers.add(key.encodedHeader())) {
+        throw new IllegalArgumentException("Two JWT keys have the same algorithm and key ID");
+      }
+      maxSignatureLength = Math.max(maxSignatureLength, key.signatureLength());
+    }
+    this.signingKey = signingKey;
+    this.keys = allKeys.toArray(JwsKey[]::new);
+    this.knownValues = knownValues.clone();
+    this.knownValueBytes = new byte[knownValues.length][];
+    for (int i = 0; i < knownValues.length; i++) {
+      knownValueBytes[i] = knownValues[i].getBytes(StandardCharsets.UTF_8);
+    }
+    int signatureBufferLength = maxSignatureLength;
+    this.scratches = new StripedPool<>(() -> new Scratch(signatureBufferLength));
+  }
+
+  /**
+   * Builds and signs a token.
+   *
+   * @param subject the username, or null to omit {@code sub}
+   * @param role the user role, or null to omit {@code role}
+   * @param issuer the issuer
+   * @param issuedAt {@code iat}, in seconds since the epoch
+   * @param expiresAt {@code exp}, in seconds since the epoch
+   * @return the compact serialized token
+   */
+  String encode(String subject, String role, String issuer, long issuedAt, long expiresAt) {
+    Scratch scratch = scratches.acquire();
+    try {
+      int maxPayload = 96 + 6 * (length(subject) + length(role) + issuer.length());
+      byte[] payload = scratch.payload(maxPayload);
+      int n = 0;
+      payload[n++] = '{';
+      if (subject != null) {
+        n = writeName(payload, n, SUB);
+        n = writeString(payload, n, subject);
+        payload[n++] = ',';
+      }
+      if (role != null) {
+        n = writeName(payload, n, ROLE);
+        n = writeString(payload, n, role);
+        payload[n++] = ',';
+      }
+      n = writeName(payload, n, ISS);
+      n = writeString(payload, n, issuer);
+      payload[n++] = ',';
+      n = writeName(payload, n, IAT);
+      n = writeLong(payload, n, issuedAt);
+      payload[n++] = ',';
+      n = writeName(payload, n, EXP);
+      n = writeLong(payload, n, expiresAt);
+      payload[n++] = '}';
+
+      String encodedHeader = signingKey.encodedHeader();
+      int signatureLength = signingKey.signatureLength();
+      byte[] token =
+          scratch.input(
+              encodedHeader.length() + 2 + (n * 4 + 2) / 3 + base64Length(signatureLength));
+      int length = writeAscii(token, 0, encodedHeader);
+      token[length++] = '.';
+      length = encodeBase64(payload, n, token, length);
+      signingKey.sign(token, length, scratch.signature);
+      token[length++] = '.';
+      length = encodeBase64(scratch.signature, signatureLength, token, length);
+      return new String(token, 0, length, StandardCharsets.ISO_8859_1);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Cannot sign JWT", e);
+    } finally {
+      scratches.release(scratch);
+    }
+  }
+
+  /**
+   * Verifies a token's signature, expiry and not-before time and returns its claims.
+   *
+   * @param token the compact serialized token
+   * @param nowMillis the current time, in milliseconds since the epoch
+   * @return the claims, or null if the token is invalid
+   */
+  TokenClaims verify(String token, long nowMillis) {
+    if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+      return reject("missing or too long");
+    }
+    JwsKey key = findKey(token);
+    if (key == null) {
+      return reject("unknown header or key");
+    }
+    int headerEnd = key.encodedHeader().length();
+    int signatureLength = key.signatureLength();
+    int signatureStart = token.lastIndexOf('.') + 1;
+    if (signatureStart - 1 == headerEnd
+        || token.length() - signatureStart != base64Length(signatureLength)) {
+      return reject("missing payload or signature of the wrong length");
+    }
+
+    Scratch scratch = scratches.acquire();
+    try {
+      int payloadStart = headerEnd + 1;
+      int payloadEnd = signatureStart - 1;
+      byte[] payload = scratch.payload((payloadEnd - payloadStart) / 4 * 3 + 3);
+      int payloadLength = decodeBase64(token, payloadStart, payloadEnd, payload);
+      if (payloadLength < 0
+          || decodeBase64(token, signatureStart, token.length(), scratch.signature)
+              != signatureLength) {
+        return reject("not Base64URL");
+      }
+
+      // Every character before the signature is now known to be ASCII
+      byte[] input = scratch.input(payloadEnd);
+      for (int i = 0; i < payloadEnd; i++) {
+        input[i] = (byte) token.charAt(i);
+      }
+      if (!key.verify(input, payloadEnd, scratch.signature)) {
+        return reject("invalid signature");
+      }
+      return parseClaims(scratch, payloadLength, nowMillis);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Cannot verify JWT", e);
+    } finally {
+      scratches.release(scratch);
+    }
+  }
+
+  /** Returns the key whose header the token starts with, or null if there is none. */
+  private JwsKey findKey(String token) {
+    for (JwsKey key : keys) {
+      String header = key.encodedHeader();
+      if (token.startsWith(header)
+          && token.length() > header.length()
+          && token.charAt(header.length()) == '.') {
+        return key;
+      }
+    }
+    return null;
+  }
+
+  private TokenClaims parseClaims(Scratch scratch, int length, long nowMillis) {
+    byte[] json = scratch.payload;
+    String subject = null;
+    String role = null;
+    String issuer = null;
+    long expiresAt = INVALID_NUMBER;
+    long notBefore = INVALID_NUMBER;
+
+    int pos = skipWhitespace(json, 0, length);
+    if (pos >= length || json[pos++] != '{') {
+      return reject("claims are not a JSON object");
+    }
+    pos = skipWhitespace(json, pos, length);
+    if (pos < length && json[pos] == '}') {
+      pos++;
+    } else {
+      while (true) {
+        if (pos >= length || json[pos++] != '"') {
+          return reject("malformed claims");
+        }
+        int nameStart = pos;
+        while (pos < length && json[pos] != '"' && json[pos] != '\\') {
+          pos++;
+        }
+        if (pos >= length || json[pos] != '"') {
+          return reject("unsupported claim name");
+        }
+        int nameEnd = pos++;
+        pos = skipWhitespace(json, pos, length);
+        if (pos >= length || json[pos++] != ':') {
+          return reject("malformed claims");
+        }
+        pos = skipWhitespace(json, pos, length);
+        if (pos >= length) {
+          return reject("malformed claims");
+        }
+
+        if (isName(json, nameStart, nameEnd, SUB)) {
+          subject = parseString(scratch, json, pos, length);
+        } else if (isName(json, nameStart, nameEnd, ROLE)) {
+          role = parseString(scratch, json, pos, length);
+        } else if (isName(json, nameStart, nameEnd, ISS)) {
+          issuer = parseString(scratch, json, pos, length);
+        } else if (isName(json, nameStart, nameEnd, EXP)) {
+          expiresAt = parseNumber(scratch, json, pos, length);
+        } else if (isName(json, nameStart, nameEnd, NBF)) {
+          notBefore = parseNumber(scratch, json, pos, length);
+        } else {
+          skipValue(scratch, json, pos, length);
+        }
+        if (scratch.end < 0
+            || subject == INVALID_STRING
+            || role == INVALID_STRING
+            || issuer == INVALID_STRING) {
+          return reject("unsupported claim value");
+        }
+        pos = skipWhitespace(json, scratch.end, length);
+        if (pos < length && json[pos] == ',') {
+          pos = skipWhitespace(json, pos + 1, length);
+        } else if (pos < length && json[pos] == '}') {
+          pos++;
+          break;
+        } else {
+          return reject("malformed claims");
+        }
+      }
+    }
+    if (skipWhitespace(json, pos, length) != length) {
+      return reject("trailing data after claims");
+    }
+
+    // Same rules as jjwt without clock skew: expired once now is after exp, premature before nbf
+    if (expiresAt != INVALID_NUMBER && nowMillis > expiresAt * 1000) {
+      return reject("expired");
+    }
+    if (notBefore != INVALID_NUMBER && nowMillis < notBefore * 1000) {
+      return reject("not yet valid");
+    }
+    return new TokenClaims(
+        subject,
+        role,
+        expiresAt != INVALID_NUMBER ? Instant.ofEpochSecond(expiresAt) : null,
+        issuer);
+  }
+
+  /**
+   * Parses a JSON string or null starting at {@code pos} and stores the position after it in {@code
+   * scratch.end}, or -1 if the value is not a string.
+   */
+  private String parseString(Scratch scratch, byte[] json, int pos, int length) {
+    if (json[pos] == 'n') {
+      scratch.end = matchLiteral(json, pos, length, "null");
+      return null;
+    }
+    if (json[pos] != '"') {
+      scratch.end = -1;
+      return INVALID_STRING;
+    }
+    int start = ++pos;
+    while (pos < length && json[pos] != '"' && json[pos] != '\\') {
+      if ((json[pos] & 0xff) < 0x20) {
+        scratch.end = -1;
+        return INVALID_STRING;
+      }
+      pos++;
+    }
+    if (pos >= length) {
+      scratch.end = -1;
+      return INVALID_STRING;
+    }
+    if (json[pos] == '"') {
+      scratch.end = pos + 1;
+      for (int i = 0; i < knownValueBytes.length; i++) {
+        byte[] known = knownValueBytes[i];
+        if (Arrays.equals(json, start, pos, known, 0, known.length)) {
+          return knownValues[i];
+        }
+      }
+      return new String(json, start, pos - start, StandardCharsets.UTF_8);
+    }
+    return parseEscapedString(scratch, json, start, length);
+  }
+
+  private static String parseEscapedString(Scratch scratch, byte[] json, int start, int length) {
+    StringBuilder builder = new StringBuilder();
+    int runStart = start;
+    int pos = start;
+    while (pos < length) {
+      byte b = json[pos];
+      if (b == '"') {
+        builder.append(new String(json, runStart, pos - runStart, StandardCharsets.UTF_8));
+        scratch.end = pos + 1;
+        return builder.toString();
+      }
+      if ((b & 0xff) < 0x20) {
+        break;
+      }
+      if (b != '\\') {
+        pos++;
+        continue;
+      }
+      builder.append(new String(json, runStart, pos - runStart, StandardCharsets.UTF_8));
+      if (pos + 1 >= length) {
+        break;
+      }
+      int escaped =
+          switch (json[pos + 1]) {
+            case '"' -> '"';
+            case '\\' -> '\\';
+            case '/' -> '/';
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> parseHexChar(json, pos + 2, length);
+            default -> -1;
+          };
+      if (escaped < 0) {
+        break;
+      }
+      builder.append((char) escaped);
+      pos += json[pos + 1] == 'u' ? 6 : 2;
+      runStart = pos;
+    }
+    scratch.end = -1;
+    return INVALID_STRING;
+  }
+
+  /**
+   * Parses an integer JSON number, the only kind used by the time claims. At most 15 digits are
+   * accepted, so that seconds can be converted to milliseconds without overflow.
+   */
+  private static long parseNumber(Scratch scratch, byte[] json, int pos, int length) {
+    boolean negative = json[pos] == '-';
+    if (negative) {
+      pos++;
+    }
+    int start = pos;
+    long value = 0;
+    while (pos < length && json[pos] >= '0' && json[pos] <= '9' && pos - start < 15) {
+      value = value * 10 + (json[pos++] - '0');
+    }
+    if (pos == start
+        || (pos < length && (json[pos] == '.' || json[pos] == 'e' || json[pos] == 'E'))
+        || (pos < length && json[pos] >= '0' && json[pos] <= '9')) {
+      scratch.end = -1;
+      return INVALID_NUMBER;
+    }
+    scratch.end = pos;
+    return negative ? -value : value;
+  }
+
+  /** Skips a string, number or literal of a claim this codec does not read. */
+  private void skipValue(Scratch scratch, byte[] json, int pos, int length) {
+    switch (json[pos]) {
+      case '"' -> parseString(scratch, json, pos, length);
+      case 't' -> scratch.end = matchLiteral(json, pos, length, "true");
+      case 'f' -> scratch.end = matchLiteral(json, pos, length, "false");
+      case 'n' -> scratch.end = matchLiteral(json, pos, length, "null");
+      default -> parseNumber(scratch, json, pos, length);
+    }
+  }
+
+  private static int matchLiteral(byte[] json, int pos, int length, String literal) {
+    if (length - pos < literal.length()) {
+      return -1;
+    }
+    for (int i = 0; i < literal.length(); i++) {
+      if (json[pos + i] != literal.charAt(i)) {
+        return -1;
+      }
+    }
+    return pos + literal.length();
+  }
+
+  /** Parses the four hex digits of a {@code \\u} escape, or returns -1. */
+  private static int parseHexChar(byte[] json, int pos, int length) {
+    if (length - pos < 4) {
+      return -1;
+    }
+    int value = 0;
+    for (int i = pos; i < pos + 4; i++) {
+      int digit = Character.digit(json[i], 16);
+      if (digit < 0) {
+        return -1;
+      }
+      value = value << 4 | digit;
+    }
+    return value;
+  }
+
+  private static boolean isName(byte[] json, int start, int end, byte[] name) {
+    return Arrays.equals(json, start, end, name, 0, name.length);
+  }
+
+  private static int skipWhitespace(byte[] json, int pos, int length) {
+    while (pos < length
+        && (json[pos] == ' ' || json[pos] == '\t' || json[pos] == '\n' || json[pos] == '\r')) {
+      pos++;
+    }
+    return pos;
+  }
+
+  /** Returns the length of {@code bytes} bytes encoded as unpadded Base64URL. */
+  private static int base64Length(int bytes) {
+    return (bytes * 4 + 2) / 3;
+  }
+
+  /**
+   * Decodes unpadded Base64URL from {@code src[from, to)} into {@code dst}.
+   *
+   * @return the number of bytes decoded, or -1 if the input is not canonical unpadded Base64URL or
+   *     does not fit
+   */
+  private static int decodeBase64(String src, int from, int to, byte[] dst) {
+    int remainder = (to - from) % 4;
+    if (remainder == 1 || (to - from) / 4 * 3 + Math.max(0, remainder - 1) > dst.length) {
+      return -1;
+    }
+    int n = 0;
+    int pos = from;
+    for (int fullEnd = to - remainder; pos < fullEnd; pos += 4) {
+      int a = sextet(src.charAt(pos));
+      int b = sextet(src.charAt(pos + 1));
+      int c = sextet(src.charAt(pos + 2));
+      int d = sextet(src.charAt(pos + 3));
+      if ((a | b | c | d) < 0) {
+        return -1;
+      }
+      int bits = a << 18 | b << 12 | c << 6 | d;
+      dst[n++] = (byte) (bits >> 16);
+      dst[n++] = (byte) (bits >> 8);
+      dst[n++] = (byte) bits;
+    }
+    if (remainder == 2) {
+      int a = sextet(src.charAt(pos));
+      int b = sextet(src.charAt(pos + 1));
+      if ((a | b) < 0 || (b & 0x0f) != 0) {
+        return -1;
+      }
+      dst[n++] = (byte) (a << 2 | b >> 4);
+    } else if (remainder == 3) {
+      int a = sextet(src.charAt(pos));
+      int b = sextet(src.charAt(pos + 1));
+      int c = sextet(src.charAt(pos + 2));
+      if ((a | b | c) < 0 || (c & 0x03) != 0) {
+        return -1;
+      }
+      dst[n++] = (byte) (a << 2 | b >> 4);
+      dst[n++] = (byte) (b << 4 | c >> 2);
+    }
+    return n;
+  }
+
+  private static int sextet(char c) {
+    return c < 128 ? BASE64URL_VALUES[c] : -1;
+  }
+
+  /** Encodes {@code src[0, length)} as unpadded Base64URL into {@code dst} at {@code pos}. */
+  private static int encodeBase64(byte[] src, int length, byte[] dst, int pos) {
+    int i = 0;
+    for (int fullEnd = length - length % 3; i < fullEnd; i += 3) {
+      int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+      dst[pos++] = (byte) BASE64URL[bits >>> 18];
+      dst[pos++] = (byte) BASE64URL[bits >>> 12 & 0x3f];
+      dst[pos++] = (byte) BASE64URL[bits >>> 6 & 0x3f];
+      dst[pos++] = (byte) BASE64URL[bits & 0x3f];
+    }
+    if (length - i == 1) {
+      int bits = (src[i] & 0xff) << 16;
+      dst[pos++] = (byte) BASE64URL[bits >>> 18];
+      dst[pos++] = (byte) BASE64URL[bits >>> 12 & 0x3f];
+    } else if (length - i == 2) {
+      int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8;
+      dst[pos++] = (byte) BASE64URL[bits >>> 18];
+      dst[pos++] = (byte) BASE64URL[bits >>> 12 & 0x3f];
+      dst[pos++] = (byte) BASE64URL[bits >>> 6 & 0x3f];
+    }
+    return pos;
+  }
+
+  private static int writeName(byte[] dst, int pos, byte[] name) {
+    dst[pos++] = '"';
+    System.arraycopy(name, 0, dst, pos, name.length);
+    pos += name.length;
+    dst[pos++] = '"';
+    dst[pos++] = ':';
+    return pos;
+  }
+
+  /** Writes a JSON string as UTF-8, escaping it the way Jackson does. */
+  private static int writeString(byte[] dst, int pos, String value) {
+    dst[pos++] = '"';
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        dst[pos++] = '\\';
+        dst[pos++] = (byte) c;
+      } else if (c < 0x20 && SHORT_ESCAPES[c] != 0) {
+        dst[pos++] = '\\';
+        dst[pos++] = SHORT_ESCAPES[c];
+      } else if (c < 0x20 || Character.isSurrogate(c)) {
+        // Characters outside the BMP are written as escaped surrogate pairs, as jjwt writes them
+        dst[pos++] = '\\';
+        dst[pos++] = 'u';
+        dst[pos++] = (byte) HEX[c >> 12];
+        dst[pos++] = (byte) HEX[c >> 8 & 0xf];
+        dst[pos++] = (byte) HEX[c >> 4 & 0xf];
+        dst[pos++] = (byte) HEX[c & 0xf];
+      } else if (c < 0x80) {
+        dst[pos++] = (byte) c;
+      } else if (c < 0x800) {
+        dst[pos++] = (byte) (0xc0 | c >> 6);
+        dst[pos++] = (byte) (0x80 | c & 0x3f);
+      } else {
+        dst[pos++] = (byte) (0xe0 | c >> 12);
+        dst[pos++] = (byte) (0x80 | c >> 6 & 0x3f);
+        dst[pos++] = (byte) (0x80 | c & 0x3f);
+      }
+    }
+    dst[pos++] = '"';
+    return pos;
+  }
+
+  private static int writeLong(byte[] dst, int pos, long value) {
+    if (value < 0) {
+      dst[pos++] = '-';
+      value = -value;
+    }
+    int digits = 1;
+    for (long rest = value / 10; rest > 0; rest /= 10) {
+      digits++;
+    }
+    for (int i = pos + digits - 1; i >= pos; i--) {
+      dst[i] = (byte) ('0' + value % 10);
+      value /= 10;
+    }
+    return pos + digits;
+  }
+
+  private static int writeAscii(byte[] dst, int pos, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      dst[pos++] = (byte) value.charAt(i);
+    }
+    return pos;
+  }
+
+  private static int length(String value) {
+    return value != null ? value.length() : 0;
+  }
+
+  private static byte[] ascii(String value) {
+    return value.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  private static TokenClaims reject(String reason) {
+    logger.debug("Rejected JWT: {}", reason);
+    return null;
+  }
+
+  /** The buffers one encoding or verification needs. */
+  private static final class Scratch {
+
+    final byte[] signature;
+    byte[] input = new byte[512];
+    byte[] payload = new byte[512];
+
+    /** Position after the value last parsed, or -1 if it was invalid. */
+    int end;
+
+    Scratch(int signatureLength) {
+      signature = new byte[signatureLength];
+    }
+
+    byte[] input(int capacity) {
+      if (input.length < capacity) {
+        input = new byte[capacity];
+      }
+      return input;
+    }
+
+    byte[] payload(int capacity) {
+      if (payload.length < capacity) {
+        payload = new byte[capacity];
+      }
+      return payload;
+    }
+  }
+}
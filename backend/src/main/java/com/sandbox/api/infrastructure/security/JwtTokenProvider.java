@@ -1,44 +1,132 @@
 package com.sandbox.api.infrastructure.security;
 
+import com.sandbox.api.application.dto.PublicSigningKey;
+import com.sandbox.api.application.dto.TokenClaims;
 import com.sandbox.api.application.service.TokenProvider;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.UnsupportedJwtException;
+import com.sandbox.api.domain.model.Role;
 import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
 import java.nio.charset.StandardCharsets;
-import java.time.Instant;
-import java.util.Date;
-import javax.crypto.SecretKey;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-/** JWT token provider for generating and validating JWT tokens */
+/**
+ * JWT token provider for generating and validating JWT tokens
+ *
+ * <p>Tokens are encoded and verified by {@link JwtCodec}, which is specialized for the claims
+ * issued here and is wire-compatible with jjwt. With {@code security.jwt.algorithm: hmac}, the
+ * default, tokens are signed with the shared secret key; jjwt still derives the key, so the signing
+ * algorithm (HS256, HS384 or HS512) follows the secret key length exactly as before.
+ *
+ * <p>With {@code eddsa}, tokens are signed with an Ed25519 private key and carry its {@code kid},
+ * and the public keys are published through {@link #getPublicKeys()} so that other services can
+ * verify tokens themselves. The public keys of previous rotations keep verifying the tokens they
+ * signed until those expire.
+ */
+@Slf4j
 @Component
 public class JwtTokenProvider implements TokenProvider {
 
-  private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
-
-  private final SecretKey secretKey;
+  private final JwtCodec codec;
+  private final List<PublicSigningKey> publicKeys;
+  private final Clock clock;
   private final long accessTokenExpiration;
   private final long refreshTokenExpiration;
   private final String issuer;
 
+  @Autowired
   public JwtTokenProvider(
       @Value("${security.jwt.secret-key}") String secretKeyString,
       @Value("${security.jwt.access-token-expiration}") long accessTokenExpiration,
       @Value("${security.jwt.refresh-token-expiration}") long refreshTokenExpiration,
-      @Value("${security.jwt.issuer}") String issuer) {
-    this.secretKey = Keys.hmacShaKeyFor(secretKeyString.getBytes(StandardCharsets.UTF_8));
+      @Value("${security.jwt.issuer}") String issuer,
+      @Value("${security.jwt.algorithm:hmac}") String algorithm,
+      @Value("${security.jwt.eddsa.private-key:}") String eddsaPrivateKey,
+      @Value("${security.jwt.eddsa.public-key:}") String eddsaPublicKey,
+      @Value("${security.jwt.eddsa.previous-public-keys:}") String eddsaPreviousPublicKeys) {
+    this(
+        signingKey(algorithm, secretKeyString, eddsaPrivateKey, eddsaPublicKey),
+        "eddsa".equals(algorithm) ? previousKeys(eddsaPreviousPublicKeys) : List.of(),
+        accessTokenExpiration,
+        refreshTokenExpiration,
+        issuer);
+  }
+
+  /** Constructs a provider signing with the shared secret key, as by default. */
+  JwtTokenProvider(
+      String secretKeyString,
+      long accessTokenExpiration,
+      long refreshTokenExpiration,
+      String issuer) {
+    this(
+        hmacKey(secretKeyString), List.of(), accessTokenExpiration, refreshTokenExpiration, issuer);
+  }
+
+  JwtTokenProvider(
+      JwsKey signingKey,
+      List<JwsKey> previousKeys,
+      long accessTokenExpiration,
+      long refreshTokenExpiration,
+      String issuer) {
+    // The issuer and role names are returned as shared instances instead of new strings
+    this.codec =
+        new JwtCodec(
+            signingKey,
+            previousKeys,
+            Stream.concat(Stream.of(issuer), Arrays.stream(Role.values()).map(Role::name))
+                .toArray(String[]::new));
+    this.publicKeys =
+        Stream.concat(Stream.of(signingKey), previousKeys.stream())
+            .map(JwsKey::toPublicKey)
+            .filter(Objects::nonNull)
+            .toList();
+    this.clock = Clock.systemUTC();
     this.accessTokenExpiration = accessTokenExpiration;
     this.refreshTokenExpiration = refreshTokenExpiration;
     this.issuer = issuer;
   }
 
+  private static JwsKey signingKey(
+      String algorithm, String secretKeyString, String privateKey, String publicKey) {
+    return switch (algorithm) {
+      case "hmac" -> hmacKey(secretKeyString);
+      case "eddsa" -> {
+        // A generated key would be rejected by other replicas and lost on restart
+        if (privateKey.isBlank()) {
+          throw new IllegalArgumentException(
+              "security.jwt.eddsa.private-key is required with security.jwt.algorithm: eddsa");
+        }
+        if (publicKey.isBlank()) {
+          throw new IllegalArgumentException(
+              "security.jwt.eddsa.public-key is required with security.jwt.eddsa.private-key");
+        }
+        Ed25519JwsKey key = Ed25519JwsKey.signing(privateKey, publicKey);
+        log.info("Signing JWTs with EdDSA key {}", key.keyId());
+        yield key;
+      }
+      default ->
+          throw new IllegalArgumentException("Unsupported security.jwt.algorithm: " + algorithm);
+    };
+  }
+
+  private static JwsKey hmacKey(String secretKeyString) {
+    return new HmacJwsKey(Keys.hmacShaKeyFor(secretKeyString.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static List<JwsKey> previousKeys(String publicKeys) {
+    return Arrays.stream(publicKeys.split(","))
+        .filter(key -> !key.isBlank())
+        .<JwsKey>map(Ed25519JwsKey::verifying)
+        .toList();
+  }
+
   /**
    * Generate an access token for the given username and role
    *
@@ -48,17 +136,8 @@ public class JwtTokenProvider implements TokenProvider {
    */
   @Override
   public String generateAccessToken(String username, String role) {
-    Instant now = Instant.now();
-    Instant expiration = now.plusMillis(accessTokenExpiration);
-
-    return Jwts.builder()
-        .subject(username)
-        .claim("role", role)
-        .issuer(issuer)
-        .issuedAt(Date.from(now))
-        .expiration(Date.from(expiration))
-        .signWith(secretKey)
-        .compact();
+    long now = clock.millis();
+    return codec.encode(username, role, issuer, now / 1000, (now + accessTokenExpiration) / 1000);
   }
 
   /**
@@ -69,66 +148,28 @@ public class JwtTokenProvider implements TokenProvider {
    */
   @Override
   public String generateRefreshToken(String username) {
-    Instant now = Instant.now();
-    Instant expiration = now.plusMillis(refreshTokenExpiration);
-
-    return Jwts.builder()
-        .subject(username)
-        .issuer(issuer)
-        .issuedAt(Date.from(now))
-        .expiration(Date.from(expiration))
-        .signWith(secretKey)
-        .compact();
-  }
-
-  /**
-   * Validate the given JWT token
-   *
-   * @param token JWT token
-   * @return true if valid, false otherwise
-   */
-  @Override
-  public boolean validateToken(String token) {
-    try {
-      Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-      return true;
-    } catch (SignatureException e) {
-      logger.error("Invalid JWT signature: {}", e.getMessage());
-    } catch (MalformedJwtException e) {
-      logger.error("Invalid JWT token: {}", e.getMessage());
-    } catch (ExpiredJwtException e) {
-      logger.error("JWT token is expired: {}", e.getMessage());
-    } catch (UnsupportedJwtException e) {
-      logger.error("JWT token is unsupported: {}", e.getMessage());
-    } catch (IllegalArgumentException e) {
-      logger.error("JWT claims string is empty: {}", e.getMessage());
-    }
-    return false;
+    long now = clock.millis();
+    return codec.encode(username, null, issuer, now / 1000, (now + refreshTokenExpiration) / 1000);
   }
 
   /**
-   * Get username from JWT token
+   * Verify the given JWT token once and return its claims
    *
    * @param token JWT token
-   * @return username
+   * @return verified claims, or empty if the token is invalid
    */
   @Override
-  public String getUsernameFromToken(String token) {
-    Claims claims =
-        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
-    return claims.getSubject();
+  public Optional<TokenClaims> verifyToken(String token) {
+    return Optional.ofNullable(codec.verify(token, clock.millis()));
   }
 
   /**
-   * Get role from JWT token
+   * Get the public keys tokens are verified with
    *
-   * @param token JWT token
-   * @return role
+   * @return the signing key first, then those of previous rotations; empty with a shared secret
    */
   @Override
-  public String getRoleFromToken(String token) {
-    Claims claims =
-        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
-    return claims.get("role", String.class);
+  public List<PublicSigningKey> getPublicKeys() {
+    return publicKeys;
   }
 }
@@ -1,55 +1,154 @@
 package com.sandbox.api.infrastructure.security;
 
 import com.sandbox.api.application.service.TokenStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * In-memory store for managing refresh tokens.
  *
- * <p>This implementation uses a ConcurrentHashMap to store refresh tokens. In production, consider
- * using Redis or a database for persistence and scalability.
+ * <p>Each token is kept until the refresh token expiration ({@code
+ * security.jwt.refresh-token-expiration}) has passed since it was stored. Memory is bounded in
+ * three ways:
+ *
+ * <ul>
+ *   <li>Expired tokens are removed periodically. Every token lives equally long, so tokens expire
+ *       in the order they were stored, and the sweep only takes them off the head of a queue until
+ *       it reaches one that has not expired. An expired token is treated as missing even before it
+ *       is swept.
+ *   <li>Each user holds at most {@code max-tokens-per-user} tokens; storing one more revokes that
+ *       user's oldest token.
+ *   <li>Tokens that are revoked or stored again leave their entry behind in the queue. Once such
+ *       entries outnumber the tokens held, the sweep drops them all, so the queue stays within
+ *       about twice the token count plus the tokens revoked since the last sweep.
+ * </ul>
+ *
+ * <p>Tokens are also indexed by user, so revoking all tokens of a user touches only that user's
+ * tokens. All changes to a user's tokens are made atomically through that index.
+ *
+ * <p>Tokens are lost on restart and are not shared between instances. In production, consider using
+ * Redis or a database for persistence and scalability.
+ *
+ * <p>Published metrics:
+ *
+ * <ul>
+ *   <li>{@code auth.refresh-tokens} - tokens currently held, including expired ones not yet swept
+ * </ul>
  */
 @Component
 @Slf4j
 public class RefreshTokenStore implements TokenStore {
 
-  private final Map<String, Long> tokenToUserIdMap = new ConcurrentHashMap<>();
+  private final Map<String, Entry> tokens = new ConcurrentHashMap<>();
+  private final Map<Long, LinkedHashSet<String>> tokensByUser = new ConcurrentHashMap<>();
+  private final Queue<Entry> expiryQueue = new ConcurrentLinkedQueue<>();
+  // Entries in the queue whose token is no longer stored with them
+  private final AtomicInteger staleEntries = new AtomicInteger();
+  private final long timeToLiveNanos;
+  private final int maxTokensPerUser;
+  private final LongSupplier nanoTime;
 
   /**
-   * Stores a refresh token associated with a user ID.
+   * Constructs a new RefreshTokenStore.
+   *
+   * @param refreshTokenExpiration how long a token is kept, in milliseconds
+   * @param maxTokensPerUser most tokens held per user, or 0 for no limit
+   * @param meterRegistry registry the token count is published to
+   */
+  @Autowired
+  public RefreshTokenStore(
+      @Value("${security.jwt.refresh-token-expiration}") long refreshTokenExpiration,
+      @Value("${security.jwt.refresh-token-store.max-tokens-per-user:10}") int maxTokensPerUser,
+      MeterRegistry meterRegistry) {
+    this(refreshTokenExpiration, maxTokensPerUser, System::nanoTime);
+    Gauge.builder("auth.refresh-tokens", this, RefreshTokenStore::size).register(meterRegistry);
+  }
+
+  RefreshTokenStore(long refreshTokenExpiration, int maxTokensPerUser, LongSupplier nanoTime) {
+    if (refreshTokenExpiration < 1) {
+      throw new IllegalArgumentException(
+          "Invalid refresh-token-expiration: " + refreshTokenExpiration);
+    }
+    if (maxTokensPerUser < 0) {
+      throw new IllegalArgumentException("Invalid max-tokens-per-user: " + maxTokensPerUser);
+    }
+    this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(refreshTokenExpiration);
+    this.maxTokensPerUser = maxTokensPerUser;
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * Stores a refresh token associated with a user ID, revoking the user's oldest token if the user
+   * already holds as many as allowed.
    *
    * @param token the refresh token
    * @param userId the user ID
    */
   @Override
   public void store(String token, Long userId) {
-    tokenToUserIdMap.put(token, userId);
+    Entry entry = new Entry(token, userId, nanoTime.getAsLong() + timeToLiveNanos);
+    Entry[] replaced = new Entry[1];
+    boolean[] revokedOldest = new boolean[1];
+    tokensByUser.compute(
+        userId,
+        (id, userTokens) -> {
+          LinkedHashSet<String> updated = userTokens != null ? userTokens : new LinkedHashSet<>();
+          replaced[0] = tokens.put(token, entry);
+          // Re-adding moves a token that is stored again to the newest position
+          updated.remove(token);
+          updated.add(token);
+          if (maxTokensPerUser > 0 && updated.size() > maxTokensPerUser) {
+            Iterator<String> oldest = updated.iterator();
+            tokens.remove(oldest.next());
+            oldest.remove();
+            revokedOldest[0] = true;
+            log.debug("Revoked the oldest refresh token of user ID: {}", userId);
+          }
+          return updated;
+        });
+    if (replaced[0] != null && !replaced[0].userId.equals(userId)) {
+      unindex(replaced[0].userId, token);
+    }
+    staleEntries.addAndGet((replaced[0] != null ? 1 : 0) + (revokedOldest[0] ? 1 : 0));
+    expiryQueue.add(entry);
     log.debug("Stored refresh token for user ID: {}", userId);
   }
 
   /**
-   * Validates if a refresh token exists in the store.
+   * Validates if a refresh token exists in the store and has not expired.
    *
    * @param token the refresh token to validate
    * @return true if the token exists, false otherwise
    */
   @Override
   public boolean isValid(String token) {
-    return tokenToUserIdMap.containsKey(token);
+    return getUserId(token) != null;
   }
 
   /**
-   * Retrieves the user ID associated with a refresh token.
+   * Retrieves the user ID associated with a refresh token that has not expired.
    *
    * @param token the refresh token
    * @return the user ID if found, null otherwise
    */
   @Override
   public Long getUserId(String token) {
-    return tokenToUserIdMap.get(token);
+    Entry entry = tokens.get(token);
+    return entry != null && !entry.isExpired(nanoTime.getAsLong()) ? entry.userId : null;
   }
 
   /**
@@ -59,9 +158,10 @@ public class RefreshTokenStore implements TokenStore {
    */
   @Override
   public void remove(String token) {
-    Long userId = tokenToUserIdMap.remove(token);
-    if (userId != null) {
-      log.debug("Removed refresh token for user ID: {}", userId);
+    Entry entry = tokens.get(token);
+    if (entry != null && remove(entry)) {
+      staleEntries.incrementAndGet();
+      log.debug("Removed refresh token for user ID: {}", entry.userId);
     }
   }
 
@@ -72,7 +172,118 @@ public class RefreshTokenStore implements TokenStore {
    */
   @Override
   public void removeAllForUser(Long userId) {
-    tokenToUserIdMap.entrySet().removeIf(entry -> entry.getValue().equals(userId));
+    tokensByUser.computeIfPresent(
+        userId,
+        (id, userTokens) -> {
+          for (String token : userTokens) {
+            if (tokens.remove(token) != null) {
+              staleEntries.incrementAndGet();
+            }
+          }
+          return null;
+        });
     log.debug("Removed all refresh tokens for user ID: {}", userId);
   }
+
+  /**
+   * Removes every token that has expired, and drops the queue entries of revoked tokens once they
+   * outnumber the tokens held.
+   */
+  @Scheduled(fixedDelayString = "${security.jwt.refresh-token-store.sweep-interval:PT1M}")
+  public void sweepExpired() {
+    long now = nanoTime.getAsLong();
+    int removed = 0;
+    for (Entry entry = expiryQueue.peek();
+        entry != null && entry.isExpired(now);
+        entry = expiryQueue.peek()) {
+      expiryQueue.poll();
+      // Entries of tokens that were already removed or stored again are only dropped
+      if (remove(entry)) {
+        removed++;
+      } else {
+        staleEntries.decrementAndGet();
+      }
+    }
+    if (removed > 0) {
+      log.debug("Removed {} expired refresh tokens", removed);
+    }
+    if (staleEntries.get() > tokens.size()) {
+      compactExpiryQueue();
+    }
+  }
+
+  /**
+   * Returns the number of tokens currently held.
+   *
+   * @return the token count
+   */
+  int size() {
+    return tokens.size();
+  }
+
+  /**
+   * Returns the number of entries in the expiry queue, including those of revoked tokens.
+   *
+   * @return the queue length
+   */
+  int queuedEntries() {
+    return expiryQueue.size();
+  }
+
+  /** Drops the queue entries whose token is no longer stored with them, in a single pass. */
+  private void compactExpiryQueue() {
+    int[] dropped = new int[1];
+    expiryQueue.removeIf(
+        entry -> {
+          boolean stale = tokens.get(entry.token) != entry;
+          if (stale) {
+            dropped[0]++;
+          }
+          return stale;
+        });
+    staleEntries.addAndGet(-dropped[0]);
+    log.debug("Dropped {} queue entries of revoked refresh tokens", dropped[0]);
+  }
+
+  /** Removes the entry if it is still the one stored for its token. */
+  private boolean remove(Entry entry) {
+    boolean[] removed = new boolean[1];
+    tokensByUser.computeIfPresent(
+        entry.userId,
+        (id, userTokens) -> {
+          if (tokens.remove(entry.token, entry)) {
+            userTokens.remove(entry.token);
+            removed[0] = true;
+          }
+          return userTokens.isEmpty() ? null : userTokens;
+        });
+    return removed[0];
+  }
+
+  private void unindex(Long userId, String token) {
+    tokensByUser.computeIfPresent(
+        userId,
+        (id, userTokens) -> {
+          userTokens.remove(token);
+          return userTokens.isEmpty() ? null : userTokens;
+        });
+  }
+
+  /** A stored token, the user it belongs to and when it expires. */
+  private static final class Entry {
+
+    private final String token;
+    private final Long userId;
+    private final long expiresAt;
+
+    private Entry(String token, Long userId, long expiresAt) {
+      this.token = token;
+      this.userId = userId;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired(long now) {
+      return now - expiresAt >= 0;
+    }
+  }
 }
@@ -1,5 +1,7 @@
 package com.sandbox.api.infrastructure.security;
 
+import com.sandbox.api.infrastructure.web.AdaptiveLoadSheddingFilter;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,14 +30,17 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
+  private final AdaptiveLoadSheddingFilter loadSheddingFilter;
   private final CustomAuthenticationEntryPoint authenticationEntryPoint;
   private final CustomAccessDeniedHandler accessDeniedHandler;
 
   public SecurityConfig(
       JwtAuthenticationFilter jwtAuthenticationFilter,
+      AdaptiveLoadSheddingFilter loadSheddingFilter,
       CustomAuthenticationEntryPoint authenticationEntryPoint,
       CustomAccessDeniedHandler accessDeniedHandler) {
     this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+    this.loadSheddingFilter = loadSheddingFilter;
     this.authenticationEntryPoint = authenticationEntryPoint;
     this.accessDeniedHandler = accessDeniedHandler;
   }
@@ -55,9 +60,15 @@ public class SecurityConfig {
         .authorizeHttpRequests(
             auth ->
                 auth
+                    // Async dispatches only complete a response (e.g. a streamed export) whose
+                    // request was already authorized; the JWT filter does not run on them
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                    .permitAll()
                     // Public endpoints
                     .requestMatchers("/api/auth/**")
                     .permitAll()
+                    .requestMatchers("/.well-known/jwks.json")
+                    .permitAll()
                     .requestMatchers("/actuator/health")
                     .permitAll()
                     .requestMatchers("/api-docs/**")
@@ -74,7 +85,9 @@ public class SecurityConfig {
                 exception
                     .authenticationEntryPoint(authenticationEntryPoint)
                     .accessDeniedHandler(accessDeniedHandler))
-        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+        // Shed overload before any work is spent validating tokens
+        .addFilterBefore(loadSheddingFilter, JwtAuthenticationFilter.class);
 
     return http.build();
   }
@@ -89,6 +102,7 @@ public class SecurityConfig {
             ));
     configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
     configuration.setAllowedHeaders(List.of("*"));
+    configuration.setExposedHeaders(List.of("ETag"));
     configuration.setAllowCredentials(true);
 
     UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,66 @@
+package com.sandbox.api.infrastructure.security;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free pool of reusable objects, such as a {@link javax.crypto.Mac} or a {@link
+ * java.security.Signature} that is expensive to create but not thread-safe.
+ *
+ * <p>Objects sit in slots, and each thread starts looking at a slot chosen by its ID, so threads
+ * rarely compete for the same slot. Unlike a thread-local, an object is not tied to one thread,
+ * which matters for virtual threads: each request runs on a new one, and a thread-local would
+ * create a new object per request. When every slot is taken a new object is created, and it is
+ * dropped on release if the slots are full again.
+ *
+ * @param <T> the type of the pooled objects
+ */
+final class StripedPool<T> {
+
+  private final AtomicReferenceArray<T> slots;
+  private final Supplier<T> factory;
+
+  /**
+   * Constructs a new StripedPool with twice as many slots as processors.
+   *
+   * @param factory creates an object when none is free
+   */
+  StripedPool(Supplier<T> factory) {
+    int processors = Runtime.getRuntime().availableProcessors();
+    this.slots =
+        new AtomicReferenceArray<>(Integer.highestOneBit(Math.max(1, processors * 2 - 1)) << 1);
+    this.factory = factory;
+  }
+
+  /**
+   * Takes an object out of the pool, creating one if none is free.
+   *
+   * @return an object no other thread is using
+   */
+  T acquire() {
+    int mask = slots.length() - 1;
+    int start = (int) Thread.currentThread().threadId();
+    for (int i = 0; i < slots.length(); i++) {
+      T object = slots.getAndSet((start + i) & mask, null);
+      if (object != null) {
+        return object;
+      }
+    }
+    return factory.get();
+  }
+
+  /**
+   * Returns an object to the pool.
+   *
+   * @param object an object taken with {@link #acquire()}, no longer used by the caller
+   */
+  void release(T object) {
+    int mask = slots.length() - 1;
+    int start = (int) Thread.currentThread().threadId();
+    for (int i = 0; i < slots.length(); i++) {
+      if (slots.compareAndSet((start + i) & mask, null, object)) {
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.sandbox.api.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sandbox.api.application.dto.TokenClaims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of access tokens whose signature and expiry have already been verified.
+ *
+ * <p>Clients send the same access token with every request until it expires, so after the first
+ * request the HMAC check and claim decoding are replaced by a SHA-256 digest of the token and a map
+ * lookup. Entries are keyed by that digest, so no bearer token is kept in memory, and a token
+ * differing in any byte, including a forged signature, misses and is verified in full.
+ *
+ * <p>An entry never outlives the {@code exp} of its token, so a cached token stops authenticating
+ * at the same instant a verified one would. Only successfully verified tokens are cached; invalid
+ * tokens cannot fill the cache. Beyond {@code maximum-size} entries, the least valuable ones are
+ * evicted and simply verified again on their next use.
+ *
+ * <p>Entries cannot be removed individually; a cached token stays usable until its {@code exp},
+ * just as it would without the cache. Access tokens are stateless and logout and role changes
+ * revoke only refresh tokens, while retiring a key takes a restart, which empties the cache.
+ *
+ * <p>Hit, miss and eviction counts are published as {@code cache.*} metrics with {@code
+ * cache=auth.verified-tokens}.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+  static final String CACHE_NAME = "auth.verified-tokens";
+
+  private final JwtTokenProvider tokenProvider;
+  private final boolean enabled;
+  private final Clock clock;
+  private final Cache<String, TokenClaims> byDigest;
+
+  /**
+   * Constructs a new VerifiedTokenCache.
+   *
+   * @param tokenProvider provider that verifies tokens missing from the cache
+   * @param meterRegistry registry the cache statistics are published to
+   * @param enabled whether verified tokens are cached at all
+   * @param maximumSize most tokens held at once
+   */
+  @Autowired
+  public VerifiedTokenCache(
+      JwtTokenProvider tokenProvider,
+      MeterRegistry meterRegistry,
+      @Value("${security.jwt.cache.enabled:true}") boolean enabled,
+      @Value("${security.jwt.cache.maximum-size:10000}") long maximumSize) {
+    this(tokenProvider, enabled, maximumSize, Clock.systemUTC(), Ticker.systemTicker());
+    CaffeineCacheMetrics.monitor(meterRegistry, byDigest, CACHE_NAME);
+    if (!enabled) {
+      log.warn("Caching of verified access tokens is disabled");
+    }
+  }
+
+  VerifiedTokenCache(
+      JwtTokenProvider tokenProvider,
+      boolean enabled,
+      long maximumSize,
+      Clock clock,
+      Ticker ticker) {
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException("Invalid maximum-size: " + maximumSize);
+    }
+    this.tokenProvider = tokenProvider;
+    this.enabled = enabled;
+    this.clock = clock;
+    this.byDigest =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new UntilTokenExpires())
+            .ticker(ticker)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Verifies a token, taking its claims from the cache if it was verified before.
+   *
+   * @param token JWT token
+   * @return verified claims, or empty if the token is invalid
+   */
+  public Optional<TokenClaims> verifyToken(String token) {
+    if (!enabled) {
+      return tokenProvider.verifyToken(token);
+    }
+    String digest = digest(token);
+    TokenClaims cached = byDigest.getIfPresent(digest);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    Optional<TokenClaims> claims = tokenProvider.verifyToken(token);
+    // Tokens without an expiry are verified each time rather than trusted forever
+    claims
+        .filter(verified -> verified.getExpiresAt() != null)
+        .ifPresent(verified -> byDigest.put(digest, verified));
+    return claims;
+  }
+
+  long size() {
+    byDigest.cleanUp();
+    return byDigest.estimatedSize();
+  }
+
+  private static String digest(String token) {
+    try {
+      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** Expires each entry when its token does. */
+  private class UntilTokenExpires implements Expiry<String, TokenClaims> {
+
+    @Override
+    public long expireAfterCreate(String digest, TokenClaims claims, long currentTime) {
+      Duration remaining = Duration.between(Instant.now(clock), claims.getExpiresAt());
+      if (remaining.isNegative()) {
+        return 0;
+      }
+      // Saturate rather than overflow for expiries centuries away
+      return remaining.getSeconds() < Long.MAX_VALUE / 1_000_000_000L
+          ? remaining.toNanos()
+          : Long.MAX_VALUE;
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String digest, TokenClaims claims, long currentTime, long currentDuration) {
+      return expireAfterCreate(digest, claims, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String digest, TokenClaims claims, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
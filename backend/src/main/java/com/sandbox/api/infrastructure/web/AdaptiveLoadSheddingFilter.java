@@ -0,0 +1,158 @@
+package com.sandbox.api.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Rejects API requests beyond a latency-driven concurrency limit instead of letting them queue.
+ *
+ * <p>When the database slows down, requests pile up behind the connection pool and every latency
+ * collapses at once. This filter keeps a separate {@link GradientLimit} for each {@link
+ * RouteGroup}, fed with the latency of every completed request, and answers requests beyond the
+ * current limit immediately with 503 and {@code Retry-After}. A 503 from further down the chain
+ * lowers the group's limit, so overload detected deeper in the application is shed here next time,
+ * before any work is done. Slow logins therefore cannot starve message reads, and vice versa.
+ *
+ * <p>The filter is registered in the security filter chain ahead of JWT authentication, so shed
+ * requests cost no token validation. Paths outside the route groups (health checks, API docs) are
+ * never shed. With virtual threads enabled {@link RequestConcurrencyLimiter} still bounds the total
+ * behind this filter.
+ *
+ * <p>Published metrics, tagged with {@code group}:
+ *
+ * <ul>
+ *   <li>{@code api.shedding.limit} - current concurrency limit
+ *   <li>{@code api.shedding.inflight} - requests currently in flight
+ *   <li>{@code api.shedding.rejected} - requests rejected because the limit was reached
+ * </ul>
+ */
+@Component
+@Slf4j
+public class AdaptiveLoadSheddingFilter extends OncePerRequestFilter {
+
+  private final Map<RouteGroup, GroupLimiter> limiters = new EnumMap<>(RouteGroup.class);
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Constructs a new AdaptiveLoadSheddingFilter.
+   *
+   * @param objectMapper mapper used to write the 503 problem details
+   * @param meterRegistry registry the shedding metrics are published to
+   * @param initialLimit limit of each group before any latency has been observed
+   * @param minLimit lowest limit of each group
+   * @param maxLimit highest limit of each group
+   * @param rttTolerance how much latency may rise above its baseline before limits shrink
+   * @param window number of requests averaged per limit update
+   */
+  @Autowired
+  public AdaptiveLoadSheddingFilter(
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${concurrency.shedding.initial-limit:20}") int initialLimit,
+      @Value("${concurrency.shedding.min-limit:4}") int minLimit,
+      @Value("${concurrency.shedding.max-limit:200}") int maxLimit,
+      @Value("${concurrency.shedding.rtt-tolerance:1.5}") double rttTolerance,
+      @Value("${concurrency.shedding.window:20}") int window) {
+    this(
+        () -> new GradientLimit(initialLimit, minLimit, maxLimit, rttTolerance, window),
+        objectMapper,
+        meterRegistry);
+    log.info(
+        "Shedding API load above adaptive limits per route group (initial {}, range [{}, {}])",
+        initialLimit,
+        minLimit,
+        maxLimit);
+  }
+
+  AdaptiveLoadSheddingFilter(
+      Supplier<GradientLimit> limits, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.objectMapper = objectMapper;
+    for (RouteGroup group : RouteGroup.values()) {
+      GroupLimiter limiter = new GroupLimiter(limits.get(), meterRegistry, group);
+      limiters.put(group, limiter);
+    }
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return RouteGroup.of(request) == null;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    GroupLimiter limiter = limiters.get(RouteGroup.of(request));
+    if (!limiter.tryAcquire()) {
+      limiter.rejected.increment();
+      ServiceUnavailableProblem.write(
+          request, response, objectMapper, "Server is overloaded, please retry later");
+      return;
+    }
+    long start = System.nanoTime();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      int inflight = limiter.inflight.getAndDecrement();
+      // A streamed export only hands over to an async dispatch here; its latency is not known yet
+      if (!request.isAsyncStarted()) {
+        if (response.getStatus() == HttpServletResponse.SC_SERVICE_UNAVAILABLE) {
+          // Turned away further down (e.g. by a full password verification queue)
+          limiter.limit.onDropped();
+        } else {
+          limiter.limit.onSample(System.nanoTime() - start, inflight);
+        }
+      }
+    }
+  }
+
+  /** In-flight count, limit and rejection counter of one route group. */
+  private static final class GroupLimiter {
+
+    private final GradientLimit limit;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Counter rejected;
+
+    GroupLimiter(GradientLimit limit, MeterRegistry meterRegistry, RouteGroup group) {
+      this.limit = limit;
+      this.rejected =
+          Counter.builder("api.shedding.rejected")
+              .tag("group", group.tag())
+              .register(meterRegistry);
+      Gauge.builder("api.shedding.limit", limit, GradientLimit::limit)
+          .tag("group", group.tag())
+          .register(meterRegistry);
+      Gauge.builder("api.shedding.inflight", inflight, AtomicInteger::get)
+          .tag("group", group.tag())
+          .register(meterRegistry);
+    }
+
+    boolean tryAcquire() {
+      while (true) {
+        int current = inflight.get();
+        if (current >= limit.limit()) {
+          return false;
+        }
+        if (inflight.compareAndSet(current, current + 1)) {
+          return true;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.sandbox.api.infrastructure.web;
+
+/**
+ * Concurrency limit that follows observed latency with a gradient algorithm.
+ *
+ * <p>Request latencies are averaged over windows of {@code windowSize} samples. After each window
+ * the average is compared with a baseline, the latency of requests that did not have to queue:
+ *
+ * <pre>
+ * gradient = clamp(rttTolerance * baselineRtt / windowRtt, 0.5, 1.0)
+ * newLimit = limit * gradient + sqrt(limit)
+ * </pre>
+ *
+ * <p>While latency stays within {@code rttTolerance} of the baseline the gradient is 1 and the
+ * limit grows by its square root, probing for more capacity. Once requests start queueing
+ * downstream (e.g. for a database connection) latency rises, the gradient drops and the limit
+ * shrinks towards what the server can complete without queueing. Each step is smoothed and the
+ * result kept between {@code minLimit} and {@code maxLimit}.
+ *
+ * <p>A request that was dropped further down (the server itself reported overload) is not a latency
+ * sample; instead it cuts the limit by {@value #DROP_BACKOFF} at once, so the limit quickly settles
+ * on the capacity of whatever rejected it.
+ *
+ * <p>The baseline follows any faster window immediately but rises only slowly, so sustained
+ * overload is not mistaken for the new normal while a lasting change (e.g. a larger table) is still
+ * adopted after a while.
+ *
+ * <p>Thread-safe; {@link #limit()} can be read without locking.
+ */
+final class GradientLimit {
+
+  /** Number of windows over which the baseline adopts a higher latency. */
+  private static final int BASELINE_WINDOWS = 100;
+
+  /** Weight of a newly computed limit against the current one. */
+  private static final double SMOOTHING = 0.2;
+
+  /** Factor the limit is multiplied by for every dropped request. */
+  private static final double DROP_BACKOFF = 0.9;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double rttTolerance;
+  private final int windowSize;
+
+  private volatile double limit;
+
+  private double baselineRtt;
+  private long windowRttSum;
+  private int windowCount;
+  private int windowMaxInflight;
+
+  /**
+   * Constructs a new GradientLimit.
+   *
+   * @param initialLimit limit used until enough latency has been observed
+   * @param minLimit lowest limit the algorithm may settle on
+   * @param maxLimit highest limit the algorithm may settle on
+   * @param rttTolerance how much slower than the baseline requests may get before the limit
+   *     shrinks; at least 1
+   * @param windowSize number of samples averaged per limit update
+   */
+  GradientLimit(int initialLimit, int minLimit, int maxLimit, double rttTolerance, int windowSize) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException(
+          "Invalid limit range: [" + minLimit + ", " + maxLimit + "]");
+    }
+    if (initialLimit < minLimit || initialLimit > maxLimit) {
+      throw new IllegalArgumentException(
+          "Initial limit " + initialLimit + " outside [" + minLimit + ", " + maxLimit + "]");
+    }
+    if (rttTolerance < 1.0) {
+      throw new IllegalArgumentException("RTT tolerance must be at least 1: " + rttTolerance);
+    }
+    if (windowSize < 1) {
+      throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+    }
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.rttTolerance = rttTolerance;
+    this.windowSize = windowSize;
+  }
+
+  /**
+   * Returns the number of requests that may currently be in flight.
+   *
+   * @return the current limit
+   */
+  int limit() {
+    return (int) limit;
+  }
+
+  /**
+   * Records the latency of a completed request.
+   *
+   * @param rttNanos how long the request took
+   * @param inflight requests in flight when it completed, itself included
+   */
+  synchronized void onSample(long rttNanos, int inflight) {
+    windowRttSum += rttNanos;
+    windowCount++;
+    windowMaxInflight = Math.max(windowMaxInflight, inflight);
+    if (windowCount < windowSize) {
+      return;
+    }
+    double windowRtt = Math.max(1.0, (double) windowRttSum / windowCount);
+    int maxInflight = windowMaxInflight;
+    windowRttSum = 0;
+    windowCount = 0;
+    windowMaxInflight = 0;
+    update(windowRtt, maxInflight);
+  }
+
+  /** Records a request that was rejected downstream because the server is overloaded. */
+  synchronized void onDropped() {
+    limit = Math.max(minLimit, limit * DROP_BACKOFF);
+  }
+
+  private void update(double windowRtt, int maxInflight) {
+    if (baselineRtt == 0 || windowRtt < baselineRtt) {
+      baselineRtt = windowRtt;
+    } else {
+      baselineRtt += (windowRtt - baselineRtt) / BASELINE_WINDOWS;
+    }
+    // A server that is mostly idle says nothing about its capacity
+    if (maxInflight < limit / 2) {
+      return;
+    }
+    double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * baselineRtt / windowRtt));
+    double newLimit = limit * gradient + Math.sqrt(limit);
+    newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+  }
+}
@@ -0,0 +1,145 @@
+package com.sandbox.api.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Bounds the number of API requests processed at once when requests run on virtual threads.
+ *
+ * <p>With platform threads Tomcat's worker pool caps concurrency. Virtual threads remove that cap,
+ * so without a limit every waiting request would queue inside the connection pool until its
+ * connection timeout expires. This filter admits at most {@code requests-per-connection} requests
+ * per pooled connection; further requests wait up to {@code queue-timeout} for a slot in arrival
+ * order and are then rejected with 503 and {@code Retry-After}, long before the pool would time
+ * out.
+ *
+ * <p>Only {@code /api/**} is limited, so health checks keep answering under load. The filter runs
+ * after Spring Security, so rejected authentication never takes a slot. A streamed export releases
+ * its slot once the response has started streaming.
+ *
+ * <p>Published metrics:
+ *
+ * <ul>
+ *   <li>{@code api.requests.limit} - number of requests admitted at once
+ *   <li>{@code api.requests.active} - requests currently holding a slot
+ *   <li>{@code api.requests.queued} - requests waiting for a slot
+ *   <li>{@code api.requests.rejected} - requests rejected after waiting {@code queue-timeout}
+ * </ul>
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class RequestConcurrencyLimiter extends OncePerRequestFilter {
+
+  private static final String LIMITED_PATH = "/api/";
+
+  private final Semaphore permits;
+  private final int limit;
+  private final Duration queueTimeout;
+  private final ObjectMapper objectMapper;
+  private final Counter rejected;
+
+  /**
+   * Constructs a new RequestConcurrencyLimiter sized from the connection pool.
+   *
+   * @param dataSource the application's data source; its pool size sets the limit
+   * @param objectMapper mapper used to write the 503 problem details
+   * @param meterRegistry registry the limiter metrics are published to
+   * @param requestsPerConnection requests admitted per pooled connection
+   * @param queueTimeout how long a request waits for a slot before it is rejected
+   */
+  @Autowired
+  public RequestConcurrencyLimiter(
+      DataSource dataSource,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${concurrency.limiter.requests-per-connection:2}") int requestsPerConnection,
+      @Value("${concurrency.limiter.queue-timeout:2s}") Duration queueTimeout) {
+    this(poolSize(dataSource) * requestsPerConnection, queueTimeout, objectMapper, meterRegistry);
+  }
+
+  RequestConcurrencyLimiter(
+      int limit, Duration queueTimeout, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    if (limit < 1) {
+      throw new IllegalArgumentException("Concurrency limit must be positive: " + limit);
+    }
+    this.limit = limit;
+    // Fair, so that a request waiting for a slot is not overtaken by later arrivals
+    this.permits = new Semaphore(limit, true);
+    this.queueTimeout = queueTimeout;
+    this.objectMapper = objectMapper;
+    this.rejected = Counter.builder("api.requests.rejected").register(meterRegistry);
+    Gauge.builder("api.requests.limit", this, limiter -> limiter.limit).register(meterRegistry);
+    Gauge.builder("api.requests.active", this, RequestConcurrencyLimiter::active)
+        .register(meterRegistry);
+    Gauge.builder("api.requests.queued", permits, Semaphore::getQueueLength)
+        .register(meterRegistry);
+    log.info("Limiting concurrent API requests to {} (queue timeout {})", limit, queueTimeout);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !request.getRequestURI().startsWith(LIMITED_PATH);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(queueTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ServletException("Interrupted while waiting for a request slot", e);
+    }
+    if (!acquired) {
+      rejected.increment();
+      ServiceUnavailableProblem.write(
+          request, response, objectMapper, "Too many concurrent requests, please retry later");
+      return;
+    }
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private int active() {
+    return limit - permits.availablePermits();
+  }
+
+  private static int poolSize(DataSource dataSource) {
+    try {
+      if (dataSource.isWrapperFor(HikariDataSource.class)) {
+        return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to read the connection pool size", e);
+    }
+    throw new IllegalStateException(
+        "Request concurrency limiting requires a HikariCP data source, got "
+            + dataSource.getClass().getName());
+  }
+}
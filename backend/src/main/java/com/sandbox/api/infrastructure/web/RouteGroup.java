@@ -0,0 +1,54 @@
+package com.sandbox.api.infrastructure.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/** API routes that share an adaptive concurrency limit. */
+enum RouteGroup {
+  /** Login, refresh and logout; dominated by password hashing. */
+  AUTH("auth"),
+
+  /** Message lookups, listings and exports. */
+  MESSAGE_READ("message-read"),
+
+  /** Message creation, updates, deletion and imports. */
+  MESSAGE_WRITE("message-write");
+
+  private static final String AUTH_PATH = "/api/auth/";
+  private static final String MESSAGES_PATH = "/api/messages";
+
+  private final String tag;
+
+  RouteGroup(String tag) {
+    this.tag = tag;
+  }
+
+  /**
+   * Returns the value of the {@code group} metric tag.
+   *
+   * @return the tag value
+   */
+  String tag() {
+    return tag;
+  }
+
+  /**
+   * Returns the group a request belongs to.
+   *
+   * @param request the request
+   * @return the group, or null if the request is not limited
+   */
+  static RouteGroup of(HttpServletRequest request) {
+    String path = request.getRequestURI();
+    if (path.startsWith(AUTH_PATH)) {
+      return AUTH;
+    }
+    if (path.equals(MESSAGES_PATH) || path.startsWith(MESSAGES_PATH + "/")) {
+      return isSafe(request.getMethod()) ? MESSAGE_READ : MESSAGE_WRITE;
+    }
+    return null;
+  }
+
+  private static boolean isSafe(String method) {
+    return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+  }
+}
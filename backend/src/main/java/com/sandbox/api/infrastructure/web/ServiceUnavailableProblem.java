@@ -0,0 +1,48 @@
+package com.sandbox.api.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/** Writes the 503 response of a request turned away because the API is overloaded. */
+final class ServiceUnavailableProblem {
+
+  /** Seconds a client is asked to wait before retrying. */
+  static final String RETRY_AFTER_SECONDS = "1";
+
+  private ServiceUnavailableProblem() {}
+
+  /**
+   * Writes a 503 with {@code Retry-After} and an RFC 7807 body.
+   *
+   * @param request the rejected request
+   * @param response the response to write to
+   * @param objectMapper mapper used to write the problem details
+   * @param detail the problem detail explaining the rejection
+   * @throws IOException if the response cannot be written
+   */
+  static void write(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      ObjectMapper objectMapper,
+      String detail)
+      throws IOException {
+    response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+    response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+
+    // RFC 7807 Problem Details format
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("type", "about:blank");
+    body.put("title", "Service Unavailable");
+    body.put("status", HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    body.put("detail", detail);
+    body.put("instance", request.getRequestURI());
+    objectMapper.writeValue(response.getOutputStream(), body);
+  }
+}
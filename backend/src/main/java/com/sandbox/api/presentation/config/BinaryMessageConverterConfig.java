@@ -0,0 +1,34 @@
+package com.sandbox.api.presentation.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary encodings of the JSON API.
+ *
+ * <p>Clients that send {@code Accept: application/cbor} or {@code Accept:
+ * application/x-jackson-smile} receive the same document as the JSON response, encoded as CBOR or
+ * Smile. Both mappers are built from the application's {@link Jackson2ObjectMapperBuilder}, so
+ * {@code spring.jackson.*} settings such as the date-time format apply to them as well.
+ */
+@Configuration
+public class BinaryMessageConverterConfig {
+
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+  }
+
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2SmileHttpMessageConverter(
+        builder.factory(new SmileFactory()).build());
+  }
+}
@@ -1,11 +1,16 @@
 package com.sandbox.api.presentation.controller;
 
+import com.sandbox.api.application.service.AuthAttemptLimiter;
 import com.sandbox.api.application.usecase.auth.GetCurrentUserUseCase;
+import com.sandbox.api.application.usecase.auth.GetPublicKeysUseCase;
 import com.sandbox.api.application.usecase.auth.LoginUseCase;
 import com.sandbox.api.application.usecase.auth.LogoutUseCase;
 import com.sandbox.api.application.usecase.auth.RefreshTokenUseCase;
 import com.sandbox.api.presentation.dto.AuthMapper;
 import com.sandbox.api.presentation.generated.api.AuthApi;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -13,10 +18,17 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class AuthController implements AuthApi {
 
+  /** Keys change only on rotation, and a rotated key keeps verifying the tokens it signed. */
+  private static final CacheControl JWKS_CACHE_CONTROL =
+      CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
   private final LoginUseCase loginUseCase;
   private final RefreshTokenUseCase refreshTokenUseCase;
   private final LogoutUseCase logoutUseCase;
   private final GetCurrentUserUseCase getCurrentUserUseCase;
+  private final GetPublicKeysUseCase getPublicKeysUseCase;
+  private final AuthAttemptLimiter authAttemptLimiter;
+  private final HttpServletRequest request;
 
   /**
    * Constructs a new AuthController with the required use cases.
@@ -25,22 +37,33 @@ public class AuthController implements AuthApi {
    * @param refreshTokenUseCase use case for refreshing access token
    * @param logoutUseCase use case for user logout
    * @param getCurrentUserUseCase use case for retrieving current user information
+   * @param getPublicKeysUseCase use case for retrieving the public keys tokens are signed with
+   * @param authAttemptLimiter limiter applied to logins and token refreshes
+   * @param request the current request, used to identify the client address
    */
   public AuthController(
       LoginUseCase loginUseCase,
       RefreshTokenUseCase refreshTokenUseCase,
       LogoutUseCase logoutUseCase,
-      GetCurrentUserUseCase getCurrentUserUseCase) {
+      GetCurrentUserUseCase getCurrentUserUseCase,
+      GetPublicKeysUseCase getPublicKeysUseCase,
+      AuthAttemptLimiter authAttemptLimiter,
+      HttpServletRequest request) {
     this.loginUseCase = loginUseCase;
     this.refreshTokenUseCase = refreshTokenUseCase;
     this.logoutUseCase = logoutUseCase;
     this.getCurrentUserUseCase = getCurrentUserUseCase;
+    this.getPublicKeysUseCase = getPublicKeysUseCase;
+    this.authAttemptLimiter = authAttemptLimiter;
+    this.request = request;
   }
 
   @Override
   public ResponseEntity<com.sandbox.api.presentation.generated.model.LoginResponse> login(
       com.sandbox.api.presentation.generated.model.LoginRequest loginRequest) {
     com.sandbox.api.application.dto.LoginRequest internal = AuthMapper.toInternal(loginRequest);
+    // Refused before the user lookup and the password hash are paid for
+    authAttemptLimiter.checkLogin(request.getRemoteAddr(), internal.getUsername());
     com.sandbox.api.application.dto.LoginResponse response =
         loginUseCase.execute(internal.getUsername(), internal.getPassword());
     return ResponseEntity.ok(AuthMapper.toGenerated(response));
@@ -50,6 +73,7 @@ public class AuthController implements AuthApi {
   public ResponseEntity<com.sandbox.api.presentation.generated.model.LoginResponse> refreshToken(
       com.sandbox.api.presentation.generated.model.RefreshRequest refreshRequest) {
     com.sandbox.api.application.dto.RefreshRequest internal = AuthMapper.toInternal(refreshRequest);
+    authAttemptLimiter.checkRefresh(request.getRemoteAddr());
     com.sandbox.api.application.dto.LoginResponse response =
         refreshTokenUseCase.execute(internal.getRefreshToken());
     return ResponseEntity.ok(AuthMapper.toGenerated(response));
@@ -69,4 +93,12 @@ public class AuthController implements AuthApi {
     com.sandbox.api.application.dto.UserResponse response = getCurrentUserUseCase.execute();
     return ResponseEntity.ok(AuthMapper.toGenerated(response));
   }
+
+  @Override
+  public ResponseEntity<com.sandbox.api.presentation.generated.model.JsonWebKeySet>
+      getJsonWebKeySet() {
+    return ResponseEntity.ok()
+        .cacheControl(JWKS_CACHE_CONTROL)
+        .body(AuthMapper.toGenerated(getPublicKeysUseCase.execute()));
+  }
 }
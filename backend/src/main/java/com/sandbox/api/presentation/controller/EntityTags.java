@@ -0,0 +1,104 @@
+package com.sandbox.api.presentation.controller;
+
+import com.sandbox.api.domain.model.MessageField;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Set;
+
+/** Builds and compares HTTP entity tags for conditional requests. */
+final class EntityTags {
+
+  private EntityTags() {}
+
+  /**
+   * Builds the weak entity tag of a single message.
+   *
+   * <p>Every write sets {@code updated_at}, so the ID and the update time identify one version of
+   * the message. The tag is weak because that version is sent as JSON, CBOR or Smile depending on
+   * {@code Accept}: the representations are equivalent but their bytes differ.
+   *
+   * @param id the ID of the message
+   * @param updatedAt when the message was last updated
+   * @return the weak entity tag
+   */
+  static String ofMessage(Long id, LocalDateTime updatedAt) {
+    long nanos = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + updatedAt.getNano();
+    return "W/\"" + id + "-" + Long.toHexString(nanos) + "\"";
+  }
+
+  /**
+   * Builds the weak entity tag of a sparse fieldset of a message.
+   *
+   * <p>Each fieldset is a different representation, so its tag carries the selected fields. The
+   * whole message keeps the tag of {@link #ofMessage(Long, LocalDateTime)}.
+   *
+   * @param id the ID of the message
+   * @param updatedAt when the message was last updated
+   * @param fields the fields of the representation
+   * @return the weak entity tag
+   */
+  static String ofMessage(Long id, LocalDateTime updatedAt, Set<MessageField> fields) {
+    String tag = ofMessage(id, updatedAt);
+    if (fields.containsAll(MessageField.ALL)) {
+      return tag;
+    }
+    return tag.substring(0, tag.length() - 1) + "-" + Integer.toHexString(mask(fields)) + "\"";
+  }
+
+  /**
+   * Builds the weak entity tag of one page of the message list.
+   *
+   * <p>The tag is weak because it is derived from the version of the whole collection rather than
+   * from the bytes of the page: a write elsewhere in the collection changes it too.
+   *
+   * @param collectionVersion the current version of the messages collection
+   * @param query the query parameters that select the page
+   * @return the weak entity tag
+   */
+  static String ofMessagePage(long collectionVersion, Object... query) {
+    return "W/\"" + collectionVersion + "-" + Integer.toHexString(Arrays.hashCode(query)) + "\"";
+  }
+
+  /**
+   * Tells whether an {@code If-None-Match} header value matches the current entity tag.
+   *
+   * <p>Uses the weak comparison that RFC 9110 requires for {@code If-None-Match}, so a {@code W/}
+   * prefix on either side is ignored.
+   *
+   * @param ifNoneMatch the header value, may be {@code null}
+   * @param current the quoted entity tag of the current representation
+   * @return {@code true} if the header lists the current tag or is {@code *}
+   */
+  static boolean matches(String ifNoneMatch, String current) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    String opaqueCurrent = opaque(current);
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.equals("*") || opaque(tag).equals(opaqueCurrent)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Encodes a fieldset as a bit mask, which unlike the set's hash code is stable across restarts.
+   *
+   * @param fields the fields
+   * @return a mask with the bit of each field's ordinal set
+   */
+  static int mask(Set<MessageField> fields) {
+    int mask = 0;
+    for (MessageField field : fields) {
+      mask |= 1 << field.ordinal();
+    }
+    return mask;
+  }
+
+  private static String opaque(String tag) {
+    return tag.startsWith("W/") ? tag.substring(2) : tag;
+  }
+}
@@ -1,17 +1,33 @@
 package com.sandbox.api.presentation.controller;
 
+import com.sandbox.api.application.dto.BatchCreateResult;
+import com.sandbox.api.application.dto.CountMode;
 import com.sandbox.api.application.usecase.CreateMessageUseCase;
+import com.sandbox.api.application.usecase.CreateMessagesBatchUseCase;
 import com.sandbox.api.application.usecase.DeleteMessageUseCase;
 import com.sandbox.api.application.usecase.GetAllMessagesUseCase;
 import com.sandbox.api.application.usecase.GetMessageByIdUseCase;
 import com.sandbox.api.application.usecase.UpdateMessageUseCase;
 import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageCursor;
+import com.sandbox.api.domain.model.MessageField;
+import com.sandbox.api.presentation.dto.MessageJsonCache;
 import com.sandbox.api.presentation.dto.MessageMapper;
+import com.sandbox.api.presentation.dto.MessageRepresentation;
 import com.sandbox.api.presentation.dto.MessageRequest;
 import com.sandbox.api.presentation.dto.MessageResponse;
+import com.sandbox.api.presentation.dto.StreamedMessagePage;
 import com.sandbox.api.presentation.generated.api.MessageApi;
 import java.net.URI;
-import org.springframework.data.domain.Page;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RestController;
@@ -21,11 +37,19 @@ import org.springframework.web.util.UriComponentsBuilder;
 @RestController
 public class MessageController implements MessageApi {
 
+  /**
+   * Lets clients keep a copy but makes them revalidate it with {@code If-None-Match}. Reads also
+   * vary by {@code Accept}, because the same version may be encoded as JSON, CBOR or Smile.
+   */
+  private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
   private final GetAllMessagesUseCase getAllMessagesUseCase;
   private final GetMessageByIdUseCase getMessageByIdUseCase;
   private final CreateMessageUseCase createMessageUseCase;
+  private final CreateMessagesBatchUseCase createMessagesBatchUseCase;
   private final UpdateMessageUseCase updateMessageUseCase;
   private final DeleteMessageUseCase deleteMessageUseCase;
+  private final MessageJsonCache messageJsonCache;
 
   /**
    * Constructs a new MessageController with the required use cases.
@@ -33,37 +57,92 @@ public class MessageController implements MessageApi {
    * @param getAllMessagesUseCase use case for retrieving all messages
    * @param getMessageByIdUseCase use case for retrieving a message by ID
    * @param createMessageUseCase use case for creating a message
+   * @param createMessagesBatchUseCase use case for creating messages in bulk
    * @param updateMessageUseCase use case for updating a message
    * @param deleteMessageUseCase use case for deleting a message
+   * @param messageJsonCache cache of the JSON written for each message
    */
   public MessageController(
       GetAllMessagesUseCase getAllMessagesUseCase,
       GetMessageByIdUseCase getMessageByIdUseCase,
       CreateMessageUseCase createMessageUseCase,
+      CreateMessagesBatchUseCase createMessagesBatchUseCase,
       UpdateMessageUseCase updateMessageUseCase,
-      DeleteMessageUseCase deleteMessageUseCase) {
+      DeleteMessageUseCase deleteMessageUseCase,
+      MessageJsonCache messageJsonCache) {
     this.getAllMessagesUseCase = getAllMessagesUseCase;
     this.getMessageByIdUseCase = getMessageByIdUseCase;
     this.createMessageUseCase = createMessageUseCase;
+    this.createMessagesBatchUseCase = createMessagesBatchUseCase;
     this.updateMessageUseCase = updateMessageUseCase;
     this.deleteMessageUseCase = deleteMessageUseCase;
+    this.messageJsonCache = messageJsonCache;
   }
 
   @Override
   @PreAuthorize("hasAnyRole('ADMIN', 'VIEWER')")
-  public ResponseEntity<com.sandbox.api.presentation.generated.model.MessagePage> getAllMessages(
-      Integer page, Integer size) {
-    Page<Message> messagePage = getAllMessagesUseCase.execute(page, size);
-    return ResponseEntity.ok(MessageMapper.toMessagePage(messagePage));
+  public ResponseEntity<StreamedMessagePage> getAllMessages(
+      Integer page,
+      Integer size,
+      String after,
+      String count,
+      List<String> fields,
+      String ifNoneMatch) {
+    Set<MessageField> selected = MessageField.fromValues(fields);
+    // Read before the rows: a write committed in between then only costs the client a refetch
+    String etag =
+        EntityTags.ofMessagePage(
+            getAllMessagesUseCase.collectionVersion(),
+            page,
+            size,
+            after,
+            count,
+            EntityTags.mask(selected));
+    if (EntityTags.matches(ifNoneMatch, etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(etag)
+          .cacheControl(REVALIDATE)
+          .varyBy(HttpHeaders.ACCEPT)
+          .build();
+    }
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT);
+    if (after != null) {
+      MessageCursor cursor = MessageCursor.decode(after);
+      Window<Message> window = getAllMessagesUseCase.execute(cursor, size, selected);
+      return response.body(
+          MessageMapper.toMessagePage(window, cursor, size, selected, messageJsonCache));
+    }
+    CountMode countMode = count == null ? null : CountMode.fromValue(count);
+    Slice<Message> messagePage = getAllMessagesUseCase.execute(page, size, countMode, selected);
+    return response.body(MessageMapper.toMessagePage(messagePage, selected, messageJsonCache));
   }
 
   @Override
   @PreAuthorize("hasAnyRole('ADMIN', 'VIEWER')")
-  public ResponseEntity<com.sandbox.api.presentation.generated.model.MessageResponse>
-      getMessageById(Long id) {
-    Message message = getMessageByIdUseCase.execute(id);
-    MessageResponse internal = MessageResponse.from(message);
-    return ResponseEntity.ok(MessageMapper.toGenerated(internal));
+  public ResponseEntity<MessageRepresentation> getMessageById(
+      Long id, List<String> fields, String ifNoneMatch) {
+    Set<MessageField> selected = MessageField.fromValues(fields);
+    if (ifNoneMatch != null) {
+      // Revalidation only needs the version, not the row and its JSON representation
+      Optional<String> current =
+          getMessageByIdUseCase
+              .findUpdatedAt(id)
+              .map(updatedAt -> EntityTags.ofMessage(id, updatedAt, selected));
+      if (current.isPresent() && EntityTags.matches(ifNoneMatch, current.get())) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(current.get())
+            .cacheControl(REVALIDATE)
+            .varyBy(HttpHeaders.ACCEPT)
+            .build();
+      }
+    }
+    Message message = getMessageByIdUseCase.execute(id, withUpdatedAt(selected));
+    return ResponseEntity.ok()
+        .eTag(EntityTags.ofMessage(message.getId(), message.getUpdatedAt(), selected))
+        .cacheControl(REVALIDATE)
+        .varyBy(HttpHeaders.ACCEPT)
+        .body(messageJsonCache.toResponse(message, selected));
   }
 
   @Override
@@ -80,6 +159,16 @@ public class MessageController implements MessageApi {
     return ResponseEntity.created(location).body(MessageMapper.toGenerated(response));
   }
 
+  @Override
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<com.sandbox.api.presentation.generated.model.MessageBatchResponse>
+      createMessagesBatch(
+          com.sandbox.api.presentation.generated.model.MessageBatchRequest messageBatchRequest) {
+    List<BatchCreateResult> results =
+        createMessagesBatchUseCase.execute(MessageMapper.toBatchItems(messageBatchRequest));
+    return ResponseEntity.ok(MessageMapper.toBatchResponse(results));
+  }
+
   @Override
   @PreAuthorize("hasRole('ADMIN')")
   public ResponseEntity<com.sandbox.api.presentation.generated.model.MessageResponse> updateMessage(
@@ -96,4 +185,14 @@ public class MessageController implements MessageApi {
     deleteMessageUseCase.execute(id);
     return ResponseEntity.noContent().build();
   }
+
+  /** The entity tag is built from the update time, so it is read even if not requested. */
+  private static Set<MessageField> withUpdatedAt(Set<MessageField> fields) {
+    if (fields.contains(MessageField.UPDATED_AT)) {
+      return fields;
+    }
+    EnumSet<MessageField> read = EnumSet.copyOf(fields);
+    read.add(MessageField.UPDATED_AT);
+    return read;
+  }
 }
@@ -0,0 +1,118 @@
+package com.sandbox.api.presentation.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sandbox.api.application.usecase.ExportMessagesUseCase;
+import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.presentation.dto.MessageJsonWriter;
+import com.sandbox.api.presentation.generated.api.MessageExportApi;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/** REST controller implementing the OpenAPI generated MessageExportApi interface. */
+@RestController
+public class MessageExportController implements MessageExportApi {
+
+  static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+  private static final int GZIP_BUFFER_SIZE = 8192;
+
+  private final ExportMessagesUseCase exportMessagesUseCase;
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter objectWriter;
+
+  /**
+   * Constructs a new MessageExportController.
+   *
+   * @param exportMessagesUseCase use case for exporting messages
+   * @param objectMapper the application's JSON mapper, so that exported lines match API responses
+   */
+  public MessageExportController(
+      ExportMessagesUseCase exportMessagesUseCase, ObjectMapper objectMapper) {
+    this.exportMessagesUseCase = exportMessagesUseCase;
+    this.objectMapper = objectMapper;
+    // Lines are flushed by the generator's buffer, not one network write per message
+    this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+
+  @Override
+  @PreAuthorize("hasAnyRole('ADMIN', 'VIEWER')")
+  public ResponseEntity<StreamingResponseBody> exportMessages(String acceptEncoding) {
+    boolean gzip = acceptsGzip(acceptEncoding);
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok()
+            .contentType(APPLICATION_NDJSON)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (gzip) {
+      response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    // Runs on an async request thread after this method returns, so the export opens its own
+    // transaction and the request thread is not held while rows are written
+    return response.body(out -> writeNdjson(out, gzip));
+  }
+
+  private void writeNdjson(OutputStream out, boolean gzip) throws IOException {
+    GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, GZIP_BUFFER_SIZE) : null;
+    JsonGenerator generator =
+        objectMapper.getFactory().createGenerator(compressed != null ? compressed : out);
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    // Lines are ended explicitly, so no space may be written between root-level values
+    generator.setRootValueSeparator(null);
+    try {
+      exportMessagesUseCase.execute(message -> writeLine(generator, message));
+    } catch (UncheckedIOException e) {
+      // Typically the client disconnected; the cursor and transaction are already closed
+      throw e.getCause();
+    }
+    generator.flush();
+    if (compressed != null) {
+      compressed.finish();
+    }
+  }
+
+  private void writeLine(JsonGenerator generator, Message message) {
+    try {
+      objectWriter.writeValue(generator, MessageJsonWriter.of(message));
+      generator.writeRaw('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Tells whether an {@code Accept-Encoding} header value allows a gzip response.
+   *
+   * @param acceptEncoding the header value, may be {@code null}
+   * @return {@code true} if gzip is listed with a non-zero quality
+   */
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.split(";");
+      if (!parts[0].trim().toLowerCase(Locale.ROOT).equals("gzip")) {
+        continue;
+      }
+      for (int i = 1; i < parts.length; i++) {
+        String parameter = parts[i].trim().replace(" ", "");
+        if (parameter.matches("q=0(\\.0*)?")) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,49 @@
+package com.sandbox.api.presentation.controller;
+
+import com.sandbox.api.application.dto.ImportFormat;
+import com.sandbox.api.application.dto.ImportResult;
+import com.sandbox.api.application.usecase.ImportMessagesUseCase;
+import com.sandbox.api.presentation.dto.MessageMapper;
+import com.sandbox.api.presentation.generated.api.MessageImportApi;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.RestController;
+
+/** REST controller implementing the OpenAPI generated MessageImportApi interface. */
+@RestController
+public class MessageImportController implements MessageImportApi {
+
+  private final ImportMessagesUseCase importMessagesUseCase;
+  private final HttpServletRequest request;
+
+  /**
+   * Constructs a new MessageImportController.
+   *
+   * @param importMessagesUseCase use case for importing messages
+   * @param request the current request, used to tell NDJSON from CSV bodies
+   */
+  public MessageImportController(
+      ImportMessagesUseCase importMessagesUseCase, HttpServletRequest request) {
+    this.importMessagesUseCase = importMessagesUseCase;
+    this.request = request;
+  }
+
+  @Override
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<com.sandbox.api.presentation.generated.model.MessageImportResponse>
+      importMessages(InputStreamResource body) {
+    ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+    // The body is read straight from the request, so it is never buffered in full
+    try (InputStream input = body.getInputStream()) {
+      ImportResult result = importMessagesUseCase.execute(input, format);
+      return ResponseEntity.ok(MessageMapper.toImportResponse(result));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read import request body", e);
+    }
+  }
+}
@@ -1,5 +1,9 @@
 package com.sandbox.api.presentation.dto;
 
+import com.sandbox.api.application.dto.PublicSigningKey;
+import java.util.Base64;
+import java.util.List;
+
 /**
  * Mapper for converting between internal authentication DTOs and OpenAPI generated models.
  *
@@ -68,4 +72,31 @@ public class AuthMapper {
             internal.getRole().name()));
     return generated;
   }
+
+  /**
+   * Converts public signing keys to an OpenAPI generated JsonWebKeySet.
+   *
+   * @param keys the public keys
+   * @return generated JsonWebKeySet
+   */
+  public static com.sandbox.api.presentation.generated.model.JsonWebKeySet toGenerated(
+      List<PublicSigningKey> keys) {
+    com.sandbox.api.presentation.generated.model.JsonWebKeySet generated =
+        new com.sandbox.api.presentation.generated.model.JsonWebKeySet();
+    generated.setKeys(keys.stream().map(AuthMapper::toGenerated).toList());
+    return generated;
+  }
+
+  private static com.sandbox.api.presentation.generated.model.JsonWebKey toGenerated(
+      PublicSigningKey key) {
+    com.sandbox.api.presentation.generated.model.JsonWebKey generated =
+        new com.sandbox.api.presentation.generated.model.JsonWebKey();
+    generated.setKty("OKP");
+    generated.setCrv(key.getCurve());
+    generated.setX(Base64.getUrlEncoder().withoutPadding().encodeToString(key.getPublicKey()));
+    generated.setKid(key.getKeyId());
+    generated.setAlg(key.getAlgorithm());
+    generated.setUse("sig");
+    return generated;
+  }
 }
@@ -0,0 +1,150 @@
+package com.sandbox.api.presentation.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageField;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Cache of the JSON representation of each message, as UTF-8 bytes.
+ *
+ * <p>A message is serialized on its first read and the bytes are reused until its {@code updatedAt}
+ * changes, so no invalidation is needed: a stale entry simply fails the comparison and is replaced.
+ * Representations built by {@link #toResponse(Message)} are written by copying those bytes, and
+ * list pages built by {@link MessageMapper} concatenate them.
+ *
+ * <p>The cache is bounded by the approximate memory held by its entries. Hit, miss and eviction
+ * counts are published as {@code cache.*} metrics with {@code cache=messages.json}.
+ */
+@Component
+public class MessageJsonCache {
+
+  static final String CACHE_NAME = "messages.json";
+
+  private final ObjectMapper objectMapper;
+  private final Cache<Long, Entry> byId;
+
+  /**
+   * Constructs a new MessageJsonCache.
+   *
+   * @param objectMapper the application's JSON mapper, so that cached JSON matches other responses
+   * @param meterRegistry registry the cache statistics are published to
+   * @param maximumSize approximate maximum memory held by cached JSON
+   */
+  public MessageJsonCache(
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${messages.cache.json.maximum-size:32MB}") DataSize maximumSize) {
+    this.objectMapper = objectMapper;
+    this.byId =
+        Caffeine.newBuilder()
+            .maximumWeight(maximumSize.toBytes())
+            .weigher((Long id, Entry entry) -> entry.weight())
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, byId, CACHE_NAME);
+  }
+
+  /**
+   * Converts a message to a representation that is written from cached JSON.
+   *
+   * <p>If the response is encoded in a binary format instead, the message itself is written.
+   *
+   * @param message the message
+   * @return the representation of the whole message
+   */
+  public MessageRepresentation toResponse(Message message) {
+    return new MessageRepresentation(message, MessageField.ALL, json(message));
+  }
+
+  /**
+   * Converts the given fields of a message to a representation.
+   *
+   * <p>Whole messages are written from the cache. The JSON of a sparse fieldset is written when the
+   * response is serialized and is not cached, because the message may have been loaded partially.
+   *
+   * @param message the message
+   * @param fields the fields to write; the ID is always written
+   * @return a representation Jackson writes with only the given fields
+   */
+  public MessageRepresentation toResponse(Message message, Set<MessageField> fields) {
+    if (fields.containsAll(MessageField.ALL)) {
+      return toResponse(message);
+    }
+    return new MessageRepresentation(message, fields, null);
+  }
+
+  /**
+   * Writes a whole message, copying its cached JSON when the generator writes JSON text.
+   *
+   * <p>Binary generators (CBOR, Smile) cannot take raw JSON, so the message is written from the
+   * domain model for them and the cache is left untouched.
+   *
+   * @param message the message
+   * @param gen the generator to write to
+   * @param serializers the provider whose date-time serializer formats the timestamps
+   * @throws IOException if writing fails
+   */
+  void write(Message message, JsonGenerator gen, SerializerProvider serializers)
+      throws IOException {
+    if (MessageJsonWriter.writesJsonText(gen)) {
+      gen.writeRawValue(json(message));
+    } else {
+      MessageJsonWriter.write(message, gen, serializers);
+    }
+  }
+
+  /**
+   * Returns the JSON of a message, serializing it if it is not cached yet.
+   *
+   * @param message the message
+   * @return the JSON, already encoded as UTF-8
+   */
+  SerializedString json(Message message) {
+    Long id = message.getId();
+    LocalDateTime updatedAt = message.getUpdatedAt();
+    if (id == null || updatedAt == null) {
+      return serialize(message);
+    }
+    Entry cached = byId.getIfPresent(id);
+    if (cached != null && cached.updatedAt().equals(updatedAt)) {
+      return cached.json();
+    }
+    SerializedString json = serialize(message);
+    byId.put(id, new Entry(updatedAt, json));
+    return json;
+  }
+
+  private SerializedString serialize(Message message) {
+    try {
+      SerializedString json =
+          new SerializedString(objectMapper.writeValueAsString(MessageJsonWriter.of(message)));
+      // Encode now, so that every later write copies the same bytes
+      json.asUnquotedUTF8();
+      return json;
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize message " + message.getId(), e);
+    }
+  }
+
+  private record Entry(LocalDateTime updatedAt, SerializedString json) {
+
+    int weight() {
+      // The String (one byte per Latin-1 character) plus its UTF-8 encoding
+      return json.charLength() + json.asUnquotedUTF8().length;
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.sandbox.api.presentation.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageField;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Writes a message as JSON straight from the domain model.
+ *
+ * <p>The output has the same shape as the generated MessageResponse, but no internal or generated
+ * DTO is created. Only the timestamps are converted, and they are written with the provider's own
+ * serializer so that their format follows the application's Jackson configuration.
+ *
+ * <p>Given a sparse fieldset, only the listed properties and the ID are written.
+ */
+public final class MessageJsonWriter {
+
+  private MessageJsonWriter() {
+    // Utility class
+  }
+
+  /**
+   * Wraps a message so that Jackson writes it with {@link #write(Message, JsonGenerator,
+   * SerializerProvider)}.
+   *
+   * @param message the message
+   * @return a value Jackson can serialize
+   */
+  public static JsonSerializable of(Message message) {
+    return of(message, MessageField.ALL);
+  }
+
+  /**
+   * Wraps a message so that Jackson writes only the given fields of it.
+   *
+   * @param message the message
+   * @param fields the fields to write; the ID is always written
+   * @return a value Jackson can serialize
+   */
+  public static JsonSerializable of(Message message, Set<MessageField> fields) {
+    return new JsonSerializable.Base() {
+      @Override
+      public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        write(message, fields, gen, serializers);
+      }
+
+      @Override
+      public void serializeWithType(
+          JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+          throws IOException {
+        write(message, fields, gen, serializers);
+      }
+    };
+  }
+
+  /**
+   * Writes a message as a JSON object.
+   *
+   * @param message the message
+   * @param gen the generator to write to
+   * @param serializers the provider whose date-time serializer formats the timestamps
+   * @throws IOException if writing fails
+   */
+  public static void write(Message message, JsonGenerator gen, SerializerProvider serializers)
+      throws IOException {
+    write(message, MessageField.ALL, gen, serializers);
+  }
+
+  /**
+   * Writes the given fields of a message as a JSON object, in the order of the generated model.
+   *
+   * @param message the message
+   * @param fields the fields to write; the ID is always written
+   * @param gen the generator to write to
+   * @param serializers the provider whose date-time serializer formats the timestamps
+   * @throws IOException if writing fails
+   */
+  public static void write(
+      Message message, Set<MessageField> fields, JsonGenerator gen, SerializerProvider serializers)
+      throws IOException {
+    gen.writeStartObject();
+    gen.writeFieldName("id");
+    if (message.getId() == null) {
+      gen.writeNull();
+    } else {
+      gen.writeNumber(message.getId());
+    }
+    if (fields.contains(MessageField.CODE)) {
+      gen.writeStringField("code", message.getCode());
+    }
+    if (fields.contains(MessageField.CONTENT)) {
+      gen.writeStringField("content", message.getContent());
+    }
+    if (fields.contains(MessageField.CREATED_AT)) {
+      gen.writeFieldName("createdAt");
+      serializers.defaultSerializeValue(
+          MessageMapper.toOffsetDateTime(message.getCreatedAt()), gen);
+    }
+    if (fields.contains(MessageField.UPDATED_AT)) {
+      gen.writeFieldName("updatedAt");
+      serializers.defaultSerializeValue(
+          MessageMapper.toOffsetDateTime(message.getUpdatedAt()), gen);
+    }
+    gen.writeEndObject();
+  }
+
+  /**
+   * Tells whether a generator writes JSON text, so that JSON produced in advance can be copied into
+   * its output with {@link JsonGenerator#writeRawValue}.
+   *
+   * <p>Binary generators (CBOR, Smile) and token buffers do not accept raw JSON.
+   *
+   * @param gen the generator
+   * @return {@code true} if raw JSON can be written to it
+   */
+  static boolean writesJsonText(JsonGenerator gen) {
+    return gen instanceof JsonGeneratorImpl;
+  }
+}
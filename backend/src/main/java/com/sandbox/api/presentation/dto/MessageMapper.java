@@ -1,15 +1,31 @@
 package com.sandbox.api.presentation.dto;
 
+import com.sandbox.api.application.dto.BatchCreateResult;
+import com.sandbox.api.application.dto.BatchMessageItem;
+import com.sandbox.api.application.dto.ImportResult;
 import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageCursor;
+import com.sandbox.api.domain.model.MessageField;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Set;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 
 /** Mapper between generated OpenAPI DTOs and internal DTOs. */
 public class MessageMapper {
 
+  private static final ZoneId ZONE = ZoneId.systemDefault();
+
+  /** Offset of {@link #ZONE} if it never changes (such as UTC), so no zone rules are consulted. */
+  private static final ZoneOffset FIXED_OFFSET =
+      ZONE.getRules().isFixedOffset() ? ZONE.getRules().getOffset(Instant.EPOCH) : null;
+
   private MessageMapper() {
     // Utility class
   }
@@ -43,38 +59,155 @@ public class MessageMapper {
   }
 
   /**
-   * Converts a Page of Message to generated MessagePage.
+   * Converts a Slice of Message to a MessagePage.
+   *
+   * <p>Totals are only set when the slice is a {@link Page}; a plain slice (count mode {@code
+   * none}) only reports whether a next page exists.
    *
-   * @param page the page of messages
-   * @return generated MessagePage
+   * <p>The messages are not converted to response DTOs: the returned page writes each of them while
+   * it is being serialized, from {@code jsonCache} for whole messages.
+   *
+   * @param page the slice of messages
+   * @param fields the fields to write for each message
+   * @param jsonCache cache of the JSON written for each message
+   * @return the page
    */
-  public static com.sandbox.api.presentation.generated.model.MessagePage toMessagePage(
-      Page<Message> page) {
-    var messagePage = new com.sandbox.api.presentation.generated.model.MessagePage();
-
-    // Convert messages
-    List<com.sandbox.api.presentation.generated.model.MessageResponse> messages =
-        page.getContent().stream()
-            .map(MessageResponse::from)
-            .map(MessageMapper::toGenerated)
-            .toList();
-    messagePage.setContent(messages);
-
-    // Set page info
+  public static StreamedMessagePage toMessagePage(
+      Slice<Message> page, Set<MessageField> fields, MessageJsonCache jsonCache) {
     var pageInfo = new com.sandbox.api.presentation.generated.model.MessagePagePage();
     pageInfo.setSize(page.getSize());
     pageInfo.setNumber(page.getNumber());
-    pageInfo.setTotalElements(page.getTotalElements());
-    pageInfo.setTotalPages(page.getTotalPages());
-    messagePage.setPage(pageInfo);
+    if (page instanceof Page<Message> counted) {
+      pageInfo.setTotalElements(counted.getTotalElements());
+      pageInfo.setTotalPages(counted.getTotalPages());
+    }
+    pageInfo.setHasNext(page.hasNext());
+    if (page.hasNext() && page.getSort().isSorted()) {
+      MessageCursor next =
+          MessageCursor.of(page.getContent().getLast(), page.getSort().iterator().next());
+      pageInfo.setNextCursor(next.encode());
+    }
+
+    return new StreamedMessagePage(page.getContent(), writer(fields, jsonCache), pageInfo);
+  }
+
+  /**
+   * Converts a keyset Window of Message to a MessagePage.
+   *
+   * <p>Page number and totals are left unset because keyset pagination does not compute them.
+   *
+   * @param window the window of messages following {@code after}
+   * @param after the cursor the window was fetched with
+   * @param size the requested page size
+   * @param fields the fields to write for each message
+   * @param jsonCache cache of the JSON written for each message
+   * @return the page
+   */
+  public static StreamedMessagePage toMessagePage(
+      Window<Message> window,
+      MessageCursor after,
+      int size,
+      Set<MessageField> fields,
+      MessageJsonCache jsonCache) {
+    var pageInfo = new com.sandbox.api.presentation.generated.model.MessagePagePage();
+    pageInfo.setSize(size);
+    pageInfo.setHasNext(window.hasNext());
+    if (window.hasNext()) {
+      pageInfo.setNextCursor(after.next(window.getContent().getLast()).encode());
+    }
 
-    return messagePage;
+    return new StreamedMessagePage(window.getContent(), writer(fields, jsonCache), pageInfo);
   }
 
-  private static OffsetDateTime toOffsetDateTime(LocalDateTime localDateTime) {
+  /** Whole messages are copied from the cache; partially loaded ones must never be cached. */
+  private static StreamedMessagePage.MessageWriter writer(
+      Set<MessageField> fields, MessageJsonCache jsonCache) {
+    if (fields.containsAll(MessageField.ALL)) {
+      return jsonCache::write;
+    }
+    return (message, gen, serializers) ->
+        MessageJsonWriter.write(message, fields, gen, serializers);
+  }
+
+  /**
+   * Converts generated MessageBatchRequest to batch items.
+   *
+   * @param generated the generated MessageBatchRequest
+   * @return batch items in request order
+   */
+  public static List<BatchMessageItem> toBatchItems(
+      com.sandbox.api.presentation.generated.model.MessageBatchRequest generated) {
+    return generated.getMessages().stream()
+        .map(message -> new BatchMessageItem(message.getCode(), message.getContent()))
+        .toList();
+  }
+
+  /**
+   * Converts batch results to generated MessageBatchResponse.
+   *
+   * @param results one result per requested item
+   * @return generated MessageBatchResponse
+   */
+  public static com.sandbox.api.presentation.generated.model.MessageBatchResponse toBatchResponse(
+      List<BatchCreateResult> results) {
+    var response = new com.sandbox.api.presentation.generated.model.MessageBatchResponse();
+    int created = 0;
+    for (BatchCreateResult result : results) {
+      var item = new com.sandbox.api.presentation.generated.model.MessageBatchResult();
+      item.setIndex(result.getIndex());
+      item.setStatus(
+          com.sandbox.api.presentation.generated.model.MessageBatchResult.StatusEnum.valueOf(
+              result.getStatus().name()));
+      if (result.getMessage() != null) {
+        item.setMessage(toGenerated(MessageResponse.from(result.getMessage())));
+        created++;
+      }
+      item.setError(result.getError());
+      response.addResultsItem(item);
+    }
+    response.setCreated(created);
+    response.setFailed(results.size() - created);
+    return response;
+  }
+
+  /**
+   * Converts an import result to generated MessageImportResponse.
+   *
+   * @param result the import result
+   * @return generated MessageImportResponse
+   */
+  public static com.sandbox.api.presentation.generated.model.MessageImportResponse toImportResponse(
+      ImportResult result) {
+    var response = new com.sandbox.api.presentation.generated.model.MessageImportResponse();
+    response.setReceived(result.getReceived());
+    response.setImported(result.getImported());
+    response.setRejected(result.getRejected());
+    response.setInvalid(result.getInvalid());
+    response.setDuplicates(result.getDuplicates());
+    response.setDurationMillis(result.getDurationMillis());
+    response.setRowsPerSecond(result.getRowsPerSecond());
+    for (ImportResult.RejectedLine rejected : result.getErrors()) {
+      var error = new com.sandbox.api.presentation.generated.model.MessageImportError();
+      error.setLine(rejected.getLine());
+      error.setReason(rejected.getReason());
+      response.addErrorsItem(error);
+    }
+    return response;
+  }
+
+  /**
+   * Converts a database timestamp, which is in the JVM's time zone, to an offset date-time.
+   *
+   * @param localDateTime the timestamp, may be {@code null}
+   * @return the timestamp with its offset, or {@code null}
+   */
+  static OffsetDateTime toOffsetDateTime(LocalDateTime localDateTime) {
     if (localDateTime == null) {
       return null;
     }
-    return localDateTime.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    if (FIXED_OFFSET != null) {
+      return OffsetDateTime.of(localDateTime, FIXED_OFFSET);
+    }
+    return localDateTime.atZone(ZONE).toOffsetDateTime();
   }
 }
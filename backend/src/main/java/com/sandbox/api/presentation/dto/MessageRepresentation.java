@@ -0,0 +1,55 @@
+package com.sandbox.api.presentation.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageField;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * A message as returned by the read endpoints, the {@code MessageRepresentation} schema.
+ *
+ * <p>Jackson writes the message straight from the domain model, so no DTO is created. A whole
+ * message is copied from JSON produced in advance when the response is JSON text. Binary encodings
+ * such as CBOR cannot embed JSON text, so for them, and for sparse fieldsets, the message is
+ * written property by property instead.
+ */
+public final class MessageRepresentation implements JsonSerializable {
+
+  private final Message message;
+  private final Set<MessageField> fields;
+  private final SerializableString json;
+
+  /**
+   * Constructs a new MessageRepresentation.
+   *
+   * @param message the message
+   * @param fields the fields to write; the ID is always written
+   * @param json the JSON of the whole message, or {@code null} to write it property by property
+   */
+  MessageRepresentation(Message message, Set<MessageField> fields, SerializableString json) {
+    this.message = message;
+    this.fields = fields;
+    this.json = json;
+  }
+
+  @Override
+  public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+    if (json != null && MessageJsonWriter.writesJsonText(gen)) {
+      gen.writeRawValue(json);
+    } else {
+      MessageJsonWriter.write(message, fields, gen, serializers);
+    }
+  }
+
+  @Override
+  public void serializeWithType(
+      JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+      throws IOException {
+    serialize(gen, serializers);
+  }
+}
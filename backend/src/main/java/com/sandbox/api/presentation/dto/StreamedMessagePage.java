@@ -0,0 +1,68 @@
+package com.sandbox.api.presentation.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.sandbox.api.domain.model.Message;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A page of messages as returned by the list endpoint, the {@code MessagePage} schema.
+ *
+ * <p>Each message is written by a {@link MessageWriter} while the page is serialized, so no list of
+ * response DTOs is built.
+ */
+public final class StreamedMessagePage implements JsonSerializable {
+
+  /** Writes one message of the page as a JSON value. */
+  @FunctionalInterface
+  interface MessageWriter {
+    void write(Message message, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException;
+  }
+
+  private final List<Message> messages;
+  private final MessageWriter writer;
+  private final com.sandbox.api.presentation.generated.model.MessagePagePage page;
+
+  StreamedMessagePage(
+      List<Message> messages,
+      MessageWriter writer,
+      com.sandbox.api.presentation.generated.model.MessagePagePage pageInfo) {
+    this.messages = messages;
+    this.writer = writer;
+    this.page = pageInfo;
+  }
+
+  /**
+   * Returns the pagination information written after the messages.
+   *
+   * @return the pagination information
+   */
+  public com.sandbox.api.presentation.generated.model.MessagePagePage getPage() {
+    return page;
+  }
+
+  @Override
+  public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+    gen.writeStartObject();
+    gen.writeFieldName("content");
+    gen.writeStartArray();
+    for (Message message : messages) {
+      writer.write(message, gen, serializers);
+    }
+    gen.writeEndArray();
+    gen.writeFieldName("page");
+    serializers.defaultSerializeValue(page, gen);
+    gen.writeEndObject();
+  }
+
+  @Override
+  public void serializeWithType(
+      JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+      throws IOException {
+    serialize(gen, serializers);
+  }
+}
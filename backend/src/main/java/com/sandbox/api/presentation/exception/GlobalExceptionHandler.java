@@ -1,14 +1,18 @@
 package com.sandbox.api.presentation.exception;
 
+import com.sandbox.api.application.exception.RateLimitExceededException;
+import com.sandbox.api.application.exception.ServiceOverloadedException;
 import com.sandbox.api.domain.exception.DuplicateMessageCodeException;
 import com.sandbox.api.domain.exception.MessageNotFoundException;
 import com.sandbox.api.presentation.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +35,11 @@ public class GlobalExceptionHandler {
     return value.replace('\n', ' ').replace('\r', ' ');
   }
 
+  /** Retry-After is in whole seconds; round up so clients never retry too early. */
+  private static String retryAfterSeconds(Duration retryAfter) {
+    return String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+  }
+
   private static final String ERROR_TYPE_BASE_URI = "https://api.example.com/errors";
   private static final MediaType PROBLEM_JSON =
       MediaType.parseMediaType("application/problem+json");
@@ -165,6 +174,70 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.FORBIDDEN).contentType(PROBLEM_JSON).body(error);
   }
 
+  /**
+   * Handles ServiceOverloadedException and returns a 503 response with {@code Retry-After} in RFC
+   * 7807 format.
+   *
+   * @param ex the exception
+   * @param request the HTTP request
+   * @return response entity with RFC 7807 error details
+   */
+  @ExceptionHandler(ServiceOverloadedException.class)
+  public ResponseEntity<ErrorResponse> handleServiceOverloaded(
+      ServiceOverloadedException ex, HttpServletRequest request) {
+    LOGGER.warn(
+        "Rejected request to URI: {} - {}",
+        sanitizeForLog(request.getRequestURI()),
+        ex.getMessage());
+
+    ErrorResponse error =
+        ErrorResponse.builder()
+            .type(ERROR_TYPE_BASE_URI + "/service-unavailable")
+            .title("Service Unavailable")
+            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .detail(ex.getMessage())
+            .instance(request.getRequestURI())
+            .timestamp(LocalDateTime.now())
+            .build();
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(ex.getRetryAfter()))
+        .contentType(PROBLEM_JSON)
+        .body(error);
+  }
+
+  /**
+   * Handles RateLimitExceededException and returns a 429 response with {@code Retry-After} in RFC
+   * 7807 format.
+   *
+   * @param ex the exception
+   * @param request the HTTP request
+   * @return response entity with RFC 7807 error details
+   */
+  @ExceptionHandler(RateLimitExceededException.class)
+  public ResponseEntity<ErrorResponse> handleRateLimitExceeded(
+      RateLimitExceededException ex, HttpServletRequest request) {
+    LOGGER.warn(
+        "Rate limited request to URI: {} - {}",
+        sanitizeForLog(request.getRequestURI()),
+        ex.getMessage());
+
+    ErrorResponse error =
+        ErrorResponse.builder()
+            .type(ERROR_TYPE_BASE_URI + "/too-many-requests")
+            .title("Too Many Requests")
+            .status(HttpStatus.TOO_MANY_REQUESTS.value())
+            .detail(ex.getMessage())
+            .instance(request.getRequestURI())
+            .timestamp(LocalDateTime.now())
+            .build();
+
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(ex.getRetryAfter()))
+        .contentType(PROBLEM_JSON)
+        .body(error);
+  }
+
   /**
    * Handles validation errors and returns a 400 response in RFC 7807 format with field-specific
    * error details.
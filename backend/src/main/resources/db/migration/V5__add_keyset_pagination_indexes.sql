@@ -0,0 +1,11 @@
+-- Composite indexes backing keyset (cursor) pagination on GET /api/messages.
+-- Each index matches an "ORDER BY <sort_key>, id" in either direction, so the
+-- "(sort_key, id) > (?, ?)" seek predicate starts reading at the cursor instead of
+-- scanning and discarding earlier rows.
+CREATE INDEX idx_messages_created_at_id ON messages(created_at, id);
+CREATE INDEX idx_messages_updated_at_id ON messages(updated_at, id);
+CREATE INDEX idx_messages_code_id ON messages(code, id);
+CREATE INDEX idx_messages_content_id ON messages(content, id);
+
+-- Superseded by idx_messages_created_at_id, which also serves descending scans.
+DROP INDEX idx_messages_created_at;
@@ -0,0 +1,10 @@
+-- Staging table for POST /api/messages/import.
+-- Rows are streamed in with COPY, merged into messages and deleted again within a
+-- single transaction, so concurrent imports never see each other's rows. The table
+-- is UNLOGGED because its contents never need to survive a crash, which keeps the
+-- bulk load out of the write-ahead log.
+CREATE UNLOGGED TABLE message_import_staging (
+    position BIGINT NOT NULL,
+    code TEXT NOT NULL,
+    content TEXT NOT NULL
+);
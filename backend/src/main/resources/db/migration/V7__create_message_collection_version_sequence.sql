@@ -0,0 +1,5 @@
+-- Version of the messages collection as a whole, used to answer conditional GETs of
+-- GET /api/messages without querying the messages table. The application advances it
+-- after every committed write. A sequence is used rather than a counter row because
+-- nextval never blocks and never rolls back, so concurrent writers do not serialize on it.
+CREATE SEQUENCE message_collection_version_seq;
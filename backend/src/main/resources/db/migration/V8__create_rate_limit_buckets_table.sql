@@ -0,0 +1,13 @@
+-- Token buckets of the authentication rate limiter, used when security.rate-limit.store
+-- is postgres so that all instances share one allowance per client and username.
+-- full_at is when the bucket will have refilled completely; from then on the row
+-- behaves exactly like a missing one and is purged. The table is UNLOGGED because
+-- losing the buckets in a crash only resets the allowances.
+CREATE UNLOGGED TABLE rate_limit_buckets (
+    bucket_key VARCHAR(255) PRIMARY KEY,
+    tokens DOUBLE PRECISION NOT NULL,
+    refilled_at TIMESTAMPTZ NOT NULL,
+    full_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_rate_limit_buckets_full_at ON rate_limit_buckets(full_at);
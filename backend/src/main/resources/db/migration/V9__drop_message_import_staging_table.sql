@@ -0,0 +1,5 @@
+-- POST /api/messages/import now stages its rows in a temporary table created by each
+-- import transaction and dropped at commit. A shared staging table let concurrent
+-- imports wait on and see each other's rows, and was bloated by the DELETE that
+-- cleared it after every import.
+DROP TABLE message_import_staging;
@@ -0,0 +1,33 @@
+package com.sandbox.api.application.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class CountModeTest {
+
+  @Test
+  void fromValue_withLowerCaseName_returnsMode() {
+    assertThat(CountMode.fromValue("estimated")).isEqualTo(CountMode.ESTIMATED);
+  }
+
+  @Test
+  void fromValue_withMixedCaseName_returnsMode() {
+    assertThat(CountMode.fromValue("None")).isEqualTo(CountMode.NONE);
+  }
+
+  @Test
+  void fromValue_withUnknownName_throwsException() {
+    assertThatThrownBy(() -> CountMode.fromValue("approximate"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid count mode: approximate");
+  }
+
+  @Test
+  void fromValue_withBlankName_throwsException() {
+    assertThatThrownBy(() -> CountMode.fromValue(" "))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Count mode cannot be null or blank");
+  }
+}
@@ -0,0 +1,26 @@
+package com.sandbox.api.application.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class ImportFormatTest {
+
+  @Test
+  void fromContentType_withNdjson_returnsNdjson() {
+    assertThat(ImportFormat.fromContentType("application/x-ndjson")).isEqualTo(ImportFormat.NDJSON);
+  }
+
+  @Test
+  void fromContentType_withCharsetParameter_ignoresParameter() {
+    assertThat(ImportFormat.fromContentType("Text/CSV; charset=UTF-8")).isEqualTo(ImportFormat.CSV);
+  }
+
+  @Test
+  void fromContentType_withJson_throwsException() {
+    assertThatThrownBy(() -> ImportFormat.fromContentType("application/json"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Unsupported import format: application/json");
+  }
+}
@@ -0,0 +1,117 @@
+package com.sandbox.api.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.sandbox.api.application.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuthAttemptLimiterTest {
+
+  private static final Duration MINUTE = Duration.ofMinutes(1);
+
+  @Mock private RateLimiter rateLimiter;
+
+  private SimpleMeterRegistry meterRegistry;
+  private AuthAttemptLimiter limiter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    limiter = new AuthAttemptLimiter(rateLimiter, meterRegistry, true, 20, MINUTE, 5, MINUTE);
+  }
+
+  @Test
+  void checkLogin_withinBothLimits_takesClientAndUsernameTokens() {
+    // Arrange
+    when(rateLimiter.tryAcquire(any(), anyInt(), any())).thenReturn(Duration.ZERO);
+
+    // Act
+    limiter.checkLogin("192.0.2.1", "Admin");
+
+    // Assert
+    verify(rateLimiter).tryAcquire("auth:client:192.0.2.1", 20, MINUTE);
+    verify(rateLimiter).tryAcquire("auth:username:admin", 5, MINUTE);
+  }
+
+  @Test
+  void checkLogin_whenClientLimited_throwsWithoutTakingUsernameToken() {
+    // Arrange
+    when(rateLimiter.tryAcquire("auth:client:192.0.2.1", 20, MINUTE))
+        .thenReturn(Duration.ofSeconds(3));
+
+    // Act & Assert
+    assertThatThrownBy(() -> limiter.checkLogin("192.0.2.1", "admin"))
+        .isInstanceOf(RateLimitExceededException.class)
+        .satisfies(
+            e ->
+                assertThat(((RateLimitExceededException) e).getRetryAfter())
+                    .isEqualTo(Duration.ofSeconds(3)));
+    verify(rateLimiter, never()).tryAcquire(eq("auth:username:admin"), anyInt(), any());
+    assertThat(rejected("client")).isEqualTo(1);
+  }
+
+  @Test
+  void checkLogin_whenUsernameLimited_throws() {
+    // Arrange
+    when(rateLimiter.tryAcquire("auth:client:192.0.2.1", 20, MINUTE)).thenReturn(Duration.ZERO);
+    when(rateLimiter.tryAcquire("auth:username:admin", 5, MINUTE))
+        .thenReturn(Duration.ofSeconds(12));
+
+    // Act & Assert
+    assertThatThrownBy(() -> limiter.checkLogin("192.0.2.1", "admin"))
+        .isInstanceOf(RateLimitExceededException.class);
+    assertThat(rejected("username")).isEqualTo(1);
+    assertThat(rejected("client")).isZero();
+  }
+
+  @Test
+  void checkRefresh_takesOnlyClientToken() {
+    // Arrange
+    when(rateLimiter.tryAcquire("auth:client:192.0.2.1", 20, MINUTE))
+        .thenReturn(Duration.ofSeconds(1));
+
+    // Act & Assert
+    assertThatThrownBy(() -> limiter.checkRefresh("192.0.2.1"))
+        .isInstanceOf(RateLimitExceededException.class);
+  }
+
+  @Test
+  void checkLogin_whenDisabled_neverConsultsRateLimiter() {
+    // Arrange
+    AuthAttemptLimiter disabled =
+        new AuthAttemptLimiter(rateLimiter, meterRegistry, false, 20, MINUTE, 5, MINUTE);
+
+    // Act
+    disabled.checkLogin("192.0.2.1", "admin");
+    disabled.checkRefresh("192.0.2.1");
+
+    // Assert
+    verifyNoInteractions(rateLimiter);
+  }
+
+  @Test
+  void constructor_withZeroCapacity_throws() {
+    assertThatThrownBy(
+            () -> new AuthAttemptLimiter(rateLimiter, meterRegistry, true, 0, MINUTE, 5, MINUTE))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private double rejected(String bucket) {
+    return meterRegistry.get("auth.rate-limit.rejected").tag("bucket", bucket).counter().count();
+  }
+}
@@ -0,0 +1,59 @@
+package com.sandbox.api.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sandbox.api.domain.repository.MessageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class MessageCollectionVersionTest {
+
+  @Mock private MessageRepository messageRepository;
+  @InjectMocks private MessageCollectionVersion collectionVersion;
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void get_readsVersionFromRepository() {
+    when(messageRepository.findCollectionVersion()).thenReturn(7L);
+
+    assertThat(collectionVersion.get()).isEqualTo(7L);
+  }
+
+  @Test
+  void advance_withoutTransaction_advancesImmediately() {
+    collectionVersion.advance();
+
+    verify(messageRepository).advanceCollectionVersion();
+  }
+
+  @Test
+  void advance_withinTransaction_waitsForCommit() {
+    // Arrange
+    TransactionSynchronizationManager.initSynchronization();
+
+    // Act
+    collectionVersion.advance();
+
+    // Assert
+    verify(messageRepository, never()).advanceCollectionVersion();
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    verify(messageRepository).advanceCollectionVersion();
+  }
+}
@@ -0,0 +1,119 @@
+package com.sandbox.api.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sandbox.api.domain.repository.MessageRepository;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class MessageCountCacheTest {
+
+  @Mock private MessageRepository messageRepository;
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void get_onFirstCall_loadsExactCount() {
+    // Arrange
+    when(messageRepository.count()).thenReturn(10L);
+    MessageCountCache cache = new MessageCountCache(messageRepository, Duration.ofMinutes(1));
+
+    // Act
+    long first = cache.get();
+    long second = cache.get();
+
+    // Assert
+    assertThat(first).isEqualTo(10L);
+    assertThat(second).isEqualTo(10L);
+    verify(messageRepository, times(1)).count();
+  }
+
+  @Test
+  void get_whenStale_reloadsExactCount() {
+    when(messageRepository.count()).thenReturn(10L, 12L);
+    MessageCountCache cache = new MessageCountCache(messageRepository, Duration.ZERO);
+    cache.get();
+
+    assertThat(cache.get()).isEqualTo(12L);
+  }
+
+  @Test
+  void incrementAndDecrement_withoutTransaction_applyImmediately() {
+    when(messageRepository.count()).thenReturn(10L);
+    MessageCountCache cache = new MessageCountCache(messageRepository, Duration.ofMinutes(1));
+    cache.get();
+
+    cache.increment();
+    cache.increment();
+    cache.decrement();
+
+    assertThat(cache.get()).isEqualTo(11L);
+  }
+
+  @Test
+  void incrementBy_addsCreatedCount() {
+    when(messageRepository.count()).thenReturn(10L);
+    MessageCountCache cache = new MessageCountCache(messageRepository, Duration.ofMinutes(1));
+    cache.get();
+
+    cache.incrementBy(5);
+
+    assertThat(cache.get()).isEqualTo(15L);
+  }
+
+  @Test
+  void increment_withinTransaction_appliesOnlyAfterCommit() {
+    // Arrange
+    when(messageRepository.count()).thenReturn(10L);
+    MessageCountCache cache = new MessageCountCache(messageRepository, Duration.ofMinutes(1));
+    cache.get();
+    TransactionSynchronizationManager.initSynchronization();
+
+    // Act
+    cache.increment();
+
+    // Assert
+    assertThat(cache.get()).isEqualTo(10L);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    assertThat(cache.get()).isEqualTo(11L);
+  }
+
+  @Test
+  void decrement_belowZero_neverReturnsNegativeCount() {
+    when(messageRepository.count()).thenReturn(0L);
+    MessageCountCache cache = new MessageCountCache(messageRepository, Duration.ofMinutes(1));
+    cache.get();
+
+    cache.decrement();
+
+    assertThat(cache.get()).isZero();
+  }
+
+  @Test
+  void invalidate_forcesReloadOnNextGet() {
+    when(messageRepository.count()).thenReturn(10L, 20L);
+    MessageCountCache cache = new MessageCountCache(messageRepository, Duration.ofMinutes(1));
+    cache.get();
+
+    cache.invalidate();
+
+    assertThat(cache.get()).isEqualTo(20L);
+    verify(messageRepository, times(2)).count();
+  }
+}
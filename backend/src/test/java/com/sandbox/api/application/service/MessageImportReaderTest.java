@@ -0,0 +1,178 @@
+package com.sandbox.api.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.sandbox.api.application.dto.ImportFormat;
+import com.sandbox.api.application.dto.ImportResult.RejectedLine;
+import com.sandbox.api.domain.model.Message;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MessageImportReaderTest {
+
+  @Test
+  void next_withNdjson_readsOneMessagePerLine() {
+    // Arrange
+    MessageImportReader reader =
+        reader(
+            ImportFormat.NDJSON,
+            "{\"code\":\"a\",\"content\":\"First\"}\n"
+                + "\n"
+                + "{\"content\":\"Second\",\"code\":\"b\"}\r\n");
+
+    // Act
+    List<Message> messages = readAll(reader);
+
+    // Assert
+    assertThat(messages).extracting(Message::getCode).containsExactly("a", "b");
+    assertThat(messages).extracting(Message::getContent).containsExactly("First", "Second");
+    assertThat(reader.getReceived()).isEqualTo(2);
+    assertThat(reader.getInvalid()).isZero();
+  }
+
+  @Test
+  void next_withInvalidNdjsonLines_skipsAndReportsThem() {
+    // Arrange
+    MessageImportReader reader =
+        reader(
+            ImportFormat.NDJSON,
+            "not json\n"
+                + "[1, 2]\n"
+                + "{\"code\":1,\"content\":\"x\"}\n"
+                + "{\"code\":\"ok\",\"content\":\"Valid\"}\n"
+                + "{\"code\":\"\",\"content\":\"x\"}\n");
+
+    // Act
+    List<Message> messages = readAll(reader);
+
+    // Assert
+    assertThat(messages).extracting(Message::getCode).containsExactly("ok");
+    assertThat(reader.getReceived()).isEqualTo(5);
+    assertThat(reader.getInvalid()).isEqualTo(4);
+    assertThat(reader.getErrors())
+        .extracting(RejectedLine::getLine, RejectedLine::getReason)
+        .containsExactly(
+            tuple(1L, "Malformed JSON"),
+            tuple(2L, "Line must be a JSON object"),
+            tuple(3L, "Field 'code' must be a string"),
+            tuple(5L, "Code cannot be null or blank"));
+  }
+
+  @Test
+  void next_withCsv_unquotesFieldsAndFollowsHeaderOrder() {
+    // Arrange
+    MessageImportReader reader =
+        reader(
+            ImportFormat.CSV,
+            "\uFEFFcontent,code\r\n"
+                + "\"Hello, \"\"world\"\"\",greeting\r\n"
+                + "\"Two\nlines\",multi\r\n"
+                + "plain,simple\r\n");
+
+    // Act
+    List<Message> messages = readAll(reader);
+
+    // Assert
+    assertThat(messages)
+        .extracting(Message::getCode)
+        .containsExactly("greeting", "multi", "simple");
+    assertThat(messages)
+        .extracting(Message::getContent)
+        .containsExactly("Hello, \"world\"", "Two\nlines", "plain");
+    assertThat(reader.getReceived()).isEqualTo(3);
+  }
+
+  @Test
+  void next_withShortCsvRecord_reportsLineNumberAfterQuotedLineBreak() {
+    MessageImportReader reader =
+        reader(ImportFormat.CSV, "code,content\n" + "a,\"x\ny\"\n" + "only-code\n");
+
+    List<Message> messages = readAll(reader);
+
+    assertThat(messages).extracting(Message::getCode).containsExactly("a");
+    assertThat(reader.getErrors()).hasSize(1);
+    assertThat(reader.getErrors().getFirst().getLine()).isEqualTo(4L);
+    assertThat(reader.getErrors().getFirst().getReason())
+        .isEqualTo("Expected 2 columns but found 1");
+  }
+
+  @Test
+  void hasNext_withCsvMissingHeaderColumns_throwsException() {
+    MessageImportReader reader = reader(ImportFormat.CSV, "id,text\n1,Hello\n");
+
+    assertThatThrownBy(reader::hasNext)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("CSV header must name the 'code' and 'content' columns");
+  }
+
+  @Test
+  void next_withOverlongRecord_rejectsItWithoutFailingLaterRecords() {
+    // Arrange
+    String overlong = "x".repeat(MessageImportReader.MAX_RECORD_LENGTH + 1);
+    MessageImportReader reader =
+        reader(ImportFormat.NDJSON, overlong + "\n{\"code\":\"a\",\"content\":\"After\"}\n");
+
+    // Act
+    List<Message> messages = readAll(reader);
+
+    // Assert
+    assertThat(messages).extracting(Message::getCode).containsExactly("a");
+    assertThat(reader.getInvalid()).isEqualTo(1);
+  }
+
+  @Test
+  void next_withContentLongerThanColumn_rejectsItAndReportsLine() {
+    // Arrange
+    String tooLong = "x".repeat(MessageImportReader.MAX_STORED_CONTENT_LENGTH + 1);
+    // 255 characters but 455 UTF-16 units, which the column still stores
+    String fits = "\uD83D\uDE00".repeat(200) + "x".repeat(55);
+    MessageImportReader reader =
+        reader(ImportFormat.CSV, "code,content\na," + tooLong + "\nb," + fits + "\n");
+
+    // Act
+    List<Message> messages = readAll(reader);
+
+    // Assert
+    assertThat(messages).extracting(Message::getCode).containsExactly("b");
+    assertThat(reader.getErrors())
+        .extracting(RejectedLine::getLine, RejectedLine::getReason)
+        .containsExactly(tuple(2L, "Content must be 255 characters or less"));
+  }
+
+  @Test
+  void next_withManyInvalidRecords_keepsOnlyFirstErrors() {
+    MessageImportReader reader =
+        new MessageImportReader(
+            new ByteArrayInputStream("bad\nbad\nbad\n".getBytes(StandardCharsets.UTF_8)),
+            ImportFormat.NDJSON,
+            2);
+
+    readAll(reader);
+
+    assertThat(reader.getInvalid()).isEqualTo(3);
+    assertThat(reader.getErrors()).extracting(RejectedLine::getLine).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void parseCsvRecord_withUnterminatedQuote_throwsException() {
+    assertThatThrownBy(() -> MessageImportReader.parseCsvRecord("a,\"b"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Unterminated quoted field");
+  }
+
+  private static MessageImportReader reader(ImportFormat format, String input) {
+    return new MessageImportReader(
+        new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), format, 100);
+  }
+
+  private static List<Message> readAll(MessageImportReader reader) {
+    List<Message> messages = new ArrayList<>();
+    reader.forEachRemaining(messages::add);
+    return messages;
+  }
+}
@@ -0,0 +1,112 @@
+package com.sandbox.api.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelQueryRunnerTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private ParallelQueryRunner runner;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    runner = new ParallelQueryRunner(meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    runner.destroy();
+  }
+
+  @Test
+  void run_withTwoQueries_returnsBothResults() {
+    // Act
+    ParallelQueryRunner.Results<String, Long> results = runner.run("test", () -> "page", () -> 7L);
+
+    // Assert
+    assertThat(results.first()).isEqualTo("page");
+    assertThat(results.second()).isEqualTo(7L);
+  }
+
+  @Test
+  void run_withBlockingQueries_overlapsThem() {
+    // Arrange: each query only completes once the other one has started
+    CountDownLatch bothStarted = new CountDownLatch(2);
+
+    // Act
+    ParallelQueryRunner.Results<Boolean, Boolean> results =
+        runner.run("test", () -> awaitSibling(bothStarted), () -> awaitSibling(bothStarted));
+
+    // Assert
+    assertThat(results.first()).isTrue();
+    assertThat(results.second()).isTrue();
+  }
+
+  @Test
+  void run_whenOneQueryFails_cancelsSiblingAndRethrows() throws Exception {
+    // Arrange
+    CountDownLatch siblingStarted = new CountDownLatch(1);
+    CountDownLatch siblingInterrupted = new CountDownLatch(1);
+
+    // Act & Assert
+    assertThatThrownBy(
+            () ->
+                runner.run(
+                    "test",
+                    () -> {
+                      siblingStarted.countDown();
+                      try {
+                        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                      } catch (InterruptedException e) {
+                        siblingInterrupted.countDown();
+                      }
+                      return "never";
+                    },
+                    () -> {
+                      siblingStarted.await();
+                      throw new IllegalStateException("count failed");
+                    }))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("count failed");
+    assertThat(siblingInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void run_withCheckedException_wrapsInIllegalStateException() {
+    assertThatThrownBy(
+            () ->
+                runner.run(
+                    "test",
+                    () -> "page",
+                    () -> {
+                      throw new Exception("checked");
+                    }))
+        .isInstanceOf(IllegalStateException.class)
+        .hasRootCauseMessage("checked");
+  }
+
+  @Test
+  void run_recordsOverlapTimers() {
+    runner.run("test", () -> "page", () -> 1L);
+
+    assertThat(meterRegistry.get("parallel.query.wall").tag("operation", "test").timer().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("parallel.query.serial").tag("operation", "test").timer().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("parallel.query.saved").tag("operation", "test").timer().count())
+        .isEqualTo(1);
+  }
+
+  private static boolean awaitSibling(CountDownLatch bothStarted) throws InterruptedException {
+    bothStarted.countDown();
+    return bothStarted.await(5, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,105 @@
+package com.sandbox.api.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sandbox.api.application.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordVerifierTest {
+
+  private final CountDownLatch hashing = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  private SimpleMeterRegistry meterRegistry;
+  private PasswordVerifier verifier;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    verifier = new PasswordVerifier(new GatedEncoder(), meterRegistry, 1, 1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    verifier.destroy();
+  }
+
+  @Test
+  void matches_delegatesToEncoder() {
+    // Arrange
+    release.countDown();
+
+    // Act & Assert
+    assertThat(verifier.matches("secret", "hash:secret")).isTrue();
+    assertThat(verifier.matches("wrong", "hash:secret")).isFalse();
+  }
+
+  @Test
+  void matches_recordsQueueWaitAndHashTime() {
+    // Arrange
+    release.countDown();
+
+    // Act
+    verifier.matches("secret", "hash:secret");
+
+    // Assert
+    assertThat(meterRegistry.get("auth.password.queue.wait").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("auth.password.hash").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void matches_whenQueueIsFull_rejectsImmediately() throws Exception {
+    // Arrange: one verification hashing on the only worker, one waiting in the only queue slot
+    Thread running = Thread.ofVirtual().start(() -> verifier.matches("secret", "hash:secret"));
+    assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+    Thread queued = Thread.ofVirtual().start(() -> verifier.matches("secret", "hash:secret"));
+    while (meterRegistry.get("auth.password.queue.size").gauge().value() < 1) {
+      Thread.onSpinWait();
+    }
+
+    // Act & Assert
+    assertThatThrownBy(() -> verifier.matches("secret", "hash:secret"))
+        .isInstanceOf(ServiceOverloadedException.class)
+        .satisfies(e -> assertThat(((ServiceOverloadedException) e).getRetryAfter()).isPositive());
+    assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1);
+
+    release.countDown();
+    running.join();
+    queued.join();
+    assertThat(meterRegistry.get("auth.password.hash").timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  void constructor_withNegativeQueueCapacity_throws() {
+    assertThatThrownBy(() -> new PasswordVerifier(new GatedEncoder(), meterRegistry, 1, -1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /** Encoder whose hashes are "hash:" + password and which blocks until released. */
+  private class GatedEncoder implements PasswordEncoder {
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      return "hash:" + rawPassword;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      hashing.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return encode(rawPassword).equals(encodedPassword);
+    }
+  }
+}
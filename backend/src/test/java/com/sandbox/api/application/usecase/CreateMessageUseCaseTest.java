@@ -3,13 +3,17 @@ package com.sandbox.api.application.usecase;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.sandbox.api.application.service.MessageCollectionVersion;
+import com.sandbox.api.application.service.MessageCountCache;
 import com.sandbox.api.domain.exception.DuplicateMessageCodeException;
 import com.sandbox.api.domain.model.Message;
 import com.sandbox.api.domain.repository.MessageRepository;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -19,6 +23,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class CreateMessageUseCaseTest {
   @Mock private MessageRepository messageRepository;
+  @Mock private MessageCountCache messageCountCache;
+  @Mock private MessageCollectionVersion messageCollectionVersion;
   @InjectMocks private CreateMessageUseCase useCase;
 
   @Test
@@ -34,8 +40,8 @@ class CreateMessageUseCaseTest {
             .createdAt(LocalDateTime.now())
             .updatedAt(LocalDateTime.now())
             .build();
-    when(messageRepository.existsByCode(code)).thenReturn(false);
-    when(messageRepository.save(any(Message.class))).thenReturn(savedMessage);
+    when(messageRepository.insertIfCodeAbsent(any(Message.class)))
+        .thenReturn(Optional.of(savedMessage));
     // Act
     Message result = useCase.execute(code, content);
     // Assert
@@ -43,18 +49,21 @@ class CreateMessageUseCaseTest {
     assertThat(result.getId()).isEqualTo(1L);
     assertThat(result.getCode()).isEqualTo(code);
     assertThat(result.getContent()).isEqualTo(content);
-    verify(messageRepository).existsByCode(code);
-    verify(messageRepository).save(any(Message.class));
+    verify(messageRepository).insertIfCodeAbsent(any(Message.class));
+    verify(messageCountCache).increment();
+    verify(messageCollectionVersion).advance();
   }
 
   @Test
   void execute_withDuplicateCode_throwsDuplicateMessageCodeException() {
     String code = "existing-code";
     String content = "Some Content";
-    when(messageRepository.existsByCode(code)).thenReturn(true);
+    when(messageRepository.insertIfCodeAbsent(any(Message.class))).thenReturn(Optional.empty());
     // Act & Assert
     assertThatThrownBy(() -> useCase.execute(code, content))
         .isInstanceOf(DuplicateMessageCodeException.class)
         .hasMessage("Message with code 'existing-code' already exists");
+    verify(messageCountCache, never()).increment();
+    verify(messageCollectionVersion, never()).advance();
   }
 }
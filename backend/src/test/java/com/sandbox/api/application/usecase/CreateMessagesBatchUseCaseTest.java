@@ -0,0 +1,132 @@
+package com.sandbox.api.application.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sandbox.api.application.dto.BatchCreateResult;
+import com.sandbox.api.application.dto.BatchCreateResult.Status;
+import com.sandbox.api.application.dto.BatchMessageItem;
+import com.sandbox.api.application.service.MessageCollectionVersion;
+import com.sandbox.api.application.service.MessageCountCache;
+import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.repository.MessageRepository;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CreateMessagesBatchUseCaseTest {
+  @Mock private MessageRepository messageRepository;
+  @Mock private MessageCountCache messageCountCache;
+  @Mock private MessageCollectionVersion messageCollectionVersion;
+  @InjectMocks private CreateMessagesBatchUseCase useCase;
+
+  @Test
+  void execute_withNewCodes_createsAllInOneRepositoryCall() {
+    // Arrange
+    List<BatchMessageItem> items =
+        List.of(new BatchMessageItem("code1", "Content 1"), new BatchMessageItem("code2", "C 2"));
+    when(messageRepository.insertAllIfCodeAbsent(anyList()))
+        .thenReturn(List.of(inserted(2L, "code2"), inserted(1L, "code1")));
+
+    // Act
+    List<BatchCreateResult> results = useCase.execute(items);
+
+    // Assert
+    assertThat(results).extracting(BatchCreateResult::getStatus).containsOnly(Status.CREATED);
+    assertThat(results).extracting(r -> r.getMessage().getId()).containsExactly(1L, 2L);
+    verify(messageCountCache).incrementBy(2);
+    verify(messageCollectionVersion).advance();
+  }
+
+  @Test
+  void execute_withExistingCode_reportsDuplicateForThatItemOnly() {
+    List<BatchMessageItem> items =
+        List.of(new BatchMessageItem("hello", "Dup"), new BatchMessageItem("fresh", "New"));
+    when(messageRepository.insertAllIfCodeAbsent(anyList()))
+        .thenReturn(List.of(inserted(5L, "fresh")));
+
+    List<BatchCreateResult> results = useCase.execute(items);
+
+    assertThat(results.get(0).getStatus()).isEqualTo(Status.DUPLICATE);
+    assertThat(results.get(0).getError()).isEqualTo("Message with code 'hello' already exists");
+    assertThat(results.get(1).getStatus()).isEqualTo(Status.CREATED);
+    verify(messageCountCache).incrementBy(1);
+  }
+
+  @Test
+  void execute_withRepeatedCodeInBatch_insertsFirstOccurrenceOnly() {
+    // Arrange
+    List<BatchMessageItem> items =
+        List.of(new BatchMessageItem("same", "First"), new BatchMessageItem("same", "Second"));
+    when(messageRepository.insertAllIfCodeAbsent(anyList()))
+        .thenReturn(List.of(inserted(1L, "same")));
+
+    // Act
+    List<BatchCreateResult> results = useCase.execute(items);
+
+    // Assert
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Message>> candidates = ArgumentCaptor.forClass(List.class);
+    verify(messageRepository).insertAllIfCodeAbsent(candidates.capture());
+    assertThat(candidates.getValue()).extracting(Message::getContent).containsExactly("First");
+    assertThat(results)
+        .extracting(BatchCreateResult::getStatus)
+        .containsExactly(Status.CREATED, Status.DUPLICATE);
+  }
+
+  @Test
+  void execute_withInvalidItem_reportsInvalidWithoutFailingBatch() {
+    List<BatchMessageItem> items =
+        List.of(new BatchMessageItem("valid", "Content"), new BatchMessageItem("blank", " "));
+    when(messageRepository.insertAllIfCodeAbsent(anyList()))
+        .thenReturn(List.of(inserted(1L, "valid")));
+
+    List<BatchCreateResult> results = useCase.execute(items);
+
+    assertThat(results.get(0).getStatus()).isEqualTo(Status.CREATED);
+    assertThat(results.get(1).getStatus()).isEqualTo(Status.INVALID);
+    assertThat(results.get(1).getIndex()).isEqualTo(1);
+    assertThat(results.get(1).getError()).isNotBlank();
+  }
+
+  @Test
+  void execute_whenEveryItemInvalid_skipsDatabase() {
+    List<BatchCreateResult> results = useCase.execute(List.of(new BatchMessageItem("", "C")));
+
+    assertThat(results).extracting(BatchCreateResult::getStatus).containsExactly(Status.INVALID);
+    verify(messageRepository, never()).insertAllIfCodeAbsent(anyList());
+    verify(messageCollectionVersion, never()).advance();
+  }
+
+  @Test
+  void execute_withEmptyBatch_throwsException() {
+    assertThatThrownBy(() -> useCase.execute(Collections.emptyList()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Batch size must be between 1 and 1000");
+  }
+
+  @Test
+  void execute_withTooManyItems_throwsException() {
+    List<BatchMessageItem> items =
+        IntStream.range(0, CreateMessagesBatchUseCase.MAX_BATCH_SIZE + 1)
+            .mapToObj(i -> new BatchMessageItem("code" + i, "Content"))
+            .toList();
+
+    assertThatThrownBy(() -> useCase.execute(items)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static Message inserted(Long id, String code) {
+    return Message.builder().id(id).code(code).content("Content").build();
+  }
+}
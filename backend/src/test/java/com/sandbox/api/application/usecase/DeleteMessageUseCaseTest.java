@@ -1,9 +1,12 @@
 package com.sandbox.api.application.usecase;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.sandbox.api.application.service.MessageCollectionVersion;
+import com.sandbox.api.application.service.MessageCountCache;
 import com.sandbox.api.domain.exception.MessageNotFoundException;
 import com.sandbox.api.domain.repository.MessageRepository;
 import org.junit.jupiter.api.Test;
@@ -15,27 +18,32 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class DeleteMessageUseCaseTest {
   @Mock private MessageRepository messageRepository;
+  @Mock private MessageCountCache messageCountCache;
+  @Mock private MessageCollectionVersion messageCollectionVersion;
   @InjectMocks private DeleteMessageUseCase useCase;
 
   @Test
   void execute_withExistingId_deletesMessage() {
     // Arrange
     Long id = 1L;
-    when(messageRepository.existsById(id)).thenReturn(true);
+    when(messageRepository.deleteIfExists(id)).thenReturn(true);
     // Act
     useCase.execute(id);
     // Assert
-    verify(messageRepository).existsById(id);
-    verify(messageRepository).deleteById(id);
+    verify(messageRepository).deleteIfExists(id);
+    verify(messageCountCache).decrement();
+    verify(messageCollectionVersion).advance();
   }
 
   @Test
   void execute_withNonexistentId_throwsMessageNotFoundException() {
     Long id = 99L;
-    when(messageRepository.existsById(id)).thenReturn(false);
+    when(messageRepository.deleteIfExists(id)).thenReturn(false);
     // Act & Assert
     assertThatThrownBy(() -> useCase.execute(id))
         .isInstanceOf(MessageNotFoundException.class)
         .hasMessage("Message with id 99 not found");
+    verify(messageCountCache, never()).decrement();
+    verify(messageCollectionVersion, never()).advance();
   }
 }
@@ -0,0 +1,34 @@
+package com.sandbox.api.application.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.repository.MessageRepository;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExportMessagesUseCaseTest {
+  @Mock private MessageRepository messageRepository;
+  @InjectMocks private ExportMessagesUseCase useCase;
+
+  @Test
+  void execute_passesSinkToRepositoryAndReturnsCount() {
+    // Arrange
+    Consumer<Message> sink = message -> {};
+    when(messageRepository.forEach(sink)).thenReturn(3L);
+
+    // Act
+    long result = useCase.execute(sink);
+
+    // Assert
+    assertThat(result).isEqualTo(3L);
+    verify(messageRepository).forEach(sink);
+  }
+}
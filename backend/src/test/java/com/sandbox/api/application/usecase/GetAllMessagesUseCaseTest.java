@@ -1,25 +1,77 @@
 package com.sandbox.api.application.usecase;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.sandbox.api.application.dto.CountMode;
+import com.sandbox.api.application.service.MessageCollectionVersion;
+import com.sandbox.api.application.service.MessageCountCache;
+import com.sandbox.api.application.service.ParallelQueryRunner;
 import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageCursor;
+import com.sandbox.api.domain.model.MessageField;
 import com.sandbox.api.domain.repository.MessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 @ExtendWith(MockitoExtension.class)
 class GetAllMessagesUseCaseTest {
   @Mock private MessageRepository messageRepository;
-  @InjectMocks private GetAllMessagesUseCase useCase;
+  @Mock private MessageCountCache messageCountCache;
+  @Mock private MessageCollectionVersion messageCollectionVersion;
+  private ParallelQueryRunner parallelQueryRunner;
+  private GetAllMessagesUseCase useCase;
+
+  @BeforeEach
+  void setUp() {
+    parallelQueryRunner = new ParallelQueryRunner(new SimpleMeterRegistry());
+    useCase =
+        new GetAllMessagesUseCase(
+            messageRepository,
+            messageCountCache,
+            messageCollectionVersion,
+            parallelQueryRunner,
+            "exact");
+  }
+
+  @AfterEach
+  void tearDown() {
+    parallelQueryRunner.destroy();
+  }
+
+  @Test
+  void collectionVersion_doesNotQueryMessages() {
+    when(messageCollectionVersion.get()).thenReturn(5L);
+
+    assertThat(useCase.collectionVersion()).isEqualTo(5L);
+    verifyNoInteractions(messageRepository);
+  }
 
   @Test
   void execute_whenMessagesExist_returnsAllMessages() {
@@ -55,4 +107,179 @@ class GetAllMessagesUseCaseTest {
     List<Message> result = useCase.execute();
     assertThat(result).isEmpty();
   }
+
+  @Test
+  void execute_withCursor_delegatesToKeysetQuery() {
+    // Arrange
+    Message last = Message.builder().id(5L).code("code5").content("Content 5").build();
+    MessageCursor after = MessageCursor.of(last, Sort.Order.asc("id"));
+    Message next = Message.builder().id(6L).code("code6").content("Content 6").build();
+    Window<Message> expected =
+        Window.from(List.of(next), index -> ScrollPosition.offset(index), false);
+    when(messageRepository.findAll(after, 20)).thenReturn(expected);
+
+    // Act
+    Window<Message> result = useCase.execute(after, 20);
+
+    // Assert
+    assertThat(result.getContent()).containsExactly(next);
+    assertThat(result.hasNext()).isFalse();
+    verify(messageRepository).findAll(after, 20);
+  }
+
+  @Test
+  void execute_withExactCountMode_runsPageAndCountQueries() {
+    // Arrange
+    when(messageRepository.findSlice(any())).thenReturn(slice(List.of(message(1L)), 0, true));
+    when(messageRepository.count()).thenReturn(42L);
+
+    // Act
+    Slice<Message> result = useCase.execute(0, 1, CountMode.EXACT);
+
+    // Assert
+    assertThat(result).isInstanceOf(Page.class);
+    assertThat(((Page<Message>) result).getTotalElements()).isEqualTo(42L);
+    verify(messageRepository).count();
+    verify(messageRepository, never()).findAll(any(Pageable.class));
+    verifyNoInteractions(messageCountCache);
+  }
+
+  @Test
+  void execute_withPageAndSize_returnsPageWithExactTotal() {
+    // Arrange
+    when(messageRepository.findSlice(any())).thenReturn(slice(List.of(message(1L)), 0, false));
+    when(messageRepository.count()).thenReturn(1L);
+
+    // Act
+    Page<Message> result = useCase.execute(0, 20);
+
+    // Assert
+    assertThat(result.getContent()).extracting(Message::getId).containsExactly(1L);
+    assertThat(result.getTotalElements()).isEqualTo(1L);
+    ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+    verify(messageRepository).findSlice(pageable.capture());
+    assertThat(pageable.getValue().getPageSize()).isEqualTo(20);
+    assertThat(pageable.getValue().getSort().getOrderFor("createdAt").isDescending()).isTrue();
+  }
+
+  @Test
+  void execute_whenCountQueryFails_propagatesFailure() {
+    // The page query may be cancelled before it starts, so its stub is lenient
+    lenient()
+        .when(messageRepository.findSlice(any()))
+        .thenReturn(slice(List.of(message(1L)), 0, false));
+    when(messageRepository.count()).thenThrow(new IllegalStateException("count failed"));
+
+    assertThatThrownBy(() -> useCase.execute(0, 20))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("count failed");
+  }
+
+  @Test
+  void execute_withNullCountMode_usesServerDefault() {
+    GetAllMessagesUseCase noneByDefault =
+        new GetAllMessagesUseCase(
+            messageRepository,
+            messageCountCache,
+            messageCollectionVersion,
+            parallelQueryRunner,
+            "none");
+    when(messageRepository.findSlice(any())).thenReturn(slice(List.of(message(1L)), 0, false));
+
+    Slice<Message> result = noneByDefault.execute(0, 20, null);
+
+    assertThat(result).isNotInstanceOf(Page.class);
+    verify(messageRepository, never()).findAll(any(Pageable.class));
+  }
+
+  @Test
+  void execute_withFields_queriesOnlyThoseFields() {
+    // Arrange
+    Set<MessageField> fields = Set.of(MessageField.ID, MessageField.CODE);
+    when(messageRepository.findSlice(any(), eq(fields)))
+        .thenReturn(slice(List.of(message(1L)), 0, false));
+
+    // Act
+    Slice<Message> result = useCase.execute(0, 1, CountMode.NONE, fields);
+
+    // Assert
+    assertThat(result.getContent()).hasSize(1);
+    verify(messageRepository, never()).findSlice(any());
+  }
+
+  @Test
+  void execute_withCursorAndFields_queriesOnlyThoseFields() {
+    Message last = Message.builder().id(5L).code("code5").build();
+    MessageCursor after = MessageCursor.of(last, Sort.Order.asc("id"));
+    Set<MessageField> fields = Set.of(MessageField.ID, MessageField.CODE);
+    Window<Message> expected = Window.from(List.of(), ScrollPosition::offset, false);
+    when(messageRepository.findAll(after, 20, fields)).thenReturn(expected);
+
+    Window<Message> result = useCase.execute(after, 20, fields);
+
+    assertThat(result).isSameAs(expected);
+    verify(messageRepository, never()).findAll(after, 20);
+  }
+
+  @Test
+  void execute_withNoneCountMode_returnsSliceWithoutCounting() {
+    when(messageRepository.findSlice(any())).thenReturn(slice(List.of(message(1L)), 0, true));
+
+    Slice<Message> result = useCase.execute(0, 1, CountMode.NONE);
+
+    assertThat(result).isNotInstanceOf(Page.class);
+    assertThat(result.hasNext()).isTrue();
+    verify(messageRepository, never()).count();
+    verify(messageRepository, never()).estimateCount();
+    verifyNoInteractions(messageCountCache);
+  }
+
+  @Test
+  void execute_withCachedCountMode_usesCachedTotal() {
+    when(messageRepository.findSlice(any())).thenReturn(slice(List.of(message(1L)), 0, true));
+    when(messageCountCache.get()).thenReturn(250L);
+
+    Slice<Message> result = useCase.execute(0, 1, CountMode.CACHED);
+
+    assertThat(result).isInstanceOf(Page.class);
+    assertThat(((Page<Message>) result).getTotalElements()).isEqualTo(250L);
+    verify(messageRepository, never()).count();
+  }
+
+  @Test
+  void execute_withEstimatedCountMode_usesEstimatedTotal() {
+    when(messageRepository.findSlice(any())).thenReturn(slice(List.of(message(1L)), 0, true));
+    when(messageRepository.estimateCount()).thenReturn(1000L);
+
+    Slice<Message> result = useCase.execute(0, 1, CountMode.ESTIMATED);
+
+    assertThat(((Page<Message>) result).getTotalElements()).isEqualTo(1000L);
+    assertThat(((Page<Message>) result).getTotalPages()).isEqualTo(1000);
+  }
+
+  @Test
+  void execute_withStaleEstimate_neverReportsFewerElementsThanObserved() {
+    // Arrange: the estimate lags behind, but page 2 exists and has a successor
+    when(messageRepository.findSlice(any()))
+        .thenReturn(slice(List.of(message(3L), message(4L)), 1, true));
+    when(messageRepository.estimateCount()).thenReturn(0L);
+
+    // Act
+    Slice<Message> result = useCase.execute(1, 2, CountMode.ESTIMATED);
+
+    // Assert
+    Page<Message> page = (Page<Message>) result;
+    assertThat(page.getTotalElements()).isEqualTo(5L);
+    assertThat(page.hasNext()).isTrue();
+  }
+
+  private static Message message(Long id) {
+    return Message.builder().id(id).code("code" + id).content("Content " + id).build();
+  }
+
+  private static Slice<Message> slice(List<Message> content, int page, boolean hasNext) {
+    Pageable pageable =
+        PageRequest.of(page, content.size(), Sort.by(Sort.Direction.DESC, "createdAt"));
+    return new SliceImpl<>(content, pageable, hasNext);
+  }
 }
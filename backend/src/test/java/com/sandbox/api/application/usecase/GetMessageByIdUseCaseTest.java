@@ -2,14 +2,17 @@ package com.sandbox.api.application.usecase;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.sandbox.api.domain.exception.MessageNotFoundException;
 import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageField;
 import com.sandbox.api.domain.repository.MessageRepository;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -49,4 +52,35 @@ class GetMessageByIdUseCaseTest {
         .hasMessage("Message with id 99 not found");
     verify(messageRepository).findById(99L);
   }
+
+  @Test
+  void execute_withFields_loadsOnlyThoseFields() {
+    Set<MessageField> fields = Set.of(MessageField.ID, MessageField.CODE);
+    Message partial = Message.builder().id(1L).code("hello").build();
+    when(messageRepository.findById(1L, fields)).thenReturn(Optional.of(partial));
+
+    Message result = useCase.execute(1L, fields);
+
+    assertThat(result).isSameAs(partial);
+    verify(messageRepository, never()).findById(1L);
+  }
+
+  @Test
+  void execute_withFields_whenMessageNotFound_throwsMessageNotFoundException() {
+    when(messageRepository.findById(99L, MessageField.ALL)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> useCase.execute(99L, MessageField.ALL))
+        .isInstanceOf(MessageNotFoundException.class);
+  }
+
+  @Test
+  void findUpdatedAt_returnsVersionWithoutLoadingMessage() {
+    LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+    when(messageRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt));
+
+    Optional<LocalDateTime> result = useCase.findUpdatedAt(1L);
+
+    assertThat(result).contains(updatedAt);
+    verify(messageRepository, never()).findById(1L);
+  }
 }
@@ -0,0 +1,79 @@
+package com.sandbox.api.application.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sandbox.api.application.dto.ImportFormat;
+import com.sandbox.api.application.dto.ImportResult;
+import com.sandbox.api.application.service.MessageCollectionVersion;
+import com.sandbox.api.application.service.MessageCountCache;
+import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.repository.MessageRepository;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ImportMessagesUseCaseTest {
+  @Mock private MessageRepository messageRepository;
+  @Mock private MessageCountCache messageCountCache;
+  @Mock private MessageCollectionVersion messageCollectionVersion;
+  @InjectMocks private ImportMessagesUseCase useCase;
+
+  @Test
+  void execute_withMixedRecords_reportsImportedInvalidAndDuplicateCounts() {
+    // Arrange: the repository drains the stream and inserts 2 of the 3 valid messages
+    String csv = "code,content\na,First\nb,Second\n,Missing code\na,Repeated\n";
+    List<Message> streamed = new ArrayList<>();
+    when(messageRepository.importIfCodeAbsent(any()))
+        .thenAnswer(
+            invocation -> {
+              Iterator<Message> messages = invocation.getArgument(0);
+              messages.forEachRemaining(streamed::add);
+              return 2L;
+            });
+
+    // Act
+    ImportResult result = useCase.execute(input(csv), ImportFormat.CSV);
+
+    // Assert
+    assertThat(streamed).extracting(Message::getCode).containsExactly("a", "b", "a");
+    assertThat(result.getReceived()).isEqualTo(4);
+    assertThat(result.getImported()).isEqualTo(2);
+    assertThat(result.getInvalid()).isEqualTo(1);
+    assertThat(result.getDuplicates()).isEqualTo(1);
+    assertThat(result.getRejected()).isEqualTo(2);
+    assertThat(result.getErrors())
+        .extracting(ImportResult.RejectedLine::getLine)
+        .containsExactly(4L);
+    assertThat(result.getRowsPerSecond()).isPositive();
+    verify(messageCountCache).incrementBy(2);
+    verify(messageCollectionVersion).advance();
+  }
+
+  @Test
+  void execute_withEmptyInput_importsNothing() {
+    when(messageRepository.importIfCodeAbsent(any())).thenReturn(0L);
+
+    ImportResult result = useCase.execute(input(""), ImportFormat.NDJSON);
+
+    assertThat(result.getReceived()).isZero();
+    assertThat(result.getRejected()).isZero();
+    verify(messageCountCache).incrementBy(0);
+    verify(messageCollectionVersion, never()).advance();
+  }
+
+  private static ByteArrayInputStream input(String body) {
+    return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -3,9 +3,12 @@ package com.sandbox.api.application.usecase;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.sandbox.api.application.service.MessageCollectionVersion;
 import com.sandbox.api.domain.exception.DuplicateMessageCodeException;
 import com.sandbox.api.domain.exception.MessageNotFoundException;
 import com.sandbox.api.domain.model.Message;
@@ -14,6 +17,7 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,22 +25,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class UpdateMessageUseCaseTest {
   @Mock private MessageRepository messageRepository;
+  @Mock private MessageCollectionVersion messageCollectionVersion;
   @InjectMocks private UpdateMessageUseCase useCase;
 
   @Test
-  void execute_withValidData_updatesMessage() {
+  void execute_withValidData_updatesMessageInSingleStatement() {
     // Arrange
     Long id = 1L;
     String code = "updated-code";
     String content = "Updated Content";
-    Message existingMessage =
-        Message.builder()
-            .id(id)
-            .code("old-code")
-            .content("Old Content")
-            .createdAt(LocalDateTime.now())
-            .updatedAt(LocalDateTime.now())
-            .build();
     Message updatedMessage =
         Message.builder()
             .id(id)
@@ -45,74 +42,45 @@ class UpdateMessageUseCaseTest {
             .createdAt(LocalDateTime.now())
             .updatedAt(LocalDateTime.now())
             .build();
-    when(messageRepository.findById(id)).thenReturn(Optional.of(existingMessage));
-    when(messageRepository.existsByCode(code)).thenReturn(false);
-    when(messageRepository.save(any(Message.class))).thenReturn(updatedMessage);
+    when(messageRepository.updateIfExists(any(Message.class)))
+        .thenReturn(Optional.of(updatedMessage));
     // Act
     Message result = useCase.execute(id, code, content);
     // Assert
-    assertThat(result).isNotNull();
-    assertThat(result.getCode()).isEqualTo(code);
-    assertThat(result.getContent()).isEqualTo(content);
-    verify(messageRepository).findById(id);
-    verify(messageRepository).existsByCode(code);
-    verify(messageRepository).save(any(Message.class));
-  }
-
-  @Test
-  void execute_withSameCode_updatesSuccessfully() {
-    Long id = 1L;
-    String code = "same-code";
-    String newContent = "Updated Content";
-    Message existingMessage =
-        Message.builder()
-            .id(id)
-            .code(code)
-            .content("Old Content")
-            .createdAt(LocalDateTime.now())
-            .updatedAt(LocalDateTime.now())
-            .build();
-    Message updatedMessage =
-        Message.builder()
-            .id(id)
-            .code(code)
-            .content(newContent)
-            .createdAt(LocalDateTime.now())
-            .updatedAt(LocalDateTime.now())
-            .build();
-    when(messageRepository.findById(id)).thenReturn(Optional.of(existingMessage));
-    when(messageRepository.save(any(Message.class))).thenReturn(updatedMessage);
-    Message result = useCase.execute(id, code, newContent);
-    assertThat(result.getContent()).isEqualTo(newContent);
+    assertThat(result).isSameAs(updatedMessage);
+    ArgumentCaptor<Message> candidate = ArgumentCaptor.forClass(Message.class);
+    verify(messageRepository).updateIfExists(candidate.capture());
+    assertThat(candidate.getValue().getId()).isEqualTo(id);
+    assertThat(candidate.getValue().getCode()).isEqualTo(code);
+    assertThat(candidate.getValue().getContent()).isEqualTo(content);
+    verify(messageRepository, never()).findById(id);
+    verify(messageCollectionVersion).advance();
   }
 
   @Test
   void execute_withNonexistentId_throwsMessageNotFoundException() {
     Long id = 99L;
-    when(messageRepository.findById(id)).thenReturn(Optional.empty());
+    when(messageRepository.updateIfExists(any(Message.class))).thenReturn(Optional.empty());
     // Act & Assert
     assertThatThrownBy(() -> useCase.execute(id, "code", "content"))
         .isInstanceOf(MessageNotFoundException.class)
         .hasMessage("Message with id 99 not found");
+    verify(messageCollectionVersion, never()).advance();
   }
 
   @Test
-  void execute_withDuplicateCode_throwsDuplicateMessageCodeException() {
-    Long id = 1L;
-    String newCode = "duplicate-code";
-    Message existingMessage =
-        Message.builder()
-            .id(id)
-            .code("old-code")
-            .content("Old Content")
-            .createdAt(LocalDateTime.now())
-            .updatedAt(LocalDateTime.now())
-            .build();
-    when(messageRepository.findById(id)).thenReturn(Optional.of(existingMessage));
-    when(messageRepository.existsByCode(newCode)).thenReturn(true);
-    assertThatThrownBy(() -> useCase.execute(id, newCode, "content"))
+  void execute_withDuplicateCode_propagatesDuplicateMessageCodeException() {
+    when(messageRepository.updateIfExists(any(Message.class)))
+        .thenThrow(new DuplicateMessageCodeException("duplicate-code"));
+    assertThatThrownBy(() -> useCase.execute(1L, "duplicate-code", "content"))
         .isInstanceOf(DuplicateMessageCodeException.class)
         .hasMessage("Message with code 'duplicate-code' already exists");
-    verify(messageRepository).existsByCode(newCode);
+  }
+
+  @Test
+  void execute_withBlankContent_throwsBeforeTouchingDatabase() {
+    assertThatThrownBy(() -> useCase.execute(1L, "code", " "))
+        .isInstanceOf(IllegalArgumentException.class);
+    verifyNoInteractions(messageRepository);
   }
 }
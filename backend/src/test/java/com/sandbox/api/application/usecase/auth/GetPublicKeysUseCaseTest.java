@@ -0,0 +1,49 @@
+package com.sandbox.api.application.usecase.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.sandbox.api.application.dto.PublicSigningKey;
+import com.sandbox.api.application.service.TokenProvider;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GetPublicKeysUseCaseTest {
+
+  @Mock private TokenProvider tokenProvider;
+
+  @InjectMocks private GetPublicKeysUseCase getPublicKeysUseCase;
+
+  @Test
+  void execute_returnsKeysOfTokenProvider() {
+    // Arrange
+    List<PublicSigningKey> keys =
+        List.of(
+            new PublicSigningKey("current", "EdDSA", "Ed25519", new byte[32]),
+            new PublicSigningKey("previous", "EdDSA", "Ed25519", new byte[32]));
+    when(tokenProvider.getPublicKeys()).thenReturn(keys);
+
+    // Act
+    List<PublicSigningKey> result = getPublicKeysUseCase.execute();
+
+    // Assert
+    assertThat(result).isEqualTo(keys);
+  }
+
+  @Test
+  void execute_withSharedSecret_returnsEmptyList() {
+    // Arrange
+    when(tokenProvider.getPublicKeys()).thenReturn(List.of());
+
+    // Act
+    List<PublicSigningKey> result = getPublicKeysUseCase.execute();
+
+    // Assert
+    assertThat(result).isEmpty();
+  }
+}
@@ -4,14 +4,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.sandbox.api.application.dto.LoginResponse;
+import com.sandbox.api.application.exception.ServiceOverloadedException;
+import com.sandbox.api.application.service.PasswordVerifier;
 import com.sandbox.api.application.service.TokenProvider;
 import com.sandbox.api.application.service.TokenStore;
 import com.sandbox.api.domain.model.Role;
 import com.sandbox.api.domain.model.User;
 import com.sandbox.api.domain.repository.UserRepository;
+import java.time.Duration;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,13 +23,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
 class LoginUseCaseTest {
 
   @Mock private UserRepository userRepository;
-  @Mock private PasswordEncoder passwordEncoder;
+  @Mock private PasswordVerifier passwordVerifier;
   @Mock private TokenProvider tokenProvider;
   @Mock private TokenStore tokenStore;
 
@@ -43,7 +46,7 @@ class LoginUseCaseTest {
             .build();
 
     when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
-    when(passwordEncoder.matches("password123", user.getPasswordHash())).thenReturn(true);
+    when(passwordVerifier.matches("password123", user.getPasswordHash())).thenReturn(true);
     when(tokenProvider.generateAccessToken(anyString(), anyString())).thenReturn("access-token");
     when(tokenProvider.generateRefreshToken(anyString())).thenReturn("refresh-token");
 
@@ -82,7 +85,7 @@ class LoginUseCaseTest {
             .build();
 
     when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
-    when(passwordEncoder.matches("wrongpassword", user.getPasswordHash())).thenReturn(false);
+    when(passwordVerifier.matches("wrongpassword", user.getPasswordHash())).thenReturn(false);
 
     // Act & Assert
     assertThatThrownBy(() -> loginUseCase.execute("testuser", "wrongpassword"))
@@ -102,7 +105,7 @@ class LoginUseCaseTest {
             .build();
 
     when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
-    when(passwordEncoder.matches("password123", user.getPasswordHash())).thenReturn(true);
+    when(passwordVerifier.matches("password123", user.getPasswordHash())).thenReturn(true);
     when(tokenProvider.generateAccessToken("testuser", "ADMIN")).thenReturn("access-token");
     when(tokenProvider.generateRefreshToken("testuser")).thenReturn("refresh-token");
 
@@ -113,4 +116,25 @@ class LoginUseCaseTest {
     verify(tokenProvider).generateAccessToken("testuser", "ADMIN");
     verify(tokenProvider).generateRefreshToken("testuser");
   }
+
+  @Test
+  void execute_whenVerifierOverloaded_throwsWithoutIssuingTokens() {
+    // Arrange
+    User user =
+        User.builder()
+            .id(1L)
+            .username("testuser")
+            .passwordHash("$2a$10$hashedPassword")
+            .role(Role.ADMIN)
+            .build();
+
+    when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+    when(passwordVerifier.matches("password123", user.getPasswordHash()))
+        .thenThrow(new ServiceOverloadedException("busy", Duration.ofSeconds(1)));
+
+    // Act & Assert
+    assertThatThrownBy(() -> loginUseCase.execute("testuser", "password123"))
+        .isInstanceOf(ServiceOverloadedException.class);
+    verifyNoInteractions(tokenProvider, tokenStore);
+  }
 }
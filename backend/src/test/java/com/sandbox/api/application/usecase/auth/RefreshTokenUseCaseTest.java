@@ -3,15 +3,18 @@ package com.sandbox.api.application.usecase.auth;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.sandbox.api.application.dto.LoginResponse;
+import com.sandbox.api.application.dto.TokenClaims;
 import com.sandbox.api.application.service.TokenProvider;
 import com.sandbox.api.application.service.TokenStore;
 import com.sandbox.api.domain.model.Role;
 import com.sandbox.api.domain.model.User;
 import com.sandbox.api.domain.repository.UserRepository;
+import java.time.Instant;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,8 +37,7 @@ class RefreshTokenUseCaseTest {
     // Arrange
     User user = User.builder().id(1L).username("testuser").role(Role.ADMIN).build();
 
-    when(tokenProvider.validateToken("valid-refresh-token")).thenReturn(true);
-    when(tokenStore.isValid("valid-refresh-token")).thenReturn(true);
+    when(tokenProvider.verifyToken("valid-refresh-token")).thenReturn(Optional.of(refreshClaims()));
     when(tokenStore.getUserId("valid-refresh-token")).thenReturn(1L);
     when(userRepository.findById(1L)).thenReturn(Optional.of(user));
     when(tokenProvider.generateAccessToken(anyString(), anyString()))
@@ -51,12 +53,13 @@ class RefreshTokenUseCaseTest {
     assertThat(response.getExpiresIn()).isEqualTo(3600);
 
     verify(tokenProvider).generateAccessToken("testuser", "ADMIN");
+    verify(tokenStore, never()).isValid(anyString());
   }
 
   @Test
   void execute_withInvalidToken_throwsBadCredentialsException() {
     // Arrange
-    when(tokenProvider.validateToken("invalid-token")).thenReturn(false);
+    when(tokenProvider.verifyToken("invalid-token")).thenReturn(Optional.empty());
 
     // Act & Assert
     assertThatThrownBy(() -> refreshTokenUseCase.execute("invalid-token"))
@@ -67,8 +70,8 @@ class RefreshTokenUseCaseTest {
   @Test
   void execute_withTokenNotInStore_throwsBadCredentialsException() {
     // Arrange
-    when(tokenProvider.validateToken("valid-token")).thenReturn(true);
-    when(tokenStore.isValid("valid-token")).thenReturn(false);
+    when(tokenProvider.verifyToken("valid-token")).thenReturn(Optional.of(refreshClaims()));
+    when(tokenStore.getUserId("valid-token")).thenReturn(null);
 
     // Act & Assert
     assertThatThrownBy(() -> refreshTokenUseCase.execute("valid-token"))
@@ -79,8 +82,7 @@ class RefreshTokenUseCaseTest {
   @Test
   void execute_withNonexistentUser_throwsBadCredentialsException() {
     // Arrange
-    when(tokenProvider.validateToken("valid-token")).thenReturn(true);
-    when(tokenStore.isValid("valid-token")).thenReturn(true);
+    when(tokenProvider.verifyToken("valid-token")).thenReturn(Optional.of(refreshClaims()));
     when(tokenStore.getUserId("valid-token")).thenReturn(999L);
     when(userRepository.findById(999L)).thenReturn(Optional.empty());
 
@@ -89,4 +91,8 @@ class RefreshTokenUseCaseTest {
         .isInstanceOf(BadCredentialsException.class)
         .hasMessage("User not found");
   }
+
+  private static TokenClaims refreshClaims() {
+    return new TokenClaims("testuser", null, Instant.now().plusSeconds(3600), "sandbox-api");
+  }
 }
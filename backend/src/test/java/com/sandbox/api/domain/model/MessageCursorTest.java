@@ -0,0 +1,130 @@
+package com.sandbox.api.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+class MessageCursorTest {
+
+  private static final LocalDateTime CREATED_AT =
+      LocalDateTime.of(2024, 1, 1, 12, 30, 45, 123456000);
+
+  private final Message message =
+      Message.builder()
+          .id(42L)
+          .code("code|with|pipes")
+          .content("Content")
+          .createdAt(CREATED_AT)
+          .updatedAt(CREATED_AT)
+          .build();
+
+  @Test
+  void of_withCreatedAtOrder_capturesSortValueAndId() {
+    // Act
+    MessageCursor cursor = MessageCursor.of(message, Sort.Order.desc("createdAt"));
+
+    // Assert
+    assertThat(cursor.getSortProperty()).isEqualTo("createdAt");
+    assertThat(cursor.getDirection()).isEqualTo(Sort.Direction.DESC);
+    assertThat(cursor.getSortValue()).isEqualTo(CREATED_AT);
+    assertThat(cursor.getId()).isEqualTo(42L);
+  }
+
+  @Test
+  void encodeAndDecode_withTimestampSort_roundTrips() {
+    MessageCursor cursor = MessageCursor.of(message, Sort.Order.desc("createdAt"));
+
+    MessageCursor decoded = MessageCursor.decode(cursor.encode());
+
+    assertThat(decoded).isEqualTo(cursor);
+  }
+
+  @Test
+  void encodeAndDecode_withStringSortContainingSeparator_roundTrips() {
+    MessageCursor cursor = MessageCursor.of(message, Sort.Order.asc("code"));
+
+    MessageCursor decoded = MessageCursor.decode(cursor.encode());
+
+    assertThat(decoded.getSortValue()).isEqualTo("code|with|pipes");
+    assertThat(decoded).isEqualTo(cursor);
+  }
+
+  @Test
+  void encodeAndDecode_withIdSort_roundTrips() {
+    MessageCursor cursor = MessageCursor.of(message, Sort.Order.asc("id"));
+
+    MessageCursor decoded = MessageCursor.decode(cursor.encode());
+
+    assertThat(decoded.getSortValue()).isEqualTo(42L);
+    assertThat(decoded).isEqualTo(cursor);
+  }
+
+  @Test
+  void encode_producesUrlSafeToken() {
+    String token = MessageCursor.of(message, Sort.Order.asc("code")).encode();
+
+    assertThat(token).matches("^[A-Za-z0-9_-]+$");
+  }
+
+  @Test
+  void next_keepsSortOrderAndMovesToGivenMessage() {
+    MessageCursor cursor = MessageCursor.of(message, Sort.Order.asc("updatedAt"));
+    Message other = message.toBuilder().id(43L).updatedAt(CREATED_AT.plusDays(1)).build();
+
+    MessageCursor next = cursor.next(other);
+
+    assertThat(next.toOrder()).isEqualTo(Sort.Order.asc("updatedAt"));
+    assertThat(next.getSortValue()).isEqualTo(CREATED_AT.plusDays(1));
+    assertThat(next.getId()).isEqualTo(43L);
+  }
+
+  @Test
+  void of_withNonSortableProperty_throwsException() {
+    assertThatThrownBy(() -> MessageCursor.of(message, Sort.Order.asc("password")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid sort field: password");
+  }
+
+  @Test
+  void decode_withBlankToken_throwsException() {
+    assertThatThrownBy(() -> MessageCursor.decode(" "))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cursor cannot be null or blank");
+  }
+
+  @Test
+  void decode_withGarbageToken_throwsException() {
+    assertThatThrownBy(() -> MessageCursor.decode("not a cursor!"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid cursor");
+  }
+
+  @Test
+  void decode_withTamperedSortField_throwsException() {
+    String token = encodeRaw("id; DROP TABLE messages|ASC|1|1");
+
+    assertThatThrownBy(() -> MessageCursor.decode(token))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid cursor");
+  }
+
+  @Test
+  void decode_withInvalidTimestamp_throwsException() {
+    String token = encodeRaw("createdAt|DESC|1|yesterday");
+
+    assertThatThrownBy(() -> MessageCursor.decode(token))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid cursor");
+  }
+
+  private static String encodeRaw(String raw) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,43 @@
+package com.sandbox.api.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MessageFieldTest {
+
+  @Test
+  void fromValues_withNullOrEmpty_returnsAllFields() {
+    assertThat(MessageField.fromValues(null)).isSameAs(MessageField.ALL);
+    assertThat(MessageField.fromValues(List.of())).isSameAs(MessageField.ALL);
+  }
+
+  @Test
+  void fromValues_alwaysIncludesId() {
+    // Act
+    var fields = MessageField.fromValues(List.of("code", " createdAt "));
+
+    // Assert
+    assertThat(fields).containsExactly(MessageField.ID, MessageField.CODE, MessageField.CREATED_AT);
+  }
+
+  @Test
+  void fromValues_withEveryField_returnsAllFields() {
+    var fields = MessageField.fromValues(List.of("code", "content", "createdAt", "updatedAt"));
+
+    assertThat(fields).isSameAs(MessageField.ALL);
+  }
+
+  @Test
+  void fromValue_withUnknownOrSnakeCaseName_throwsIllegalArgumentException() {
+    assertThatThrownBy(() -> MessageField.fromValue("password"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("password");
+    assertThatThrownBy(() -> MessageField.fromValue("created_at"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> MessageField.fromValue(null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
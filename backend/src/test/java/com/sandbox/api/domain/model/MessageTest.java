@@ -105,6 +105,27 @@ class MessageTest {
         .hasMessage("Content cannot be null or blank");
   }
 
+  @Test
+  void forUpdate_withValidData_carriesOnlyIdCodeAndContent() {
+    // Arrange & Act
+    Message message = Message.forUpdate(1L, "CODE", "Content");
+
+    // Assert
+    assertThat(message.getId()).isEqualTo(1L);
+    assertThat(message.getCode()).isEqualTo("CODE");
+    assertThat(message.getContent()).isEqualTo("Content");
+    assertThat(message.getCreatedAt()).isNull();
+    assertThat(message.getUpdatedAt()).isNull();
+  }
+
+  @Test
+  void forUpdate_withContentTooLong_throwsException() {
+    String longContent = "a".repeat(501);
+    assertThatThrownBy(() -> Message.forUpdate(1L, "CODE", longContent))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Content must be 500 characters or less");
+  }
+
   @Test
   void withId_createsNewInstanceWithId() {
     // Arrange
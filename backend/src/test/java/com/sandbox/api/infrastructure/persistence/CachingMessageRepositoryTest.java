@@ -0,0 +1,188 @@
+package com.sandbox.api.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageField;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class CachingMessageRepositoryTest {
+
+  @Mock private MessageRepositoryImpl delegate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private CachingMessageRepository repository;
+
+  private final Message message =
+      Message.builder().id(1L).code("hello").content("Hello, World!").build();
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    repository = new CachingMessageRepository(delegate, meterRegistry, 100, Duration.ofMinutes(5));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void findById_calledTwice_queriesDelegateOnce() {
+    // Arrange
+    when(delegate.findById(1L)).thenReturn(Optional.of(message));
+
+    // Act
+    Optional<Message> first = repository.findById(1L);
+    Optional<Message> second = repository.findById(1L);
+
+    // Assert
+    assertThat(first).contains(message);
+    assertThat(second).contains(message);
+    verify(delegate, times(1)).findById(1L);
+  }
+
+  @Test
+  void findById_whenNotFound_doesNotCacheMiss() {
+    when(delegate.findById(99L)).thenReturn(Optional.empty());
+
+    repository.findById(99L);
+    repository.findById(99L);
+
+    verify(delegate, times(2)).findById(99L);
+  }
+
+  @Test
+  void findUpdatedAtById_whenCached_doesNotQueryDelegate() {
+    LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+    Message cached = message.toBuilder().updatedAt(updatedAt).build();
+    when(delegate.findById(1L)).thenReturn(Optional.of(cached));
+    repository.findById(1L);
+
+    Optional<LocalDateTime> result = repository.findUpdatedAtById(1L);
+
+    assertThat(result).contains(updatedAt);
+    verify(delegate, never()).findUpdatedAtById(1L);
+  }
+
+  @Test
+  void findUpdatedAtById_whenNotCached_queriesDelegate() {
+    LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+    when(delegate.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt));
+
+    Optional<LocalDateTime> result = repository.findUpdatedAtById(1L);
+
+    assertThat(result).contains(updatedAt);
+    verify(delegate, never()).findById(1L);
+  }
+
+  @Test
+  void findByIdWithFields_whenCached_returnsWholeMessage() {
+    when(delegate.findById(1L)).thenReturn(Optional.of(message));
+    repository.findById(1L);
+
+    Optional<Message> result = repository.findById(1L, Set.of(MessageField.ID));
+
+    assertThat(result).containsSame(message);
+    verify(delegate, never()).findById(1L, Set.of(MessageField.ID));
+  }
+
+  @Test
+  void findByIdWithFields_whenNotCached_doesNotPopulateCache() {
+    Message partial = Message.builder().id(1L).build();
+    when(delegate.findById(1L, Set.of(MessageField.ID))).thenReturn(Optional.of(partial));
+    when(delegate.findById(1L)).thenReturn(Optional.of(message));
+
+    repository.findById(1L, Set.of(MessageField.ID));
+    Optional<Message> whole = repository.findById(1L);
+
+    assertThat(whole).containsSame(message);
+  }
+
+  @Test
+  void deleteIfExists_withinTransaction_invalidatesAgainAfterCommit() {
+    // Arrange
+    when(delegate.findById(1L)).thenReturn(Optional.of(message));
+    when(delegate.deleteIfExists(1L)).thenReturn(true);
+    TransactionSynchronizationManager.initSynchronization();
+
+    // Act: a concurrent reader repopulates the entry before the delete commits
+    repository.deleteIfExists(1L);
+    repository.findById(1L);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    repository.findById(1L);
+
+    // Assert
+    verify(delegate).deleteIfExists(1L);
+    verify(delegate, times(2)).findById(1L);
+  }
+
+  @Test
+  void findById_publishesHitAndMissMetrics() {
+    when(delegate.findById(1L)).thenReturn(Optional.of(message));
+
+    repository.findById(1L);
+    repository.findById(1L);
+
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", CachingMessageRepository.CACHE_NAME)
+                .tag("result", "hit")
+                .functionCounter()
+                .count())
+        .isEqualTo(1.0);
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", CachingMessageRepository.CACHE_NAME)
+                .tag("result", "miss")
+                .functionCounter()
+                .count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  void updateIfExists_whenUpdated_invalidatesCachedEntry() {
+    when(delegate.findById(1L)).thenReturn(Optional.of(message));
+    when(delegate.updateIfExists(message)).thenReturn(Optional.of(message));
+    repository.findById(1L);
+
+    repository.updateIfExists(message);
+    repository.findById(1L);
+
+    verify(delegate, times(2)).findById(1L);
+  }
+
+  @Test
+  void deleteIfExists_whenDeleted_invalidatesCachedEntry() {
+    when(delegate.findById(1L)).thenReturn(Optional.of(message));
+    when(delegate.deleteIfExists(1L)).thenReturn(true);
+    repository.findById(1L);
+
+    repository.deleteIfExists(1L);
+    repository.findById(1L);
+
+    verify(delegate, times(2)).findById(1L);
+  }
+}
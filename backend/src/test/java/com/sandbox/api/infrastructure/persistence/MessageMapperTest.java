@@ -3,7 +3,8 @@ package com.sandbox.api.infrastructure.persistence;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.sandbox.api.domain.model.Message;
-import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -83,6 +84,32 @@ class MessageMapperTest {
     assertThat(result.getId()).isEqualTo(existing.getId());
   }
 
+  @Test
+  void findById_withColumns_readsOnlyThoseColumns() {
+    // Arrange
+    Message existing = messageMapper.findByCode("hello");
+    // Act
+    Message result = messageMapper.findById(existing.getId(), Set.of("code"));
+    // Assert
+    assertThat(result.getId()).isEqualTo(existing.getId());
+    assertThat(result.getCode()).isEqualTo("hello");
+    assertThat(result.getContent()).isNull();
+    assertThat(result.getCreatedAt()).isNull();
+    assertThat(result.getUpdatedAt()).isNull();
+  }
+
+  @Test
+  void findAllWithPagination_withColumns_keepsSortOrder() {
+    var results =
+        messageMapper.findAllWithPagination(0, 10, "created_at", "DESC", Set.of("created_at"));
+
+    assertThat(results).isNotEmpty();
+    assertThat(results).allSatisfy(message -> assertThat(message.getContent()).isNull());
+    assertThat(results)
+        .extracting(Message::getCreatedAt)
+        .isSortedAccordingTo(Comparator.reverseOrder());
+  }
+
   @Test
   void findById_withNonExistentId_returnsNull() {
     Message result = messageMapper.findById(99999L);
@@ -90,64 +117,52 @@ class MessageMapperTest {
   }
 
   @Test
-  void insert_withValidMessage_insertsAndGeneratesId() {
-    Message message =
-        Message.builder()
-            .code("test-insert")
-            .content("Test Insert Content")
-            .createdAt(LocalDateTime.now())
-            .updatedAt(LocalDateTime.now())
-            .build();
-    messageMapper.insert(message);
-    assertThat(message.getId()).isNotNull();
-    Message inserted = messageMapper.findByCode("test-insert");
+  void insertIfCodeAbsent_withNewCode_returnsRowWithDatabaseTimestamps() {
+    Message message = Message.builder().code("test-upsert").content("Upsert Content").build();
+
+    Message inserted = messageMapper.insertIfCodeAbsent(message);
+
     assertThat(inserted).isNotNull();
-    assertThat(inserted.getContent()).isEqualTo("Test Insert Content");
+    assertThat(inserted.getId()).isNotNull();
+    assertThat(inserted.getCode()).isEqualTo("test-upsert");
+    assertThat(inserted.getCreatedAt()).isNotNull();
+    assertThat(inserted.getUpdatedAt()).isNotNull();
   }
 
   @Test
-  void update_withExistingMessage_updatesSuccessfully() {
-    Message message =
-        Message.builder()
-            .code("test-update")
-            .content("Original Content")
-            .createdAt(LocalDateTime.now())
-            .updatedAt(LocalDateTime.now())
-            .build();
-    messageMapper.insert(message);
-    Message updatedMessage =
-        message.toBuilder().content("Updated Content").updatedAt(LocalDateTime.now()).build();
-    messageMapper.update(updatedMessage);
-    Message updated = messageMapper.findById(message.getId());
-    assertThat(updated).isNotNull();
-    assertThat(updated.getContent()).isEqualTo("Updated Content");
+  void insertIfCodeAbsent_withExistingCode_returnsNullAndKeepsOriginal() {
+    Message message = Message.builder().code("hello").content("Overwritten?").build();
+
+    Message inserted = messageMapper.insertIfCodeAbsent(message);
+
+    assertThat(inserted).isNull();
+    assertThat(messageMapper.findByCode("hello").getContent()).isEqualTo("Hello, World!");
   }
 
   @Test
-  void deleteById_withExistingId_deletesMessage() {
-    Message message =
-        Message.builder()
-            .code("test-delete")
-            .content("To Be Deleted")
-            .createdAt(LocalDateTime.now())
-            .updatedAt(LocalDateTime.now())
-            .build();
-    messageMapper.insert(message);
-    Long id = message.getId();
-    messageMapper.deleteById(id);
-    Message deleted = messageMapper.findById(id);
-    assertThat(deleted).isNull();
+  void updateReturning_withExistingId_returnsUpdatedRow() {
+    Message original = messageMapper.findByCode("hello");
+    Message changed = original.toBuilder().content("Changed").build();
+
+    Message updated = messageMapper.updateReturning(changed);
+
+    assertThat(updated.getId()).isEqualTo(original.getId());
+    assertThat(updated.getContent()).isEqualTo("Changed");
+    assertThat(updated.getUpdatedAt()).isAfterOrEqualTo(original.getUpdatedAt());
   }
 
   @Test
-  void existsByCode_withExistingCode_returnsTrue() {
-    boolean exists = messageMapper.existsByCode("hello");
-    assertThat(exists).isTrue();
+  void updateReturning_withNonExistentId_returnsNull() {
+    Message missing = Message.builder().id(999999L).code("missing").content("C").build();
+
+    assertThat(messageMapper.updateReturning(missing)).isNull();
   }
 
   @Test
-  void existsByCode_withNonExistentCode_returnsFalse() {
-    boolean exists = messageMapper.existsByCode("nonexistent");
-    assertThat(exists).isFalse();
+  void deleteReturningId_withExistingId_returnsId() {
+    Long id = messageMapper.findByCode("hello").getId();
+
+    assertThat(messageMapper.deleteReturningId(id)).isEqualTo(id);
+    assertThat(messageMapper.deleteReturningId(id)).isNull();
   }
 }
@@ -2,26 +2,47 @@ package com.sandbox.api.infrastructure.persistence;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.sandbox.api.domain.exception.DuplicateMessageCodeException;
 import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageCursor;
+import com.sandbox.api.domain.model.MessageField;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 @ExtendWith(MockitoExtension.class)
 class MessageRepositoryImplTest {
   @Mock private MessageMapper messageMapper;
+  @Mock private MessageStagingCopier messageStagingCopier;
   @InjectMocks private MessageRepositoryImpl repository;
 
   @Test
@@ -123,55 +144,114 @@ class MessageRepositoryImplTest {
   }
 
   @Test
-  void save_whenMessageHasNoId_callsInsert() {
-    Message message =
-        Message.builder()
-            .code("new-code")
-            .content("New Content")
-            .createdAt(LocalDateTime.now())
-            .updatedAt(LocalDateTime.now())
-            .build();
-    Message result = repository.save(message);
-    assertThat(result).isEqualTo(message);
-    verify(messageMapper).insert(message);
+  void findUpdatedAtById_whenMapperReturnsNull_returnsEmptyOptional() {
+    when(messageMapper.findUpdatedAtById(99L)).thenReturn(null);
+
+    assertThat(repository.findUpdatedAtById(99L)).isEmpty();
+    verify(messageMapper, never()).findById(99L);
   }
 
   @Test
-  void save_whenMessageHasId_callsUpdate() {
-    Message message =
-        Message.builder()
-            .id(1L)
-            .code("code")
-            .content("Updated Content")
+  void insertIfCodeAbsent_whenMapperReturnsRow_returnsInsertedMessage() {
+    Message message = Message.builder().code("new").content("New").build();
+    Message row =
+        message.toBuilder()
+            .id(5L)
             .createdAt(LocalDateTime.now())
             .updatedAt(LocalDateTime.now())
             .build();
-    Message result = repository.save(message);
-    assertThat(result).isEqualTo(message);
-    verify(messageMapper).update(message);
+    when(messageMapper.insertIfCodeAbsent(message)).thenReturn(row);
+
+    Optional<Message> result = repository.insertIfCodeAbsent(message);
+
+    assertThat(result).contains(row);
+  }
+
+  @Test
+  void insertIfCodeAbsent_whenCodeTaken_returnsEmpty() {
+    Message message = Message.builder().code("hello").content("Dup").build();
+    when(messageMapper.insertIfCodeAbsent(message)).thenReturn(null);
+
+    Optional<Message> result = repository.insertIfCodeAbsent(message);
+
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void updateIfExists_whenMapperReturnsRow_returnsUpdatedMessage() {
+    Message message = Message.builder().id(1L).code("new").content("New").build();
+    Message row = message.toBuilder().updatedAt(LocalDateTime.now()).build();
+    when(messageMapper.updateReturning(message)).thenReturn(row);
+
+    Optional<Message> result = repository.updateIfExists(message);
+
+    assertThat(result).contains(row);
+  }
+
+  @Test
+  void updateIfExists_whenNoRowMatches_returnsEmpty() {
+    Message message = Message.builder().id(99L).code("new").content("New").build();
+    when(messageMapper.updateReturning(message)).thenReturn(null);
+
+    assertThat(repository.updateIfExists(message)).isEmpty();
+  }
+
+  @Test
+  void updateIfExists_onUniqueViolation_throwsDuplicateMessageCodeException() {
+    Message message = Message.builder().id(1L).code("taken").content("New").build();
+    when(messageMapper.updateReturning(message))
+        .thenThrow(
+            new DuplicateKeyException(
+                "duplicate", new SQLException("duplicate key value", "23505")));
+
+    assertThatThrownBy(() -> repository.updateIfExists(message))
+        .isInstanceOf(DuplicateMessageCodeException.class)
+        .hasMessage("Message with code 'taken' already exists");
+  }
+
+  @Test
+  void updateIfExists_onOtherIntegrityViolation_rethrows() {
+    Message message = Message.builder().id(1L).code("code").content("New").build();
+    DataIntegrityViolationException failure =
+        new DataIntegrityViolationException(
+            "too long", new SQLException("value too long", "22001"));
+    when(messageMapper.updateReturning(message)).thenThrow(failure);
+
+    assertThatThrownBy(() -> repository.updateIfExists(message)).isSameAs(failure);
   }
 
   @Test
-  void deleteById_callsMapperDeleteById() {
-    // Arrange & Act
-    repository.deleteById(1L);
-    verify(messageMapper).deleteById(1L);
+  void deleteIfExists_whenRowDeleted_returnsTrue() {
+    when(messageMapper.deleteReturningId(1L)).thenReturn(1L);
+
+    assertThat(repository.deleteIfExists(1L)).isTrue();
   }
 
   @Test
-  void existsByCode_whenMapperReturnsTrue_returnsTrue() {
-    when(messageMapper.existsByCode("existing")).thenReturn(true);
-    boolean result = repository.existsByCode("existing");
-    assertThat(result).isTrue();
-    verify(messageMapper).existsByCode("existing");
+  void deleteIfExists_whenNoRowMatches_returnsFalse() {
+    when(messageMapper.deleteReturningId(99L)).thenReturn(null);
+
+    assertThat(repository.deleteIfExists(99L)).isFalse();
   }
 
   @Test
-  void existsByCode_whenMapperReturnsFalse_returnsFalse() {
-    when(messageMapper.existsByCode("nonexistent")).thenReturn(false);
-    boolean result = repository.existsByCode("nonexistent");
-    assertThat(result).isFalse();
-    verify(messageMapper).existsByCode("nonexistent");
+  void insertAllIfCodeAbsent_withMoreRowsThanChunk_splitsIntoSeveralStatements() {
+    // Arrange
+    int total = MessageRepositoryImpl.INSERT_CHUNK_SIZE + 1;
+    List<Message> messages =
+        IntStream.range(0, total)
+            .mapToObj(i -> Message.builder().code("c" + i).content("C").build())
+            .toList();
+    when(messageMapper.insertAllIfCodeAbsent(messages.subList(0, total - 1)))
+        .thenReturn(List.of(messages.get(0)));
+    when(messageMapper.insertAllIfCodeAbsent(messages.subList(total - 1, total)))
+        .thenReturn(List.of(messages.get(total - 1)));
+
+    // Act
+    List<Message> result = repository.insertAllIfCodeAbsent(messages);
+
+    // Assert
+    assertThat(result).containsExactly(messages.get(0), messages.get(total - 1));
   }
 
   // Security tests for SQL injection prevention
@@ -325,4 +405,199 @@ class MessageRepositoryImplTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("Invalid sort field: nonExistentField");
   }
+
+  // Keyset (cursor) pagination tests
+
+  @Test
+  void findAllAfterCursor_whenMoreRowsThanLimit_returnsWindowWithNext() {
+    // Arrange
+    LocalDateTime now = LocalDateTime.now();
+    Message last = Message.builder().id(10L).code("c10").content("C").createdAt(now).build();
+    MessageCursor after = MessageCursor.of(last, Sort.Order.desc("createdAt"));
+    List<Message> rows =
+        Arrays.asList(
+            Message.builder().id(9L).code("c9").content("C").createdAt(now.minusSeconds(1)).build(),
+            Message.builder().id(8L).code("c8").content("C").createdAt(now.minusSeconds(2)).build(),
+            Message.builder()
+                .id(7L)
+                .code("c7")
+                .content("C")
+                .createdAt(now.minusSeconds(3))
+                .build());
+    when(messageMapper.findAllAfter("created_at", "DESC", now, 10L, 3)).thenReturn(rows);
+
+    // Act
+    Window<Message> result = repository.findAll(after, 2);
+
+    // Assert
+    assertThat(result.getContent()).extracting(Message::getId).containsExactly(9L, 8L);
+    assertThat(result.hasNext()).isTrue();
+    verify(messageMapper).findAllAfter("created_at", "DESC", now, 10L, 3);
+  }
+
+  @Test
+  void findAllAfterCursor_whenLastPage_returnsWindowWithoutNext() {
+    Message last = Message.builder().id(1L).code("a").content("C").build();
+    MessageCursor after = MessageCursor.of(last, Sort.Order.asc("code"));
+    List<Message> rows = Arrays.asList(Message.builder().id(2L).code("b").content("C").build());
+    when(messageMapper.findAllAfter("code", "ASC", "a", 1L, 11)).thenReturn(rows);
+
+    Window<Message> result = repository.findAll(after, 10);
+
+    assertThat(result.getContent()).hasSize(1);
+    assertThat(result.hasNext()).isFalse();
+    verify(messageMapper).findAllAfter("code", "ASC", "a", 1L, 11);
+  }
+
+  @Test
+  void findAllAfterCursor_withFields_selectsThoseColumnsAndSortColumn() {
+    Message last = Message.builder().id(1L).code("a").build();
+    MessageCursor after = MessageCursor.of(last, Sort.Order.asc("code"));
+    when(messageMapper.findAllAfter("code", "ASC", "a", 1L, 11, Set.of("id", "updated_at", "code")))
+        .thenReturn(List.of(Message.builder().id(2L).code("b").build()));
+
+    Window<Message> result =
+        repository.findAll(after, 10, Set.of(MessageField.ID, MessageField.UPDATED_AT));
+
+    assertThat(result.getContent()).hasSize(1);
+    verify(messageMapper, never()).findAllAfter("code", "ASC", "a", 1L, 11);
+  }
+
+  @Test
+  void findSlice_withFields_selectsThoseColumnsAndSortColumn() {
+    Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+    when(messageMapper.findAllWithPagination(
+            0L, 11, "created_at", "DESC", Set.of("id", "code", "created_at")))
+        .thenReturn(List.of(Message.builder().id(1L).code("a").build()));
+
+    Slice<Message> result =
+        repository.findSlice(pageable, Set.of(MessageField.ID, MessageField.CODE));
+
+    assertThat(result.getContent()).hasSize(1);
+    assertThat(result.hasNext()).isFalse();
+  }
+
+  @Test
+  void findById_withAllFields_usesWholeRowQuery() {
+    Message expected = Message.builder().id(1L).code("a").content("C").build();
+    when(messageMapper.findById(1L)).thenReturn(expected);
+
+    Optional<Message> result = repository.findById(1L, MessageField.ALL);
+
+    assertThat(result).containsSame(expected);
+  }
+
+  @Test
+  void findAllAfterCursor_neverRunsCountQuery() {
+    Message last = Message.builder().id(1L).code("a").content("C").build();
+    MessageCursor after = MessageCursor.of(last, Sort.Order.asc("id"));
+    when(messageMapper.findAllAfter("id", "ASC", 1L, 1L, 21)).thenReturn(List.of());
+
+    Window<Message> result = repository.findAll(after, 20);
+
+    assertThat(result.isEmpty()).isTrue();
+    verify(messageMapper, never()).count();
+  }
+
+  // Count strategy tests
+
+  @Test
+  void findSlice_whenMoreRowsThanPageSize_returnsSliceWithNextAndNoCount() {
+    // Arrange
+    Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+    List<Message> rows =
+        Arrays.asList(
+            Message.builder().id(3L).code("c3").content("C").build(),
+            Message.builder().id(2L).code("c2").content("C").build(),
+            Message.builder().id(1L).code("c1").content("C").build());
+    when(messageMapper.findAllWithPagination(0L, 3, "created_at", "DESC")).thenReturn(rows);
+
+    // Act
+    Slice<Message> result = repository.findSlice(pageable);
+
+    // Assert
+    assertThat(result.getContent()).extracting(Message::getId).containsExactly(3L, 2L);
+    assertThat(result.hasNext()).isTrue();
+    verify(messageMapper, never()).count();
+  }
+
+  @Test
+  void findSlice_whenLastPage_returnsSliceWithoutNext() {
+    Pageable pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+    List<Message> rows = List.of(Message.builder().id(1L).code("c1").content("C").build());
+    when(messageMapper.findAllWithPagination(2L, 3, "created_at", "DESC")).thenReturn(rows);
+
+    Slice<Message> result = repository.findSlice(pageable);
+
+    assertThat(result.getContent()).hasSize(1);
+    assertThat(result.hasNext()).isFalse();
+  }
+
+  @Test
+  void estimateCount_whenStatisticsAvailable_returnsEstimate() {
+    when(messageMapper.estimateCount()).thenReturn(1234L);
+
+    assertThat(repository.estimateCount()).isEqualTo(1234L);
+    verify(messageMapper, never()).count();
+  }
+
+  @Test
+  void estimateCount_whenTableNeverAnalyzed_fallsBackToExactCount() {
+    when(messageMapper.estimateCount()).thenReturn(-1L);
+    when(messageMapper.count()).thenReturn(7L);
+
+    assertThat(repository.estimateCount()).isEqualTo(7L);
+  }
+
+  @Test
+  void importIfCodeAbsent_createsStagingThenCopiesAndMergesInOrder() {
+    // Arrange
+    Iterator<Message> messages = List.of(Message.createNew("code1", "Content 1")).iterator();
+    when(messageStagingCopier.copy(messages)).thenReturn(1L);
+    when(messageMapper.mergeImportStaging()).thenReturn(1L);
+    // Act
+    long result = repository.importIfCodeAbsent(messages);
+    // Assert
+    assertThat(result).isEqualTo(1L);
+    InOrder inOrder = inOrder(messageStagingCopier, messageMapper);
+    inOrder.verify(messageMapper).createImportStaging();
+    inOrder.verify(messageStagingCopier).copy(messages);
+    inOrder.verify(messageMapper).mergeImportStaging();
+  }
+
+  @Test
+  void forEach_passesEveryCursorRowAndClosesCursor() throws Exception {
+    // Arrange
+    List<Message> rows = List.of(Message.createNew("a", "A"), Message.createNew("b", "B"));
+    @SuppressWarnings("unchecked")
+    Cursor<Message> cursor = mock(Cursor.class);
+    when(cursor.iterator()).thenReturn(rows.iterator());
+    when(messageMapper.streamAll()).thenReturn(cursor);
+    List<Message> seen = new ArrayList<>();
+
+    // Act
+    long result = repository.forEach(seen::add);
+
+    // Assert
+    assertThat(result).isEqualTo(2L);
+    assertThat(seen).containsExactlyElementsOf(rows);
+    verify(cursor).close();
+  }
+
+  @Test
+  void forEach_whenActionFails_closesCursorAndRethrows() throws Exception {
+    @SuppressWarnings("unchecked")
+    Cursor<Message> cursor = mock(Cursor.class);
+    when(cursor.iterator()).thenReturn(List.of(Message.createNew("a", "A")).iterator());
+    when(messageMapper.streamAll()).thenReturn(cursor);
+
+    assertThatThrownBy(
+            () ->
+                repository.forEach(
+                    message -> {
+                      throw new UncheckedIOException(new IOException("Broken pipe"));
+                    }))
+        .isInstanceOf(UncheckedIOException.class);
+    verify(cursor).close();
+  }
 }
@@ -0,0 +1,21 @@
+package com.sandbox.api.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+class MessageStagingCopierTest {
+
+  @Test
+  void writeEscaped_escapesCopyTextFormatDelimiters() throws Exception {
+    // Arrange
+    StringWriter writer = new StringWriter();
+
+    // Act
+    MessageStagingCopier.writeEscaped(writer, "a\tb\nc\rd\\e,\"f\"");
+
+    // Assert
+    assertThat(writer).hasToString("a\\tb\\nc\\rd\\\\e,\"f\"");
+  }
+}
@@ -0,0 +1,58 @@
+package com.sandbox.api.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresRateLimiterTest {
+  @Mock private RateLimitBucketMapper rateLimitBucketMapper;
+  @InjectMocks private PostgresRateLimiter rateLimiter;
+
+  @Test
+  void tryAcquire_whenTokenTaken_returnsZero() {
+    // Arrange
+    when(rateLimitBucketMapper.takeToken("key", 20, 60.0)).thenReturn(19.0);
+
+    // Act
+    Duration wait = rateLimiter.tryAcquire("key", 20, Duration.ofMinutes(1));
+
+    // Assert
+    assertThat(wait).isZero();
+    verify(rateLimitBucketMapper, never()).secondsUntilToken(anyString(), anyInt(), anyDouble());
+  }
+
+  @Test
+  void tryAcquire_whenBucketEmpty_returnsTimeUntilNextToken() {
+    // Arrange
+    when(rateLimitBucketMapper.takeToken("key", 20, 60.0)).thenReturn(null);
+    when(rateLimitBucketMapper.secondsUntilToken("key", 20, 60.0)).thenReturn(2.5);
+
+    // Act
+    Duration wait = rateLimiter.tryAcquire("key", 20, Duration.ofMinutes(1));
+
+    // Assert
+    assertThat(wait).isEqualTo(Duration.ofMillis(2500));
+  }
+
+  @Test
+  void tryAcquire_whenBucketVanishedAfterRefusal_stillReturnsPositiveWait() {
+    // Arrange
+    when(rateLimitBucketMapper.takeToken("key", 20, 60.0)).thenReturn(null);
+    when(rateLimitBucketMapper.secondsUntilToken("key", 20, 60.0)).thenReturn(null);
+
+    // Act & Assert
+    assertThat(rateLimiter.tryAcquire("key", 20, Duration.ofMinutes(1))).isPositive();
+  }
+}
@@ -0,0 +1,70 @@
+package com.sandbox.api.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest
+@Testcontainers
+@Transactional
+class RateLimitBucketMapperTest {
+  @Container static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+  }
+
+  @Autowired private RateLimitBucketMapper rateLimitBucketMapper;
+
+  @Test
+  void takeToken_firstAttempt_createsBucketWithOneTokenTaken() {
+    // Act
+    Double tokens = rateLimitBucketMapper.takeToken("first", 3, 3600);
+
+    // Assert
+    assertThat(tokens).isEqualTo(2.0);
+  }
+
+  @Test
+  void takeToken_whenBucketEmpty_returnsNullAndLeavesItEmpty() {
+    // Arrange
+    rateLimitBucketMapper.takeToken("empty", 2, 3600);
+    rateLimitBucketMapper.takeToken("empty", 2, 3600);
+
+    // Act
+    Double tokens = rateLimitBucketMapper.takeToken("empty", 2, 3600);
+
+    // Assert
+    assertThat(tokens).isNull();
+    assertThat(rateLimitBucketMapper.secondsUntilToken("empty", 2, 3600)).isBetween(1790.0, 1800.0);
+  }
+
+  @Test
+  void secondsUntilToken_withoutBucket_returnsNull() {
+    assertThat(rateLimitBucketMapper.secondsUntilToken("missing", 2, 3600)).isNull();
+  }
+
+  @Test
+  void deleteFull_keepsBucketsStillRefilling() {
+    // Arrange
+    rateLimitBucketMapper.takeToken("refilling", 2, 3600);
+
+    // Act
+    rateLimitBucketMapper.deleteFull();
+
+    // Assert
+    assertThat(rateLimitBucketMapper.takeToken("refilling", 2, 3600)).isNotNull();
+    assertThat(rateLimitBucketMapper.takeToken("refilling", 2, 3600)).isNull();
+  }
+}
@@ -0,0 +1,86 @@
+package com.sandbox.api.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sandbox.api.application.dto.PublicSigningKey;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.HexFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for Ed25519JwsKey */
+class Ed25519JwsKeyTest {
+
+  /** The public key of RFC 8037, appendix A.2, X.509 DER encoded. */
+  private static final String RFC_8037_PUBLIC_KEY =
+      Base64.getEncoder()
+          .encodeToString(
+              HexFormat.of()
+                  .parseHex(
+                      "302a300506032b6570032100"
+                          + "d75a980182b10ab7d54bfed3c964073a0ee172f3daa62325af021a68f707511a"));
+
+  @Test
+  @DisplayName("kidが公開鍵のJWK Thumbprint（RFC 7638）であること")
+  void keyId_shouldBeJwkThumbprint() {
+    // When
+    Ed25519JwsKey key = Ed25519JwsKey.verifying(RFC_8037_PUBLIC_KEY);
+
+    // Then: the thumbprint given in RFC 8037, appendix A.3
+    assertThat(key.keyId()).isEqualTo("kPrK_qmxVWaYVA9wwBF6Iuo3vVzz7TxHCTwXBygrS4k");
+    assertThat(key.canSign()).isFalse();
+  }
+
+  @Test
+  @DisplayName("公開用の鍵に生の公開鍵が含まれること")
+  void toPublicKey_shouldReturnRawPublicKey() {
+    // When
+    PublicSigningKey publicKey = Ed25519JwsKey.verifying(RFC_8037_PUBLIC_KEY).toPublicKey();
+
+    // Then
+    assertThat(publicKey.getKeyId()).isEqualTo("kPrK_qmxVWaYVA9wwBF6Iuo3vVzz7TxHCTwXBygrS4k");
+    assertThat(publicKey.getAlgorithm()).isEqualTo("EdDSA");
+    assertThat(publicKey.getCurve()).isEqualTo("Ed25519");
+    assertThat(HexFormat.of().formatHex(publicKey.getPublicKey()))
+        .isEqualTo("d75a980182b10ab7d54bfed3c964073a0ee172f3daa62325af021a68f707511a");
+  }
+
+  @Test
+  @DisplayName("署名した内容を検証でき、改ざんされた内容は拒否されること")
+  void sign_shouldProduceSignaturesThatVerify() throws Exception {
+    // Given
+    Ed25519JwsKey key = TestKeys.ed25519();
+    byte[] input = "header.payload".getBytes();
+    byte[] signature = new byte[key.signatureLength()];
+
+    // When
+    key.sign(input, input.length, signature);
+
+    // Then
+    assertThat(key.verify(input, input.length, signature)).isTrue();
+    assertThat(key.verify(input, input.length - 1, signature)).isFalse();
+  }
+
+  @Test
+  @DisplayName("対にならない秘密鍵と公開鍵や不正な鍵は拒否されること")
+  void signing_shouldRejectMismatchedOrInvalidKeys() throws Exception {
+    // Given
+    KeyPair pair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    String privateKey = Base64.getEncoder().encodeToString(pair.getPrivate().getEncoded());
+
+    // When & Then
+    assertThat(
+            Ed25519JwsKey.signing(
+                    privateKey, Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()))
+                .canSign())
+        .isTrue();
+    assertThatThrownBy(() -> Ed25519JwsKey.signing(privateKey, RFC_8037_PUBLIC_KEY))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("do not match");
+    assertThatThrownBy(() -> Ed25519JwsKey.verifying("bm90IGEga2V5"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,101 @@
+package com.sandbox.api.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRateLimiterTest {
+
+  private static final Duration TEN_SECONDS = Duration.ofSeconds(10);
+
+  private final AtomicLong clock = new AtomicLong();
+
+  private InMemoryRateLimiter limiter;
+
+  @BeforeEach
+  void setUp() {
+    limiter = new InMemoryRateLimiter(1000, clock::get);
+  }
+
+  @Test
+  void tryAcquire_allowsBurstUpToCapacity() {
+    assertThat(limiter.tryAcquire("key", 3, TEN_SECONDS)).isZero();
+    assertThat(limiter.tryAcquire("key", 3, TEN_SECONDS)).isZero();
+    assertThat(limiter.tryAcquire("key", 3, TEN_SECONDS)).isZero();
+    assertThat(limiter.tryAcquire("key", 3, TEN_SECONDS)).isPositive();
+  }
+
+  @Test
+  void tryAcquire_whenEmpty_reportsTimeUntilNextToken() {
+    // Arrange: 2 tokens per 10 seconds, one token every 5 seconds
+    limiter.tryAcquire("key", 2, TEN_SECONDS);
+    limiter.tryAcquire("key", 2, TEN_SECONDS);
+    clock.addAndGet(Duration.ofSeconds(2).toNanos());
+
+    // Act & Assert
+    assertThat(limiter.tryAcquire("key", 2, TEN_SECONDS))
+        .isBetween(Duration.ofMillis(2999), Duration.ofMillis(3001));
+  }
+
+  @Test
+  void tryAcquire_refillsOverTime() {
+    // Arrange
+    limiter.tryAcquire("key", 2, TEN_SECONDS);
+    limiter.tryAcquire("key", 2, TEN_SECONDS);
+
+    // Act
+    clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+    // Assert
+    assertThat(limiter.tryAcquire("key", 2, TEN_SECONDS)).isZero();
+    assertThat(limiter.tryAcquire("key", 2, TEN_SECONDS)).isPositive();
+  }
+
+  @Test
+  void tryAcquire_keepsKeysIndependent() {
+    limiter.tryAcquire("a", 1, TEN_SECONDS);
+
+    assertThat(limiter.tryAcquire("a", 1, TEN_SECONDS)).isPositive();
+    assertThat(limiter.tryAcquire("b", 1, TEN_SECONDS)).isZero();
+  }
+
+  @Test
+  void purgeIdle_removesOnlyRefilledBuckets() {
+    // Arrange: "a" refills 10 seconds after its attempt, "b" 10 seconds after its later attempt
+    limiter.tryAcquire("a", 1, TEN_SECONDS);
+    clock.addAndGet(Duration.ofSeconds(5).toNanos());
+    limiter.tryAcquire("b", 1, TEN_SECONDS);
+    clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+    // Act
+    limiter.purgeIdle();
+
+    // Assert
+    assertThat(limiter.size()).isEqualTo(1);
+    assertThat(limiter.tryAcquire("b", 1, TEN_SECONDS)).isPositive();
+  }
+
+  @Test
+  void tryAcquire_beyondMaxBuckets_dropsLeastRecentlyUsed() {
+    // Arrange
+    InMemoryRateLimiter small = new InMemoryRateLimiter(1, clock::get);
+
+    // Act
+    for (int i = 0; i < 1000; i++) {
+      small.tryAcquire("key-" + i, 1, TEN_SECONDS);
+    }
+
+    // Assert: at most one bucket per stripe is kept
+    assertThat(small.size()).isLessThanOrEqualTo(32);
+  }
+
+  @Test
+  void constructor_withoutBuckets_throws() {
+    assertThatThrownBy(() -> new InMemoryRateLimiter(0, clock::get))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
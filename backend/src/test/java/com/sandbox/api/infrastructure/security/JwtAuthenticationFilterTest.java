@@ -4,9 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+import com.sandbox.api.application.dto.TokenClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.time.Instant;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,7 +23,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 @ExtendWith(MockitoExtension.class)
 class JwtAuthenticationFilterTest {
 
-  @Mock private JwtTokenProvider jwtTokenProvider;
+  @Mock private VerifiedTokenCache verifiedTokenCache;
 
   @Mock private HttpServletRequest request;
 
@@ -32,7 +35,7 @@ class JwtAuthenticationFilterTest {
 
   @BeforeEach
   void setUp() {
-    jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider);
+    jwtAuthenticationFilter = new JwtAuthenticationFilter(verifiedTokenCache);
     SecurityContextHolder.clearContext();
   }
 
@@ -45,9 +48,7 @@ class JwtAuthenticationFilterTest {
     String role = "ADMIN";
 
     when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-    when(jwtTokenProvider.validateToken(token)).thenReturn(true);
-    when(jwtTokenProvider.getUsernameFromToken(token)).thenReturn(username);
-    when(jwtTokenProvider.getRoleFromToken(token)).thenReturn(role);
+    when(verifiedTokenCache.verifyToken(token)).thenReturn(Optional.of(claims(username, role)));
 
     // When
     jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -60,6 +61,9 @@ class JwtAuthenticationFilterTest {
     assertThat(authentication.getAuthorities().iterator().next().getAuthority())
         .isEqualTo("ROLE_ADMIN");
 
+    // The token is verified once, not once per claim
+    verify(verifiedTokenCache).verifyToken(token);
+    verifyNoMoreInteractions(verifiedTokenCache);
     verify(filterChain).doFilter(request, response);
   }
 
@@ -76,7 +80,7 @@ class JwtAuthenticationFilterTest {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     assertThat(authentication).isNull();
 
-    verify(jwtTokenProvider, never()).validateToken(anyString());
+    verify(verifiedTokenCache, never()).verifyToken(anyString());
     verify(filterChain).doFilter(request, response);
   }
 
@@ -93,7 +97,7 @@ class JwtAuthenticationFilterTest {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     assertThat(authentication).isNull();
 
-    verify(jwtTokenProvider, never()).validateToken(anyString());
+    verify(verifiedTokenCache, never()).verifyToken(anyString());
     verify(filterChain).doFilter(request, response);
   }
 
@@ -103,7 +107,7 @@ class JwtAuthenticationFilterTest {
     // Given
     String token = "invalid.jwt.token";
     when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-    when(jwtTokenProvider.validateToken(token)).thenReturn(false);
+    when(verifiedTokenCache.verifyToken(token)).thenReturn(Optional.empty());
 
     // When
     jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -112,8 +116,7 @@ class JwtAuthenticationFilterTest {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     assertThat(authentication).isNull();
 
-    verify(jwtTokenProvider).validateToken(token);
-    verify(jwtTokenProvider, never()).getUsernameFromToken(anyString());
+    verify(verifiedTokenCache).verifyToken(token);
     verify(filterChain).doFilter(request, response);
   }
 
@@ -123,7 +126,7 @@ class JwtAuthenticationFilterTest {
     // Given
     String token = "valid.jwt.token";
     when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-    when(jwtTokenProvider.validateToken(token))
+    when(verifiedTokenCache.verifyToken(token))
         .thenThrow(new RuntimeException("Token validation error"));
 
     // When
@@ -145,9 +148,7 @@ class JwtAuthenticationFilterTest {
     String role = "VIEWER";
 
     when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-    when(jwtTokenProvider.validateToken(token)).thenReturn(true);
-    when(jwtTokenProvider.getUsernameFromToken(token)).thenReturn(username);
-    when(jwtTokenProvider.getRoleFromToken(token)).thenReturn(role);
+    when(verifiedTokenCache.verifyToken(token)).thenReturn(Optional.of(claims(username, role)));
 
     // When
     jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -162,4 +163,8 @@ class JwtAuthenticationFilterTest {
 
     verify(filterChain).doFilter(request, response);
   }
+
+  private static TokenClaims claims(String username, String role) {
+    return new TokenClaims(username, role, Instant.now().plusSeconds(3600), "sandbox-api");
+  }
 }
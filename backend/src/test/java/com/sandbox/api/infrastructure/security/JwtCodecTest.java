@@ -0,0 +1,362 @@
+package com.sandbox.api.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sandbox.api.application.dto.TokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit tests for JwtCodec */
+class JwtCodecTest {
+
+  private static final long IAT = 1_700_000_000L;
+  private static final long EXP = IAT + 3600;
+  private static final long NOW_MILLIS = (IAT + 60) * 1000;
+  private static final String ISSUER = "sandbox-api";
+
+  private final SecretKey key = key(62);
+  private final JwtCodec codec =
+      new JwtCodec(new HmacJwsKey(key), List.of(), ISSUER, "ADMIN", "VIEWER");
+
+  @ParameterizedTest
+  @ValueSource(ints = {32, 62, 64})
+  @DisplayName("HS256/HS384/HS512のいずれでもjjwtと同一のトークンを生成すること")
+  void encode_shouldMatchJjwtByteForByte(int keyLength) {
+    // Given
+    SecretKey key = key(keyLength);
+    JwtCodec codec = hmacCodec(key);
+    String subject = "ad\"m\\in/\b\f\n\r\t\u0001\u001f\u007f<é\u2028😀\uD800";
+
+    // When
+    String accessToken = codec.encode(subject, "ADMIN", ISSUER, IAT, EXP);
+    String refreshToken = codec.encode("testuser", null, ISSUER, IAT, EXP);
+
+    // Then
+    assertThat(accessToken).isEqualTo(jjwtToken(key, subject, "ADMIN", EXP));
+    assertThat(refreshToken).isEqualTo(jjwtToken(key, "testuser", null, EXP));
+  }
+
+  @Test
+  @DisplayName("生成したトークンをjjwtで検証できること")
+  void encode_shouldProduceTokensJjwtAccepts() {
+    // Given
+    String token =
+        codec.encode("testuser", "VIEWER", ISSUER, IAT, Instant.now().getEpochSecond() + 60);
+
+    // When
+    Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+
+    // Then
+    assertThat(claims.getSubject()).isEqualTo("testuser");
+    assertThat(claims.get("role", String.class)).isEqualTo("VIEWER");
+    assertThat(claims.getIssuer()).isEqualTo(ISSUER);
+  }
+
+  @Test
+  @DisplayName("jjwtで生成したトークンのクレームを取得できること")
+  void verify_shouldReturnClaimsOfJjwtToken() {
+    // Given
+    String subject = "ad\"m\\in/\n\u0001é😀";
+    String token = jjwtToken(key, subject, "ADMIN", EXP);
+
+    // When
+    TokenClaims claims = codec.verify(token, NOW_MILLIS);
+
+    // Then
+    assertThat(claims).isNotNull();
+    assertThat(claims.getSubject()).isEqualTo(subject);
+    assertThat(claims.getRole()).isEqualTo("ADMIN");
+    assertThat(claims.getIssuer()).isEqualTo(ISSUER);
+    assertThat(claims.getExpiresAt()).isEqualTo(Instant.ofEpochSecond(EXP));
+  }
+
+  @Test
+  @DisplayName("既知の発行者とロールは共有インスタンスで返されること")
+  void verify_shouldReturnKnownValuesAsSharedInstances() {
+    // Given
+    String issuer = new String(ISSUER);
+    String token = codec.encode("testuser", new String("ADMIN"), issuer, IAT, EXP);
+
+    // When
+    TokenClaims claims = codec.verify(token, NOW_MILLIS);
+
+    // Then
+    assertThat(claims.getIssuer()).isSameAs(ISSUER);
+    assertThat(claims.getRole()).isSameAs("ADMIN");
+  }
+
+  @Test
+  @DisplayName("リフレッシュトークンのロールがnullであること")
+  void verify_shouldReturnNoRoleForRefreshToken() {
+    // Given
+    String token = codec.encode("testuser", null, ISSUER, IAT, EXP);
+
+    // When
+    TokenClaims claims = codec.verify(token, NOW_MILLIS);
+
+    // Then
+    assertThat(claims.getSubject()).isEqualTo("testuser");
+    assertThat(claims.getRole()).isNull();
+  }
+
+  @Test
+  @DisplayName("有効期限を過ぎたトークンは拒否されること")
+  void verify_shouldRejectExpiredToken() {
+    // Given
+    String token = codec.encode("testuser", "ADMIN", ISSUER, IAT, EXP);
+
+    // When & Then
+    assertThat(codec.verify(token, EXP * 1000)).isNotNull();
+    assertThat(codec.verify(token, EXP * 1000 + 1)).isNull();
+  }
+
+  @Test
+  @DisplayName("nbfより前のトークンは拒否されること")
+  void verify_shouldRejectTokenBeforeNotBefore() {
+    // Given
+    String token =
+        Jwts.builder()
+            .subject("testuser")
+            .notBefore(new Date((IAT + 120) * 1000))
+            .signWith(key)
+            .compact();
+
+    // When & Then
+    assertThat(codec.verify(token, NOW_MILLIS)).isNull();
+    assertThat(codec.verify(token, (IAT + 120) * 1000)).isNotNull();
+  }
+
+  @Test
+  @DisplayName("署名・鍵・ヘッダーが異なるトークンは拒否されること")
+  void verify_shouldRejectForgedTokens() {
+    // Given
+    String token = codec.encode("testuser", "ADMIN", ISSUER, IAT, EXP);
+    int signatureStart = token.lastIndexOf('.') + 1;
+    char last = token.charAt(signatureStart);
+    String tamperedSignature =
+        token.substring(0, signatureStart)
+            + (last == 'A' ? 'B' : 'A')
+            + token.substring(signatureStart + 1);
+    String tamperedPayload =
+        token.substring(0, token.indexOf('.') + 1)
+            + encode("{\"sub\":\"admin\",\"role\":\"ADMIN\",\"exp\":" + EXP + "}")
+            + token.substring(signatureStart - 1);
+    String otherKey = hmacCodec(key(63)).encode("testuser", "ADMIN", ISSUER, IAT, EXP);
+    String unsigned = encode("{\"alg\":\"none\"}") + "." + token.split("\\.")[1] + ".";
+    String otherAlgorithm = jjwtToken(key(32), "testuser", "ADMIN", EXP);
+
+    // When & Then
+    assertThat(codec.verify(tamperedSignature, NOW_MILLIS)).isNull();
+    assertThat(codec.verify(tamperedPayload, NOW_MILLIS)).isNull();
+    assertThat(codec.verify(otherKey, NOW_MILLIS)).isNull();
+    assertThat(codec.verify(unsigned, NOW_MILLIS)).isNull();
+    assertThat(codec.verify(otherAlgorithm, NOW_MILLIS)).isNull();
+  }
+
+  @Test
+  @DisplayName("不正な形式のトークンは暗号処理の前に拒否されること")
+  void verify_shouldRejectMalformedTokens() {
+    // Given
+    String token = codec.encode("testuser", "ADMIN", ISSUER, IAT, EXP);
+    String[] parts = token.split("\\.");
+
+    // When & Then
+    assertThat(codec.verify(null, NOW_MILLIS)).isNull();
+    assertThat(codec.verify("", NOW_MILLIS)).isNull();
+    assertThat(codec.verify("not.a.valid.jwt.token", NOW_MILLIS)).isNull();
+    assertThat(codec.verify(parts[0] + "." + parts[1], NOW_MILLIS)).isNull();
+    assertThat(codec.verify(parts[0] + ".." + parts[2], NOW_MILLIS)).isNull();
+    assertThat(
+            codec.verify(parts[0] + "." + parts[1] + "." + parts[1] + "." + parts[2], NOW_MILLIS))
+        .isNull();
+    assertThat(codec.verify(parts[0] + ".***." + parts[2], NOW_MILLIS)).isNull();
+    assertThat(codec.verify(token + "A", NOW_MILLIS)).isNull();
+    assertThat(codec.verify(token.substring(0, token.length() - 1), NOW_MILLIS)).isNull();
+    assertThat(
+            codec.verify(
+                parts[0] + "." + "A".repeat(JwtCodec.MAX_TOKEN_LENGTH) + "." + parts[2],
+                NOW_MILLIS))
+        .isNull();
+  }
+
+  @Test
+  @DisplayName("正しく署名されていても対応しないクレームを含むトークンは拒否されること")
+  void verify_shouldRejectSignedTokensWithUnsupportedClaims() {
+    // Given
+    String nested =
+        Jwts.builder()
+            .subject("testuser")
+            .claim("scope", new String[] {"read"})
+            .signWith(key)
+            .compact();
+    String numericSubject = signed("{\"sub\":42,\"exp\":" + EXP + "}");
+    String fractionalExpiry = signed("{\"sub\":\"testuser\",\"exp\":" + EXP + ".5}");
+    String trailingData = signed("{\"sub\":\"testuser\"}x");
+
+    // When & Then
+    assertThat(codec.verify(nested, NOW_MILLIS)).isNull();
+    assertThat(codec.verify(numericSubject, NOW_MILLIS)).isNull();
+    assertThat(codec.verify(fractionalExpiry, NOW_MILLIS)).isNull();
+    assertThat(codec.verify(trailingData, NOW_MILLIS)).isNull();
+  }
+
+  @Test
+  @DisplayName("読まないクレームは読み飛ばされること")
+  void verify_shouldSkipUnknownClaims() {
+    // Given
+    String token =
+        signed(
+            "{ \"jti\" : \"id-1\", \"sub\":\"testuser\", \"admin\":true, \"aud\":null,"
+                + " \"iat\":-1, \"exp\":"
+                + EXP
+                + " }");
+
+    // When
+    TokenClaims claims = codec.verify(token, NOW_MILLIS);
+
+    // Then
+    assertThat(claims).isNotNull();
+    assertThat(claims.getSubject()).isEqualTo("testuser");
+    assertThat(claims.getIssuer()).isNull();
+  }
+
+  @Test
+  @DisplayName("EdDSAで署名したトークンをjjwtで公開鍵だけで検証できること")
+  void encode_shouldProduceEdDsaTokensJjwtAcceptsWithPublicKey() throws Exception {
+    // Given
+    KeyPair pair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    Ed25519JwsKey signingKey = TestKeys.ed25519(pair);
+    JwtCodec codec = new JwtCodec(signingKey, List.of(), ISSUER);
+    String token =
+        codec.encode("testuser", "ADMIN", ISSUER, IAT, Instant.now().getEpochSecond() + 60);
+
+    // When
+    var jws = Jwts.parser().verifyWith(pair.getPublic()).build().parseSignedClaims(token);
+
+    // Then
+    assertThat(jws.getHeader().getAlgorithm()).isEqualTo("EdDSA");
+    assertThat(jws.getHeader().getKeyId()).isEqualTo(signingKey.keyId());
+    assertThat(jws.getPayload().getSubject()).isEqualTo("testuser");
+    assertThat(jws.getPayload().get("role", String.class)).isEqualTo("ADMIN");
+  }
+
+  @Test
+  @DisplayName("ローテーション前の鍵で署名したトークンも以前の公開鍵で検証できること")
+  void verify_shouldAcceptTokensOfPreviousKeyAfterRotation() throws Exception {
+    // Given
+    KeyPair previousPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    String previousToken =
+        new JwtCodec(TestKeys.ed25519(previousPair), List.of(), ISSUER)
+            .encode("testuser", "ADMIN", ISSUER, IAT, EXP);
+    JwsKey previousKey = Ed25519JwsKey.verifying(encode(previousPair.getPublic().getEncoded()));
+    Ed25519JwsKey currentKey = TestKeys.ed25519();
+    JwtCodec rotated = new JwtCodec(currentKey, List.of(previousKey), ISSUER);
+    JwtCodec withoutPrevious = new JwtCodec(currentKey, List.of(), ISSUER);
+
+    // When
+    String currentToken = rotated.encode("testuser", "ADMIN", ISSUER, IAT, EXP);
+
+    // Then
+    assertThat(rotated.verify(previousToken, NOW_MILLIS)).isNotNull();
+    assertThat(rotated.verify(currentToken, NOW_MILLIS)).isNotNull();
+    assertThat(withoutPrevious.verify(previousToken, NOW_MILLIS)).isNull();
+    assertThat(currentToken.substring(0, currentToken.indexOf('.')))
+        .isEqualTo(encode("{\"alg\":\"EdDSA\",\"kid\":\"" + currentKey.keyId() + "\"}"));
+  }
+
+  @Test
+  @DisplayName("未知のkidや別のアルゴリズムのトークンはEdDSAの鍵で拒否されること")
+  void verify_shouldRejectTokensOfUnknownKeyIdOrAlgorithm() {
+    // Given
+    Ed25519JwsKey signingKey = TestKeys.ed25519();
+    JwtCodec codec = new JwtCodec(signingKey, List.of(), ISSUER);
+    String token = codec.encode("testuser", "ADMIN", ISSUER, IAT, EXP);
+    String rest = token.substring(token.indexOf('.'));
+    String otherKeyId = encode("{\"alg\":\"EdDSA\",\"kid\":\"other\"}") + rest;
+    String noKeyId = encode("{\"alg\":\"EdDSA\"}") + rest;
+    String hmacToken = jjwtToken(key, "testuser", "ADMIN", EXP);
+
+    // When & Then
+    assertThat(codec.verify(token, NOW_MILLIS)).isNotNull();
+    assertThat(codec.verify(otherKeyId, NOW_MILLIS)).isNull();
+    assertThat(codec.verify(noKeyId, NOW_MILLIS)).isNull();
+    assertThat(codec.verify(hmacToken, NOW_MILLIS)).isNull();
+    assertThat(this.codec.verify(token, NOW_MILLIS)).isNull();
+  }
+
+  @Test
+  @DisplayName("署名できない鍵や重複した鍵では構築できないこと")
+  void constructor_shouldRejectUnusableKeys() throws Exception {
+    // Given
+    KeyPair pair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    JwsKey verifyingOnly = Ed25519JwsKey.verifying(encode(pair.getPublic().getEncoded()));
+    JwsKey signingKey = TestKeys.ed25519(pair);
+
+    // When & Then
+    assertThatThrownBy(() -> new JwtCodec(verifyingOnly, List.of()))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new JwtCodec(signingKey, List.of(verifyingOnly)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private String signed(String claimsJson) {
+    String token = codec.encode("x", null, ISSUER, IAT, EXP);
+    String signingInput = token.substring(0, token.indexOf('.') + 1) + encode(claimsJson);
+    try {
+      Mac mac = Mac.getInstance(key.getAlgorithm());
+      mac.init(key);
+      byte[] signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+      return signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static JwtCodec hmacCodec(SecretKey key) {
+    return new JwtCodec(new HmacJwsKey(key), List.of());
+  }
+
+  private static String encode(byte[] der) {
+    return Base64.getEncoder().encodeToString(der);
+  }
+
+  private static String encode(String json) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String jjwtToken(SecretKey key, String subject, String role, long expiresAt) {
+    JwtBuilder builder = Jwts.builder().subject(subject);
+    if (role != null) {
+      builder.claim("role", role);
+    }
+    return builder
+        .issuer(ISSUER)
+        .issuedAt(new Date(IAT * 1000))
+        .expiration(new Date(expiresAt * 1000))
+        .signWith(key)
+        .compact();
+  }
+
+  private static SecretKey key(int length) {
+    return Keys.hmacShaKeyFor("k".repeat(length).getBytes(StandardCharsets.UTF_8));
+  }
+}
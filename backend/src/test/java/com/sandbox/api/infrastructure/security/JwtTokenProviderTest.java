@@ -1,12 +1,20 @@
 package com.sandbox.api.infrastructure.security;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.sandbox.api.application.dto.PublicSigningKey;
+import com.sandbox.api.application.dto.TokenClaims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import javax.crypto.SecretKey;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -41,9 +49,10 @@ class JwtTokenProviderTest {
     // Then
     assertThat(token).isNotNull();
     assertThat(token).isNotEmpty();
-    assertThat(jwtTokenProvider.validateToken(token)).isTrue();
-    assertThat(jwtTokenProvider.getUsernameFromToken(token)).isEqualTo(username);
-    assertThat(jwtTokenProvider.getRoleFromToken(token)).isEqualTo(role);
+    Optional<TokenClaims> claims = jwtTokenProvider.verifyToken(token);
+    assertThat(claims).isPresent();
+    assertThat(claims.get().getSubject()).isEqualTo(username);
+    assertThat(claims.get().getRole()).isEqualTo(role);
   }
 
   @Test
@@ -58,26 +67,83 @@ class JwtTokenProviderTest {
     // Then
     assertThat(token).isNotNull();
     assertThat(token).isNotEmpty();
-    assertThat(jwtTokenProvider.validateToken(token)).isTrue();
-    assertThat(jwtTokenProvider.getUsernameFromToken(token)).isEqualTo(username);
+    Optional<TokenClaims> claims = jwtTokenProvider.verifyToken(token);
+    assertThat(claims).isPresent();
+    assertThat(claims.get().getSubject()).isEqualTo(username);
+  }
+
+  @Test
+  @DisplayName("トークンを一度の検証ですべてのクレームとともに取得できること")
+  void verifyToken_shouldReturnAllClaimsOfValidToken() {
+    // Given
+    Instant before = Instant.now().minusSeconds(1);
+    String token = jwtTokenProvider.generateAccessToken("testuser", "ADMIN");
+
+    // When
+    Optional<TokenClaims> claims = jwtTokenProvider.verifyToken(token);
+
+    // Then
+    assertThat(claims).isPresent();
+    assertThat(claims.get().getSubject()).isEqualTo("testuser");
+    assertThat(claims.get().getRole()).isEqualTo("ADMIN");
+    assertThat(claims.get().getIssuer()).isEqualTo(ISSUER);
+    assertThat(claims.get().getExpiresAt())
+        .isAfter(before.plusMillis(ACCESS_TOKEN_EXPIRATION - 5000))
+        .isBefore(Instant.now().plusMillis(ACCESS_TOKEN_EXPIRATION + 1000));
+  }
+
+  @Test
+  @DisplayName("リフレッシュトークンの検証結果にはロールが含まれないこと")
+  void verifyToken_shouldReturnNoRoleForRefreshToken() {
+    // Given
+    String token = jwtTokenProvider.generateRefreshToken("testuser");
+
+    // When
+    Optional<TokenClaims> claims = jwtTokenProvider.verifyToken(token);
+
+    // Then
+    assertThat(claims).isPresent();
+    assertThat(claims.get().getSubject()).isEqualTo("testuser");
+    assertThat(claims.get().getRole()).isNull();
+  }
+
+  @Test
+  @DisplayName("無効なトークンの検証結果が空であること")
+  void verifyToken_shouldReturnEmptyForInvalidToken() {
+    // Given
+    SecretKey differentKey =
+        Keys.hmacShaKeyFor(
+            "different-secret-key-for-testing-purposes".getBytes(StandardCharsets.UTF_8));
+    String forgedToken =
+        Jwts.builder()
+            .subject("testuser")
+            .claim("role", "ADMIN")
+            .expiration(Date.from(Instant.now().plusMillis(3600000)))
+            .signWith(differentKey)
+            .compact();
+
+    // When & Then
+    assertThat(jwtTokenProvider.verifyToken(forgedToken)).isEmpty();
+    assertThat(jwtTokenProvider.verifyToken("not.a.valid.jwt.token")).isEmpty();
+    assertThat(jwtTokenProvider.verifyToken("")).isEmpty();
   }
 
   @Test
   @DisplayName("有効なトークンの検証が成功すること")
-  void validateToken_shouldReturnTrueForValidToken() {
+  void verifyToken_shouldReturnClaimsForValidToken() {
     // Given
     String token = jwtTokenProvider.generateAccessToken("testuser", "ADMIN");
 
     // When
-    boolean isValid = jwtTokenProvider.validateToken(token);
+    Optional<TokenClaims> claims = jwtTokenProvider.verifyToken(token);
 
     // Then
-    assertThat(isValid).isTrue();
+    assertThat(claims).isPresent();
   }
 
   @Test
   @DisplayName("期限切れトークンの検証が失敗すること")
-  void validateToken_shouldReturnFalseForExpiredToken() {
+  void verifyToken_shouldReturnEmptyForExpiredToken() {
     // Given: Create an expired token (expired 1 hour ago)
     SecretKey key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
     Instant now = Instant.now();
@@ -94,15 +160,15 @@ class JwtTokenProviderTest {
             .compact();
 
     // When
-    boolean isValid = jwtTokenProvider.validateToken(expiredToken);
+    Optional<TokenClaims> claims = jwtTokenProvider.verifyToken(expiredToken);
 
     // Then
-    assertThat(isValid).isFalse();
+    assertThat(claims).isEmpty();
   }
 
   @Test
   @DisplayName("無効な署名のトークンの検証が失敗すること")
-  void validateToken_shouldReturnFalseForInvalidSignature() {
+  void verifyToken_shouldReturnEmptyForInvalidSignature() {
     // Given: Create a token with different secret key
     SecretKey differentKey =
         Keys.hmacShaKeyFor(
@@ -121,64 +187,64 @@ class JwtTokenProviderTest {
             .compact();
 
     // When
-    boolean isValid = jwtTokenProvider.validateToken(invalidToken);
+    Optional<TokenClaims> claims = jwtTokenProvider.verifyToken(invalidToken);
 
     // Then
-    assertThat(isValid).isFalse();
+    assertThat(claims).isEmpty();
   }
 
   @Test
   @DisplayName("不正な形式のトークンの検証が失敗すること")
-  void validateToken_shouldReturnFalseForMalformedToken() {
+  void verifyToken_shouldReturnEmptyForMalformedToken() {
     // Given
     String malformedToken = "not.a.valid.jwt.token";
 
     // When
-    boolean isValid = jwtTokenProvider.validateToken(malformedToken);
+    Optional<TokenClaims> claims = jwtTokenProvider.verifyToken(malformedToken);
 
     // Then
-    assertThat(isValid).isFalse();
+    assertThat(claims).isEmpty();
   }
 
   @Test
   @DisplayName("空のトークンの検証が失敗すること")
-  void validateToken_shouldReturnFalseForEmptyToken() {
+  void verifyToken_shouldReturnEmptyForEmptyToken() {
     // Given
     String emptyToken = "";
 
     // When
-    boolean isValid = jwtTokenProvider.validateToken(emptyToken);
+    Optional<TokenClaims> claims = jwtTokenProvider.verifyToken(emptyToken);
 
     // Then
-    assertThat(isValid).isFalse();
+    assertThat(claims).isEmpty();
   }
 
   @Test
   @DisplayName("トークンからユーザー名を正常に取得できること")
-  void getUsernameFromToken_shouldReturnCorrectUsername() {
+  void verifyToken_shouldReturnCorrectUsername() {
     // Given
     String username = "testuser";
     String token = jwtTokenProvider.generateAccessToken(username, "ADMIN");
 
     // When
-    String extractedUsername = jwtTokenProvider.getUsernameFromToken(token);
+    Optional<TokenClaims> claims = jwtTokenProvider.verifyToken(token);
 
     // Then
-    assertThat(extractedUsername).isEqualTo(username);
+    assertThat(claims).map(TokenClaims::getSubject).contains(username);
   }
 
   @Test
   @DisplayName("トークンからロールを正常に取得できること")
-  void getRoleFromToken_shouldReturnCorrectRole() {
+  void verifyToken_shouldReturnCorrectRole() {
     // Given
     String role = "VIEWER";
     String token = jwtTokenProvider.generateAccessToken("testuser", role);
 
     // When
-    String extractedRole = jwtTokenProvider.getRoleFromToken(token);
+    Optional<TokenClaims> claims = jwtTokenProvider.verifyToken(token);
 
     // Then
-    assertThat(extractedRole).isEqualTo(role);
+    assertThat(claims).map(TokenClaims::getRole).contains(role);
   }
 
   @Test
@@ -194,4 +260,101 @@ class JwtTokenProviderTest {
     // Then
     assertThat(accessToken).isNotEqualTo(refreshToken);
   }
+
+  @Test
+  @DisplayName("共有秘密鍵で署名する場合は公開鍵がないこと")
+  void getPublicKeys_shouldBeEmptyForSharedSecret() {
+    // When & Then
+    assertThat(jwtTokenProvider.getPublicKeys()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("EdDSAでは現在の鍵と以前の鍵を公開し、以前の鍵のトークンも検証できること")
+  void eddsa_shouldPublishKeysAndAcceptTokensOfPreviousKey() throws Exception {
+    // Given
+    KeyPair previous = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    KeyPair current = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    JwtTokenProvider beforeRotation = eddsaProvider(previous, "");
+    String previousToken = beforeRotation.generateAccessToken("testuser", "ADMIN");
+
+    // When
+    JwtTokenProvider afterRotation =
+        eddsaProvider(current, " " + encode(previous.getPublic().getEncoded()) + " ,");
+
+    // Then
+    List<PublicSigningKey> keys = afterRotation.getPublicKeys();
+    assertThat(keys).hasSize(2);
+    assertThat(keys.get(1).getKeyId()).isEqualTo(beforeRotation.getPublicKeys().get(0).getKeyId());
+    assertThat(afterRotation.verifyToken(previousToken)).isPresent();
+    String currentToken = afterRotation.generateAccessToken("testuser", "ADMIN");
+    assertThat(afterRotation.verifyToken(currentToken))
+        .map(TokenClaims::getSubject)
+        .contains("testuser");
+    assertThat(beforeRotation.verifyToken(currentToken)).isEmpty();
+    assertThat(jwtTokenProvider.verifyToken(currentToken)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("不明な署名方式やEdDSAの鍵の不足は拒否されること")
+  void constructor_shouldRejectInvalidConfiguration() throws Exception {
+    // Given
+    KeyPair pair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    String privateKey = encode(pair.getPrivate().getEncoded());
+
+    // When & Then
+    assertThatThrownBy(
+            () ->
+                new JwtTokenProvider(
+                    SECRET_KEY,
+                    ACCESS_TOKEN_EXPIRATION,
+                    REFRESH_TOKEN_EXPIRATION,
+                    ISSUER,
+                    "rs256",
+                    "",
+                    "",
+                    ""))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () ->
+                new JwtTokenProvider(
+                    SECRET_KEY,
+                    ACCESS_TOKEN_EXPIRATION,
+                    REFRESH_TOKEN_EXPIRATION,
+                    ISSUER,
+                    "eddsa",
+                    privateKey,
+                    "",
+                    ""))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("public-key");
+    assertThatThrownBy(
+            () ->
+                new JwtTokenProvider(
+                    SECRET_KEY,
+                    ACCESS_TOKEN_EXPIRATION,
+                    REFRESH_TOKEN_EXPIRATION,
+                    ISSUER,
+                    "eddsa",
+                    "",
+                    "",
+                    ""))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("private-key");
+  }
+
+  private static JwtTokenProvider eddsaProvider(KeyPair pair, String previousPublicKeys) {
+    return new JwtTokenProvider(
+        SECRET_KEY,
+        ACCESS_TOKEN_EXPIRATION,
+        REFRESH_TOKEN_EXPIRATION,
+        ISSUER,
+        "eddsa",
+        encode(pair.getPrivate().getEncoded()),
+        encode(pair.getPublic().getEncoded()),
+        previousPublicKeys);
+  }
+
+  private static String encode(byte[] der) {
+    return Base64.getEncoder().encodeToString(der);
+  }
 }
@@ -1,17 +1,23 @@
 package com.sandbox.api.infrastructure.security;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class RefreshTokenStoreTest {
 
+  private static final long TIME_TO_LIVE_MILLIS = 60_000L;
+
+  private final AtomicLong nanoTime = new AtomicLong(1_000L);
   private RefreshTokenStore store;
 
   @BeforeEach
   void setUp() {
-    store = new RefreshTokenStore();
+    store = new RefreshTokenStore(TIME_TO_LIVE_MILLIS, 3, nanoTime::get);
   }
 
   @Test
@@ -68,4 +74,147 @@ class RefreshTokenStoreTest {
 
     assertThat(store.getUserId("token123")).isEqualTo(2L);
   }
+
+  @Test
+  void getUserId_returnsNullOnceTokenHasExpired() {
+    store.store("token123", 1L);
+
+    advanceMillis(TIME_TO_LIVE_MILLIS - 1);
+    assertThat(store.getUserId("token123")).isEqualTo(1L);
+
+    advanceMillis(1);
+    assertThat(store.getUserId("token123")).isNull();
+    assertThat(store.isValid("token123")).isFalse();
+  }
+
+  @Test
+  void sweepExpired_removesOnlyExpiredTokens() {
+    store.store("token1", 1L);
+    store.store("token2", 2L);
+    advanceMillis(TIME_TO_LIVE_MILLIS / 2);
+    store.store("token3", 1L);
+    advanceMillis(TIME_TO_LIVE_MILLIS / 2);
+
+    store.sweepExpired();
+
+    assertThat(store.size()).isEqualTo(1);
+    assertThat(store.getUserId("token3")).isEqualTo(1L);
+  }
+
+  @Test
+  void sweepExpired_keepsTokenStoredAgain() {
+    store.store("token123", 1L);
+    advanceMillis(TIME_TO_LIVE_MILLIS / 2);
+    store.store("token123", 1L);
+    advanceMillis(TIME_TO_LIVE_MILLIS / 2);
+
+    store.sweepExpired();
+
+    assertThat(store.getUserId("token123")).isEqualTo(1L);
+  }
+
+  @Test
+  void store_revokesOldestTokenBeyondPerUserLimit() {
+    store.store("token1", 1L);
+    store.store("token2", 1L);
+    store.store("token3", 1L);
+    store.store("other", 2L);
+
+    store.store("token4", 1L);
+
+    assertThat(store.isValid("token1")).isFalse();
+    assertThat(store.isValid("token2")).isTrue();
+    assertThat(store.isValid("token4")).isTrue();
+    assertThat(store.isValid("other")).isTrue();
+    assertThat(store.size()).isEqualTo(4);
+  }
+
+  @Test
+  void store_withNoPerUserLimit_keepsAllTokens() {
+    RefreshTokenStore unlimited = new RefreshTokenStore(TIME_TO_LIVE_MILLIS, 0, nanoTime::get);
+
+    for (int i = 0; i < 20; i++) {
+      unlimited.store("token" + i, 1L);
+    }
+
+    assertThat(unlimited.size()).isEqualTo(20);
+  }
+
+  @Test
+  void removeAllForUser_keepsTokenStoredAgainForAnotherUser() {
+    store.store("token123", 1L);
+    store.store("token123", 2L);
+
+    store.removeAllForUser(1L);
+
+    assertThat(store.getUserId("token123")).isEqualTo(2L);
+  }
+
+  @Test
+  void remove_freesPlaceUnderPerUserLimit() {
+    store.store("token1", 1L);
+    store.store("token2", 1L);
+    store.store("token3", 1L);
+
+    store.remove("token2");
+    store.store("token4", 1L);
+
+    assertThat(store.isValid("token1")).isTrue();
+    assertThat(store.isValid("token3")).isTrue();
+    assertThat(store.isValid("token4")).isTrue();
+  }
+
+  @Test
+  void sweepExpired_dropsQueueEntriesOfRevokedTokens() {
+    for (int i = 0; i < 10; i++) {
+      store.store("token" + i, 1L);
+    }
+    store.store("other", 2L);
+    store.remove("other");
+
+    store.sweepExpired();
+
+    assertThat(store.size()).isEqualTo(3);
+    assertThat(store.queuedEntries()).isEqualTo(3);
+    assertThat(store.isValid("token9")).isTrue();
+  }
+
+  @Test
+  void sweepExpired_keepsQueueEntriesWhileFewerThanTokens() {
+    store.store("token1", 1L);
+    store.store("token2", 2L);
+    store.store("token3", 3L);
+    store.removeAllForUser(1L);
+
+    store.sweepExpired();
+
+    assertThat(store.size()).isEqualTo(2);
+    assertThat(store.queuedEntries()).isEqualTo(3);
+  }
+
+  @Test
+  void sweepExpired_afterCompaction_stillRemovesExpiredTokens() {
+    for (int i = 0; i < 10; i++) {
+      store.store("token" + i, 1L);
+    }
+    store.sweepExpired();
+    advanceMillis(TIME_TO_LIVE_MILLIS);
+
+    store.sweepExpired();
+
+    assertThat(store.size()).isZero();
+    assertThat(store.queuedEntries()).isZero();
+  }
+
+  @Test
+  void constructor_rejectsInvalidConfiguration() {
+    assertThatThrownBy(() -> new RefreshTokenStore(0, 3, nanoTime::get))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new RefreshTokenStore(TIME_TO_LIVE_MILLIS, -1, nanoTime::get))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private void advanceMillis(long millis) {
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+  }
 }
@@ -0,0 +1,39 @@
+package com.sandbox.api.infrastructure.security;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/** Signing keys for tests and benchmarks, which do not configure a key pair. */
+final class TestKeys {
+
+  private TestKeys() {}
+
+  /**
+   * Creates an Ed25519 key pair that exists only in this process.
+   *
+   * @return a key that signs and verifies
+   */
+  static Ed25519JwsKey ed25519() {
+    try {
+      return ed25519(KeyPairGenerator.getInstance(Ed25519JwsKey.CURVE).generateKeyPair());
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform since 15 supports Ed25519
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Creates a key that signs and verifies with the given key pair.
+   *
+   * @param pair an Ed25519 key pair
+   * @return the key
+   */
+  static Ed25519JwsKey ed25519(KeyPair pair) {
+    Base64.Encoder base64 = Base64.getEncoder();
+    return Ed25519JwsKey.signing(
+        base64.encodeToString(pair.getPrivate().getEncoded()),
+        base64.encodeToString(pair.getPublic().getEncoded()));
+  }
+}
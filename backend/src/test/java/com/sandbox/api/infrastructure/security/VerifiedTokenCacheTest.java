@@ -0,0 +1,142 @@
+package com.sandbox.api.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sandbox.api.application.dto.TokenClaims;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** Unit tests for VerifiedTokenCache */
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+  private static final String TOKEN = "header.payload.signature";
+
+  @Mock private JwtTokenProvider tokenProvider;
+
+  private final AtomicLong nanoTime = new AtomicLong();
+  private VerifiedTokenCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = newCache(true, 100);
+  }
+
+  @Test
+  @DisplayName("同じトークンは2回目以降キャッシュから返され、再検証されないこと")
+  void verifyToken_shouldVerifyOnlyOnFirstUse() {
+    // Given
+    TokenClaims claims = claims("testuser", NOW.plusSeconds(3600));
+    when(tokenProvider.verifyToken(TOKEN)).thenReturn(Optional.of(claims));
+
+    // When
+    Optional<TokenClaims> first = cache.verifyToken(TOKEN);
+    Optional<TokenClaims> second = cache.verifyToken(TOKEN);
+
+    // Then
+    assertThat(first).containsSame(claims);
+    assertThat(second).containsSame(claims);
+    verify(tokenProvider, times(1)).verifyToken(TOKEN);
+  }
+
+  @Test
+  @DisplayName("トークンの有効期限を過ぎたエントリは使われず、再検証されること")
+  void verifyToken_shouldNotOutliveTokenExpiry() {
+    // Given
+    when(tokenProvider.verifyToken(TOKEN))
+        .thenReturn(Optional.of(claims("testuser", NOW.plusSeconds(60))))
+        .thenReturn(Optional.empty());
+    cache.verifyToken(TOKEN);
+
+    // When
+    advance(Duration.ofSeconds(61));
+    Optional<TokenClaims> result = cache.verifyToken(TOKEN);
+
+    // Then
+    assertThat(result).isEmpty();
+    verify(tokenProvider, times(2)).verifyToken(TOKEN);
+  }
+
+  @Test
+  @DisplayName("検証に失敗したトークンはキャッシュされないこと")
+  void verifyToken_shouldNotCacheInvalidToken() {
+    // Given
+    when(tokenProvider.verifyToken(TOKEN)).thenReturn(Optional.empty());
+
+    // When
+    cache.verifyToken(TOKEN);
+    cache.verifyToken(TOKEN);
+
+    // Then
+    verify(tokenProvider, times(2)).verifyToken(TOKEN);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("1文字でも異なるトークンはキャッシュに当たらず検証されること")
+  void verifyToken_shouldVerifyTamperedTokenInFull() {
+    // Given
+    String forged = TOKEN + "x";
+    when(tokenProvider.verifyToken(TOKEN))
+        .thenReturn(Optional.of(claims("testuser", NOW.plusSeconds(3600))));
+    when(tokenProvider.verifyToken(forged)).thenReturn(Optional.empty());
+    cache.verifyToken(TOKEN);
+
+    // When
+    Optional<TokenClaims> result = cache.verifyToken(forged);
+
+    // Then
+    assertThat(result).isEmpty();
+    verify(tokenProvider).verifyToken(forged);
+  }
+
+  @Test
+  @DisplayName("キャッシュが無効な場合は毎回検証されること")
+  void verifyToken_shouldAlwaysVerifyWhenDisabled() {
+    // Given
+    VerifiedTokenCache disabled = newCache(false, 100);
+    when(tokenProvider.verifyToken(TOKEN))
+        .thenReturn(Optional.of(claims("testuser", NOW.plusSeconds(3600))));
+
+    // When
+    disabled.verifyToken(TOKEN);
+    disabled.verifyToken(TOKEN);
+
+    // Then
+    verify(tokenProvider, times(2)).verifyToken(TOKEN);
+  }
+
+  @Test
+  @DisplayName("最大件数が0以下の場合は例外がスローされること")
+  void constructor_shouldRejectNonPositiveMaximumSize() {
+    assertThatThrownBy(() -> newCache(true, 0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private VerifiedTokenCache newCache(boolean enabled, long maximumSize) {
+    return new VerifiedTokenCache(
+        tokenProvider, enabled, maximumSize, Clock.fixed(NOW, ZoneOffset.UTC), nanoTime::get);
+  }
+
+  private void advance(Duration duration) {
+    nanoTime.addAndGet(duration.toNanos());
+  }
+
+  private static TokenClaims claims(String username, Instant expiresAt) {
+    return new TokenClaims(username, "ADMIN", expiresAt, "sandbox-api");
+  }
+}
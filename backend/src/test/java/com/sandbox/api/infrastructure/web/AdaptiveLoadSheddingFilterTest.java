@@ -0,0 +1,156 @@
+package com.sandbox.api.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/** Unit tests for AdaptiveLoadSheddingFilter */
+class AdaptiveLoadSheddingFilterTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private SimpleMeterRegistry meterRegistry;
+  private AdaptiveLoadSheddingFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    // A limit of one per group that never adapts within a test
+    filter =
+        new AdaptiveLoadSheddingFilter(
+            () -> new GradientLimit(1, 1, 1, 1.5, Integer.MAX_VALUE), objectMapper, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("上限以内のリクエストはそのまま処理されること")
+  void doFilter_belowLimit_passesRequestOn() throws Exception {
+    // Given
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    // When
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/messages"), response, chain);
+
+    // Then
+    assertThat(chain.getRequest()).isNotNull();
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(inflight("message-read")).isZero();
+  }
+
+  @Test
+  @DisplayName("上限に達した経路グループのリクエストは待たせずに 503 を返すこと")
+  void doFilter_whenGroupSaturated_rejectsImmediately() throws Exception {
+    // Given: a message read is in flight
+    MockHttpServletResponse rejected = new MockHttpServletResponse();
+    MockFilterChain rejectedChain = new MockFilterChain();
+    FilterChain nested =
+        (request, response) ->
+            filter.doFilter(
+                new MockHttpServletRequest("GET", "/api/messages/1"), rejected, rejectedChain);
+
+    // When
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/api/messages"), new MockHttpServletResponse(), nested);
+
+    // Then
+    assertThat(rejectedChain.getRequest()).isNull();
+    assertThat(rejected.getStatus()).isEqualTo(503);
+    assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+    assertThat(rejected.getContentType()).isEqualTo("application/problem+json");
+    JsonNode body = objectMapper.readTree(rejected.getContentAsString());
+    assertThat(body.get("status").asInt()).isEqualTo(503);
+    assertThat(body.get("instance").asText()).isEqualTo("/api/messages/1");
+    assertThat(
+            meterRegistry
+                .get("api.shedding.rejected")
+                .tag("group", "message-read")
+                .counter()
+                .count())
+        .isEqualTo(1);
+    assertThat(inflight("message-read")).isZero();
+  }
+
+  @Test
+  @DisplayName("経路グループごとに独立して制限すること")
+  void doFilter_otherGroupsSaturated_passesRequestOn() throws Exception {
+    // Given: a message read is in flight
+    MockHttpServletResponse write = new MockHttpServletResponse();
+    MockHttpServletResponse login = new MockHttpServletResponse();
+    FilterChain nested =
+        (request, response) -> {
+          filter.doFilter(
+              new MockHttpServletRequest("POST", "/api/messages"), write, new MockFilterChain());
+          filter.doFilter(
+              new MockHttpServletRequest("POST", "/api/auth/login"), login, new MockFilterChain());
+        };
+
+    // When
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/api/messages"), new MockHttpServletResponse(), nested);
+
+    // Then
+    assertThat(write.getStatus()).isEqualTo(200);
+    assertThat(login.getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  @DisplayName("経路グループに属さないパスは制限しないこと")
+  void doFilter_outsideRouteGroups_isNotLimited() throws Exception {
+    // Given: a login is in flight
+    MockHttpServletResponse health = new MockHttpServletResponse();
+    FilterChain nested =
+        (request, response) ->
+            filter.doFilter(
+                new MockHttpServletRequest("GET", "/actuator/health"),
+                health,
+                new MockFilterChain());
+
+    // When
+    filter.doFilter(
+        new MockHttpServletRequest("POST", "/api/auth/login"),
+        new MockHttpServletResponse(),
+        nested);
+
+    // Then
+    assertThat(health.getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  @DisplayName("下流で 503 になったリクエストは経路グループの上限を引き下げること")
+  void doFilter_rejectedDownstream_lowersLimit() throws Exception {
+    // Given
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    AdaptiveLoadSheddingFilter adaptive =
+        new AdaptiveLoadSheddingFilter(
+            () -> new GradientLimit(20, 4, 100, 1.5, 1), objectMapper, registry);
+    FilterChain overloaded =
+        (request, response) -> ((MockHttpServletResponse) response).setStatus(503);
+
+    // When
+    for (int i = 0; i < 5; i++) {
+      adaptive.doFilter(
+          new MockHttpServletRequest("POST", "/api/auth/login"),
+          new MockHttpServletResponse(),
+          overloaded);
+    }
+
+    // Then
+    assertThat(registry.get("api.shedding.limit").tag("group", "auth").gauge().value())
+        .isLessThan(20);
+    assertThat(registry.get("api.shedding.limit").tag("group", "message-read").gauge().value())
+        .isEqualTo(20);
+  }
+
+  private double inflight(String group) {
+    return meterRegistry.get("api.shedding.inflight").tag("group", group).gauge().value();
+  }
+}
@@ -0,0 +1,138 @@
+package com.sandbox.api.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for GradientLimit */
+class GradientLimitTest {
+
+  private static final long FAST = Duration.ofMillis(10).toNanos();
+  private static final long SLOW = Duration.ofMillis(100).toNanos();
+
+  @Test
+  @DisplayName("レイテンシが安定したまま上限まで使われていると上限を引き上げること")
+  void onSample_steadyLatencyAtFullLoad_growsLimit() {
+    // Given
+    GradientLimit limit = new GradientLimit(10, 1, 100, 1.5, 1);
+
+    // When
+    for (int i = 0; i < 20; i++) {
+      limit.onSample(FAST, limit.limit());
+    }
+
+    // Then
+    assertThat(limit.limit()).isGreaterThan(10);
+  }
+
+  @Test
+  @DisplayName("レイテンシが長期平均を大きく上回ると上限を引き下げること")
+  void onSample_latencyRise_shrinksLimit() {
+    // Given
+    GradientLimit limit = new GradientLimit(20, 1, 100, 1.5, 1);
+    for (int i = 0; i < 5; i++) {
+      limit.onSample(FAST, limit.limit());
+    }
+    int before = limit.limit();
+
+    // When
+    for (int i = 0; i < 5; i++) {
+      limit.onSample(SLOW, limit.limit());
+    }
+
+    // Then
+    assertThat(limit.limit()).isLessThan(before);
+  }
+
+  @Test
+  @DisplayName("同時実行数が上限の半分に満たない間は上限を変えないこと")
+  void onSample_whileMostlyIdle_keepsLimit() {
+    // Given
+    GradientLimit limit = new GradientLimit(10, 1, 100, 1.5, 1);
+
+    // When
+    for (int i = 0; i < 20; i++) {
+      limit.onSample(i < 10 ? FAST : SLOW, 1);
+    }
+
+    // Then
+    assertThat(limit.limit()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("ウィンドウが埋まるまでは上限を更新しないこと")
+  void onSample_beforeWindowIsFull_keepsLimit() {
+    // Given
+    GradientLimit limit = new GradientLimit(10, 1, 100, 1.5, 50);
+
+    // When
+    for (int i = 0; i < 49; i++) {
+      limit.onSample(FAST, 10);
+    }
+
+    // Then
+    assertThat(limit.limit()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("上限は設定した範囲に収まること")
+  void onSample_keepsLimitWithinRange() {
+    // Given
+    GradientLimit limit = new GradientLimit(10, 5, 30, 1.5, 1);
+
+    // When: plenty of headroom
+    for (int i = 0; i < 200; i++) {
+      limit.onSample(FAST, limit.limit());
+    }
+
+    // Then
+    assertThat(limit.limit()).isEqualTo(30);
+
+    // When: latency keeps climbing
+    double rtt = FAST;
+    for (int i = 0; i < 100; i++) {
+      rtt *= 1.3;
+      limit.onSample((long) rtt, limit.limit());
+    }
+
+    // Then
+    assertThat(limit.limit()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("下流で拒否されるたびに上限を引き下げ、下限で止まること")
+  void onDropped_shrinksLimitDownToMinimum() {
+    // Given
+    GradientLimit limit = new GradientLimit(20, 4, 100, 1.5, 1);
+
+    // When
+    limit.onDropped();
+
+    // Then
+    assertThat(limit.limit()).isEqualTo(18);
+
+    // When
+    for (int i = 0; i < 50; i++) {
+      limit.onDropped();
+    }
+
+    // Then
+    assertThat(limit.limit()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("不正な設定値では構築できないこと")
+  void constructor_withInvalidSettings_throws() {
+    assertThatThrownBy(() -> new GradientLimit(10, 0, 100, 1.5, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new GradientLimit(10, 20, 100, 1.5, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new GradientLimit(10, 1, 100, 0.9, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new GradientLimit(10, 1, 100, 1.5, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
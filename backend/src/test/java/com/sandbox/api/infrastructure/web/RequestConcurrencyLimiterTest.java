@@ -0,0 +1,130 @@
+package com.sandbox.api.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/** Unit tests for RequestConcurrencyLimiter */
+class RequestConcurrencyLimiterTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private SimpleMeterRegistry meterRegistry;
+  private RequestConcurrencyLimiter limiter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    limiter = new RequestConcurrencyLimiter(1, Duration.ofMillis(50), objectMapper, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("上限以内のリクエストはそのまま処理されること")
+  void doFilter_belowLimit_passesRequestOn() throws Exception {
+    // Given
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    // When
+    limiter.doFilter(new MockHttpServletRequest("GET", "/api/messages"), response, chain);
+
+    // Then
+    assertThat(chain.getRequest()).isNotNull();
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(meterRegistry.get("api.requests.active").gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("実行枠が空かないまま待機時間を過ぎると 503 を返すこと")
+  void doFilter_whenSaturated_returns503WithRetryAfter() throws Exception {
+    // Given: one request holds the only slot until released
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    FilterChain blocking =
+        (request, response) -> {
+          entered.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        };
+    Thread holder =
+        Thread.ofVirtual()
+            .start(
+                () -> {
+                  try {
+                    limiter.doFilter(
+                        new MockHttpServletRequest("GET", "/api/messages"),
+                        new MockHttpServletResponse(),
+                        blocking);
+                  } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                  }
+                });
+    assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // When
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+    limiter.doFilter(new MockHttpServletRequest("GET", "/api/messages/1"), response, chain);
+
+    // Then
+    assertThat(chain.getRequest()).isNull();
+    assertThat(response.getStatus()).isEqualTo(503);
+    assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+    assertThat(response.getContentType()).isEqualTo("application/problem+json");
+    JsonNode body = objectMapper.readTree(response.getContentAsString());
+    assertThat(body.get("status").asInt()).isEqualTo(503);
+    assertThat(body.get("instance").asText()).isEqualTo("/api/messages/1");
+    assertThat(meterRegistry.get("api.requests.rejected").counter().count()).isEqualTo(1);
+
+    release.countDown();
+    holder.join();
+    assertThat(meterRegistry.get("api.requests.active").gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("API 以外のパスは制限しないこと")
+  void doFilter_outsideApi_isNotLimited() throws Exception {
+    // Given: the only slot is taken
+    RequestConcurrencyLimiter saturated =
+        new RequestConcurrencyLimiter(1, Duration.ZERO, objectMapper, new SimpleMeterRegistry());
+    FilterChain nested =
+        (request, response) ->
+            saturated.doFilter(
+                new MockHttpServletRequest("GET", "/actuator/health"),
+                response,
+                new MockFilterChain());
+
+    // When
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    saturated.doFilter(new MockHttpServletRequest("GET", "/api/messages"), response, nested);
+
+    // Then
+    assertThat(response.getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  @DisplayName("上限が 1 未満なら構築できないこと")
+  void constructor_withNonPositiveLimit_throws() {
+    assertThatThrownBy(
+            () ->
+                new RequestConcurrencyLimiter(
+                    0, Duration.ofSeconds(1), objectMapper, new SimpleMeterRegistry()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -1,10 +1,13 @@
 package com.sandbox.api.presentation.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,6 +37,8 @@ class AuthControllerIntegrationTest {
     registry.add("spring.datasource.url", postgres::getJdbcUrl);
     registry.add("spring.datasource.username", postgres::getUsername);
     registry.add("spring.datasource.password", postgres::getPassword);
+    // Every test logs in from the same address; the limits are covered by unit tests
+    registry.add("security.rate-limit.enabled", () -> "false");
   }
 
   @Autowired private MockMvc mockMvc;
@@ -80,6 +85,29 @@ class AuthControllerIntegrationTest {
         .andExpect(jsonPath("$.expiresIn", is(3600)));
   }
 
+  @Test
+  void login_withCborAccept_returnsTokensAsCbor() throws Exception {
+    String requestBody = "{\"username\": \"testuser\", \"password\": \"password123\"}";
+
+    byte[] body =
+        mockMvc
+            .perform(
+                post("/api/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_CBOR)
+                    .content(requestBody))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    JsonNode response = new CBORMapper().readTree(body);
+    assertThat(response.get("accessToken").asText()).isNotEmpty();
+    assertThat(response.get("tokenType").asText()).isEqualTo("Bearer");
+    assertThat(response.get("expiresIn").asInt()).isEqualTo(3600);
+  }
+
   @Test
   void login_withInvalidPassword_returns401() throws Exception {
     String requestBody =
@@ -1,15 +1,25 @@
 package com.sandbox.api.presentation.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.sandbox.api.application.dto.PublicSigningKey;
 import com.sandbox.api.application.dto.UserResponse;
+import com.sandbox.api.application.exception.RateLimitExceededException;
+import com.sandbox.api.application.service.AuthAttemptLimiter;
 import com.sandbox.api.application.usecase.auth.GetCurrentUserUseCase;
+import com.sandbox.api.application.usecase.auth.GetPublicKeysUseCase;
 import com.sandbox.api.application.usecase.auth.LoginUseCase;
 import com.sandbox.api.application.usecase.auth.LogoutUseCase;
 import com.sandbox.api.application.usecase.auth.RefreshTokenUseCase;
 import com.sandbox.api.domain.model.Role;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -25,6 +35,9 @@ class AuthControllerTest {
   @Mock private RefreshTokenUseCase refreshTokenUseCase;
   @Mock private LogoutUseCase logoutUseCase;
   @Mock private GetCurrentUserUseCase getCurrentUserUseCase;
+  @Mock private GetPublicKeysUseCase getPublicKeysUseCase;
+  @Mock private AuthAttemptLimiter authAttemptLimiter;
+  @Mock private HttpServletRequest httpServletRequest;
 
   @InjectMocks private AuthController authController;
 
@@ -55,6 +68,41 @@ class AuthControllerTest {
     verify(loginUseCase).execute("testuser", "password123");
   }
 
+  @Test
+  void login_whenRateLimited_throwsWithoutCallingUseCase() {
+    // Arrange
+    com.sandbox.api.presentation.generated.model.LoginRequest request =
+        new com.sandbox.api.presentation.generated.model.LoginRequest();
+    request.setUsername("testuser");
+    request.setPassword("password123");
+    when(httpServletRequest.getRemoteAddr()).thenReturn("192.0.2.1");
+    doThrow(new RateLimitExceededException("Too many", Duration.ofSeconds(3)))
+        .when(authAttemptLimiter)
+        .checkLogin("192.0.2.1", "testuser");
+
+    // Act & Assert
+    assertThatThrownBy(() -> authController.login(request))
+        .isInstanceOf(RateLimitExceededException.class);
+    verifyNoInteractions(loginUseCase);
+  }
+
+  @Test
+  void refreshToken_whenRateLimited_throwsWithoutCallingUseCase() {
+    // Arrange
+    com.sandbox.api.presentation.generated.model.RefreshRequest request =
+        new com.sandbox.api.presentation.generated.model.RefreshRequest();
+    request.setRefreshToken("refresh-token-123");
+    when(httpServletRequest.getRemoteAddr()).thenReturn("192.0.2.1");
+    doThrow(new RateLimitExceededException("Too many", Duration.ofSeconds(3)))
+        .when(authAttemptLimiter)
+        .checkRefresh("192.0.2.1");
+
+    // Act & Assert
+    assertThatThrownBy(() -> authController.refreshToken(request))
+        .isInstanceOf(RateLimitExceededException.class);
+    verifyNoInteractions(refreshTokenUseCase);
+  }
+
   @Test
   void refreshToken_withValidRefreshToken_returnsOkWithNewTokens() {
     // Arrange
@@ -114,4 +162,22 @@ class AuthControllerTest {
 
     verify(getCurrentUserUseCase).execute();
   }
+
+  @Test
+  void getJsonWebKeySet_returnsPublicKeysCacheableForFiveMinutes() {
+    // Arrange
+    when(getPublicKeysUseCase.execute())
+        .thenReturn(List.of(new PublicSigningKey("key-1", "EdDSA", "Ed25519", new byte[32])));
+
+    // Act
+    ResponseEntity<com.sandbox.api.presentation.generated.model.JsonWebKeySet> response =
+        authController.getJsonWebKeySet();
+
+    // Assert
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=300, public");
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getKeys()).hasSize(1);
+    assertThat(response.getBody().getKeys().get(0).getKid()).isEqualTo("key-1");
+  }
 }
@@ -0,0 +1,55 @@
+package com.sandbox.api.presentation.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sandbox.api.domain.model.MessageField;
+import java.time.LocalDateTime;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class EntityTagsTest {
+
+  private static final LocalDateTime UPDATED_AT =
+      LocalDateTime.of(2024, 1, 1, 0, 0, 0, 123_456_000);
+
+  @Test
+  void ofMessage_isWeakAndChangesWithUpdateTime() {
+    String tag = EntityTags.ofMessage(1L, UPDATED_AT);
+
+    assertThat(tag).startsWith("W/\"1-").endsWith("\"");
+    assertThat(EntityTags.ofMessage(1L, UPDATED_AT.plusNanos(1000))).isNotEqualTo(tag);
+    assertThat(EntityTags.ofMessage(2L, UPDATED_AT)).isNotEqualTo(tag);
+  }
+
+  @Test
+  void ofMessage_withFieldset_differsFromWholeMessage() {
+    String whole = EntityTags.ofMessage(1L, UPDATED_AT);
+
+    assertThat(EntityTags.ofMessage(1L, UPDATED_AT, MessageField.ALL)).isEqualTo(whole);
+    String sparse =
+        EntityTags.ofMessage(1L, UPDATED_AT, Set.of(MessageField.ID, MessageField.CODE));
+    assertThat(sparse).startsWith("W/\"1-").endsWith("\"").isNotEqualTo(whole);
+    assertThat(EntityTags.ofMessage(1L, UPDATED_AT, Set.of(MessageField.ID))).isNotEqualTo(sparse);
+  }
+
+  @Test
+  void ofMessagePage_isWeakAndChangesWithVersionAndQuery() {
+    String tag = EntityTags.ofMessagePage(42L, 0, 20, null, "exact");
+
+    assertThat(tag).startsWith("W/\"42-").endsWith("\"");
+    assertThat(EntityTags.ofMessagePage(42L, 0, 20, null, "exact")).isEqualTo(tag);
+    assertThat(EntityTags.ofMessagePage(43L, 0, 20, null, "exact")).isNotEqualTo(tag);
+    assertThat(EntityTags.ofMessagePage(42L, 1, 20, null, "exact")).isNotEqualTo(tag);
+  }
+
+  @Test
+  void matches_usesWeakComparisonOverTagList() {
+    String tag = EntityTags.ofMessage(1L, UPDATED_AT);
+
+    assertThat(EntityTags.matches(null, tag)).isFalse();
+    assertThat(EntityTags.matches("\"other\"", tag)).isFalse();
+    assertThat(EntityTags.matches(tag, tag)).isTrue();
+    assertThat(EntityTags.matches("\"other\", " + tag.substring(2), tag)).isTrue();
+    assertThat(EntityTags.matches("*", tag)).isTrue();
+  }
+}
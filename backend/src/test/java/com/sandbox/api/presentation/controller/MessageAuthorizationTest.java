@@ -40,6 +40,8 @@ class MessageAuthorizationTest {
     registry.add("spring.datasource.url", postgres::getJdbcUrl);
     registry.add("spring.datasource.username", postgres::getUsername);
     registry.add("spring.datasource.password", postgres::getPassword);
+    // Every test logs in from the same address; the limits are covered by unit tests
+    registry.add("security.rate-limit.enabled", () -> "false");
   }
 
   @Autowired private MockMvc mockMvc;
@@ -118,6 +120,14 @@ class MessageAuthorizationTest {
         .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON));
   }
 
+  @Test
+  void exportMessages_withoutToken_returns401() throws Exception {
+    mockMvc
+        .perform(get("/api/messages/export"))
+        .andExpect(status().isUnauthorized())
+        .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON));
+  }
+
   // ========== ADMIN Role Tests ==========
 
   @Test
@@ -211,6 +221,18 @@ class MessageAuthorizationTest {
         .andExpect(jsonPath("$.instance", notNullValue()));
   }
 
+  @Test
+  void importMessages_withViewerToken_returns403() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/messages/import")
+                .header("Authorization", "Bearer " + viewerToken)
+                .contentType("application/x-ndjson")
+                .content("{\"code\": \"VIEWER002\", \"content\": \"Viewer import\"}\n"))
+        .andExpect(status().isForbidden())
+        .andExpect(jsonPath("$.status", is(403)));
+  }
+
   @Test
   void updateMessage_withViewerToken_returns403() throws Exception {
     String requestBody = "{\"code\": \"VIEWER002\", \"content\": \"Viewer updated message\"}";
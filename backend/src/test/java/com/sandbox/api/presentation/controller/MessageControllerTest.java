@@ -1,9 +1,15 @@
 package com.sandbox.api.presentation.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.jayway.jsonpath.JsonPath;
+import java.sql.Timestamp;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -14,6 +20,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -36,6 +43,7 @@ class MessageControllerTest {
 
   @Autowired private MockMvc mockMvc;
   @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private ObjectMapper objectMapper;
 
   @Test
   void getAllMessages_returnsAllMessages() throws Exception {
@@ -48,6 +56,228 @@ class MessageControllerTest {
         .andExpect(jsonPath("$.content[0].content", is("Hello, World!")));
   }
 
+  @Test
+  void getAllMessages_whenETagMatches_returns304WithoutBody() throws Exception {
+    String etag =
+        mockMvc
+            .perform(get("/api/messages").param("size", "5"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", startsWith("W/\"")))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    mockMvc
+        .perform(get("/api/messages").param("size", "5").header("If-None-Match", etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+    mockMvc
+        .perform(get("/api/messages").param("size", "6").header("If-None-Match", etag))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void getAllMessages_withAfterCursor_returnsFollowingPage() throws Exception {
+    jdbcTemplate.update(
+        "INSERT INTO messages (code, content, created_at) VALUES (?, ?, ?), (?, ?, ?)",
+        "cursor-1",
+        "Cursor 1",
+        Timestamp.valueOf("2000-01-02 00:00:00"),
+        "cursor-2",
+        "Cursor 2",
+        Timestamp.valueOf("2000-01-01 00:00:00"));
+
+    String firstPage =
+        mockMvc
+            .perform(get("/api/messages").param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.page.nextCursor", notNullValue()))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    String cursor = JsonPath.read(firstPage, "$.page.nextCursor");
+
+    mockMvc
+        .perform(get("/api/messages").param("size", "1").param("after", cursor))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content", hasSize(1)))
+        .andExpect(jsonPath("$.page.size", is(1)))
+        .andExpect(jsonPath("$.page.number").doesNotExist())
+        .andExpect(jsonPath("$.page.nextCursor", notNullValue()));
+  }
+
+  @Test
+  void getAllMessages_withMalformedCursor_returns400() throws Exception {
+    mockMvc
+        .perform(get("/api/messages").param("after", "not-a-cursor"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status", is(400)));
+  }
+
+  @Test
+  void getAllMessages_withCountNone_omitsTotalsAndReportsHasNext() throws Exception {
+    mockMvc
+        .perform(get("/api/messages").param("size", "1").param("count", "none"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content", hasSize(1)))
+        .andExpect(jsonPath("$.page.number", is(0)))
+        .andExpect(jsonPath("$.page.totalElements").doesNotExist())
+        .andExpect(jsonPath("$.page.totalPages").doesNotExist())
+        .andExpect(jsonPath("$.page.hasNext", notNullValue()));
+  }
+
+  @Test
+  void getAllMessages_withEstimatedCount_returnsTotals() throws Exception {
+    mockMvc
+        .perform(get("/api/messages").param("count", "estimated"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.page.totalElements", greaterThanOrEqualTo(1)))
+        .andExpect(jsonPath("$.page.hasNext", is(false)));
+  }
+
+  @Test
+  void getAllMessages_withFields_returnsOnlyThoseFields() throws Exception {
+    jdbcTemplate.update(
+        "INSERT INTO messages (code, content, created_at) VALUES (?, ?, ?), (?, ?, ?)",
+        "fields-1",
+        "Fields 1",
+        Timestamp.valueOf("2000-01-02 00:00:00"),
+        "fields-2",
+        "Fields 2",
+        Timestamp.valueOf("2000-01-01 00:00:00"));
+
+    String firstPage =
+        mockMvc
+            .perform(get("/api/messages").param("size", "1").param("fields", "code"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].id", notNullValue()))
+            .andExpect(jsonPath("$.content[0].code", notNullValue()))
+            .andExpect(jsonPath("$.content[0].content").doesNotExist())
+            .andExpect(jsonPath("$.content[0].createdAt").doesNotExist())
+            .andExpect(jsonPath("$.page.nextCursor", notNullValue()))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    String cursor = JsonPath.read(firstPage, "$.page.nextCursor");
+
+    mockMvc
+        .perform(
+            get("/api/messages")
+                .param("size", "1")
+                .param("after", cursor)
+                .param("fields", "id,code"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content", hasSize(1)))
+        .andExpect(jsonPath("$.content[0].code", notNullValue()))
+        .andExpect(jsonPath("$.content[0].updatedAt").doesNotExist());
+  }
+
+  @Test
+  void getAllMessages_withCborAccept_returnsSameDocumentAsJson() throws Exception {
+    byte[] cbor =
+        mockMvc
+            .perform(get("/api/messages").param("size", "5").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andExpect(header().string("Vary", containsString("Accept")))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+    String json =
+        mockMvc
+            .perform(get("/api/messages").param("size", "5"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    assertThat(new CBORMapper().readTree(cbor)).isEqualTo(objectMapper.readTree(json));
+  }
+
+  @Test
+  void getAllMessages_withUnknownField_returns400() throws Exception {
+    mockMvc
+        .perform(get("/api/messages").param("fields", "id,password"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status", is(400)));
+  }
+
+  @Test
+  void getAllMessages_withUnknownCountMode_returns400() throws Exception {
+    mockMvc
+        .perform(get("/api/messages").param("count", "approximate"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status", is(400)));
+  }
+
+  @Test
+  void createMessagesBatch_reportsStatusPerItem() throws Exception {
+    String body =
+        """
+        {"messages": [
+          {"code": "batch-1", "content": "First"},
+          {"code": "hello", "content": "Duplicate of seed data"},
+          {"code": "batch-1", "content": "Repeated in batch"}
+        ]}
+        """;
+
+    mockMvc
+        .perform(post("/api/messages/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.created", is(1)))
+        .andExpect(jsonPath("$.failed", is(2)))
+        .andExpect(jsonPath("$.results[0].status", is("created")))
+        .andExpect(jsonPath("$.results[0].message.code", is("batch-1")))
+        .andExpect(jsonPath("$.results[1].status", is("duplicate")))
+        .andExpect(jsonPath("$.results[2].status", is("duplicate")));
+  }
+
+  @Test
+  void importMessages_withCsv_mergesNewCodesAndReportsRejectedRows() throws Exception {
+    String body =
+        """
+        code,content
+        import-1,First
+        hello,Duplicate of seed data
+        import-1,Repeated in file
+        ,Missing code
+        """;
+
+    mockMvc
+        .perform(post("/api/messages/import").contentType("text/csv").content(body))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.received", is(4)))
+        .andExpect(jsonPath("$.imported", is(1)))
+        .andExpect(jsonPath("$.rejected", is(3)))
+        .andExpect(jsonPath("$.invalid", is(1)))
+        .andExpect(jsonPath("$.duplicates", is(2)))
+        .andExpect(jsonPath("$.errors[0].line", is(5)));
+    mockMvc
+        .perform(get("/api/messages").param("size", "100"))
+        .andExpect(jsonPath("$.content[?(@.code == 'import-1')].content", contains("First")));
+  }
+
+  @Test
+  void exportMessages_streamsEveryMessageAsNdjson() throws Exception {
+    MvcResult started =
+        mockMvc
+            .perform(get("/api/messages/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    String body =
+        mockMvc
+            .perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    Integer total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM messages", Integer.class);
+    assertThat(body.split("\n")).hasSize(total);
+    assertThat(body).startsWith("{\"id\":1,\"code\":\"hello\"");
+  }
+
   @Test
   void getMessageById_whenExists_returns200() throws Exception {
     mockMvc
@@ -58,6 +288,81 @@ class MessageControllerTest {
         .andExpect(jsonPath("$.content", is("Hello, World!")));
   }
 
+  @Test
+  void getMessageById_withFields_returnsOnlyThoseFields() throws Exception {
+    mockMvc
+        .perform(get("/api/messages/1").param("fields", "code"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id", is(1)))
+        .andExpect(jsonPath("$.code", is("hello")))
+        .andExpect(jsonPath("$.content").doesNotExist())
+        .andExpect(jsonPath("$.updatedAt").doesNotExist())
+        .andExpect(header().string("ETag", startsWith("W/\"1-")));
+  }
+
+  @Test
+  void getMessageById_withSmileAccept_returnsSameDocumentAsJson() throws Exception {
+    byte[] smile =
+        mockMvc
+            .perform(get("/api/messages/1").accept("application/x-jackson-smile"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-jackson-smile"))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+    String json =
+        mockMvc.perform(get("/api/messages/1")).andReturn().getResponse().getContentAsString();
+
+    assertThat(new SmileMapper().readTree(smile)).isEqualTo(objectMapper.readTree(json));
+  }
+
+  @Test
+  void getMessageById_returnsETag() throws Exception {
+    mockMvc
+        .perform(get("/api/messages/1"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", startsWith("W/\"1-")))
+        .andExpect(header().string("Cache-Control", containsString("no-cache")));
+  }
+
+  @Test
+  void getMessageById_whenETagMatches_returns304WithoutBody() throws Exception {
+    String etag =
+        mockMvc.perform(get("/api/messages/1")).andReturn().getResponse().getHeader("ETag");
+
+    mockMvc
+        .perform(get("/api/messages/1").header("If-None-Match", etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", etag))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void getMessageById_afterUpdate_returns200WithNewETag() throws Exception {
+    // A row of its own: its cached copy outlives the rollback, but its ID is never reused
+    Long id =
+        jdbcTemplate.queryForObject(
+            "INSERT INTO messages (code, content, updated_at) VALUES (?, ?, ?) RETURNING id",
+            Long.class,
+            "etag-1",
+            "Original",
+            Timestamp.valueOf("2000-01-01 00:00:00"));
+    String etag =
+        mockMvc.perform(get("/api/messages/" + id)).andReturn().getResponse().getHeader("ETag");
+    mockMvc
+        .perform(
+            put("/api/messages/" + id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"code\": \"etag-1\", \"content\": \"Changed\"}"))
+        .andExpect(status().isOk());
+
+    mockMvc
+        .perform(get("/api/messages/" + id).header("If-None-Match", etag))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", not(etag)))
+        .andExpect(jsonPath("$.content", is("Changed")));
+  }
+
   @Test
   void getMessageById_whenNotFound_returns404() throws Exception {
     mockMvc
@@ -0,0 +1,139 @@
+package com.sandbox.api.presentation.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sandbox.api.application.usecase.ExportMessagesUseCase;
+import com.sandbox.api.domain.model.Message;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@ExtendWith(MockitoExtension.class)
+class MessageExportControllerTest {
+
+  @Mock private ExportMessagesUseCase exportMessagesUseCase;
+
+  private MessageExportController controller;
+
+  @BeforeEach
+  void setUp() {
+    ObjectMapper objectMapper =
+        new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    controller = new MessageExportController(exportMessagesUseCase, objectMapper);
+  }
+
+  @Test
+  void exportMessages_writesOneJsonObjectPerLine() throws Exception {
+    // Arrange
+    stubMessages(message(1L, "a"), message(2L, "b"));
+
+    // Act
+    ResponseEntity<StreamingResponseBody> response = controller.exportMessages(null);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    response.getBody().writeTo(out);
+
+    // Assert
+    assertThat(response.getHeaders().getContentType())
+        .isEqualTo(MessageExportController.APPLICATION_NDJSON);
+    assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).startsWith("{\"id\":1,\"code\":\"a\"");
+    assertThat(lines[1]).startsWith("{\"id\":2,\"code\":\"b\"");
+  }
+
+  @Test
+  void exportMessages_whenGzipAccepted_compressesBody() throws Exception {
+    // Arrange
+    stubMessages(message(1L, "a"));
+
+    // Act
+    ResponseEntity<StreamingResponseBody> response = controller.exportMessages("gzip, br");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    response.getBody().writeTo(out);
+
+    // Assert
+    assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+          .startsWith("{\"id\":1,\"code\":\"a\"")
+          .endsWith("}\n");
+    }
+  }
+
+  @Test
+  void exportMessages_whenClientDisconnects_rethrowsIoException() {
+    // Arrange
+    stubMessages(message(1L, "a"));
+    OutputStream disconnected =
+        new OutputStream() {
+          @Override
+          public void write(int b) throws IOException {
+            throw new IOException("Broken pipe");
+          }
+
+          @Override
+          public void write(byte[] b, int off, int len) throws IOException {
+            throw new IOException("Broken pipe");
+          }
+        };
+
+    // Act & Assert: the JSON generator buffers rows, so the failure surfaces on flush
+    StreamingResponseBody body = controller.exportMessages(null).getBody();
+    assertThatThrownBy(() -> body.writeTo(disconnected))
+        .isInstanceOf(IOException.class)
+        .hasMessage("Broken pipe");
+  }
+
+  @Test
+  void acceptsGzip_honoursQualityValues() {
+    assertThat(MessageExportController.acceptsGzip(null)).isFalse();
+    assertThat(MessageExportController.acceptsGzip("identity")).isFalse();
+    assertThat(MessageExportController.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+    assertThat(MessageExportController.acceptsGzip("gzip;q=0")).isFalse();
+    assertThat(MessageExportController.acceptsGzip("gzip; q=0.0")).isFalse();
+  }
+
+  private void stubMessages(Message... messages) {
+    when(exportMessagesUseCase.execute(any()))
+        .thenAnswer(
+            invocation -> {
+              Consumer<Message> sink = invocation.getArgument(0);
+              for (Message message : messages) {
+                sink.accept(message);
+              }
+              return (long) messages.length;
+            });
+  }
+
+  private static Message message(Long id, String code) {
+    return Message.builder()
+        .id(id)
+        .code(code)
+        .content("Content " + code)
+        .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+        .updatedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+        .build();
+  }
+}
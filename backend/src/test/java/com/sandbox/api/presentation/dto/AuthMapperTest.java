@@ -2,7 +2,10 @@ package com.sandbox.api.presentation.dto;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.sandbox.api.application.dto.PublicSigningKey;
 import com.sandbox.api.domain.model.Role;
+import java.util.HexFormat;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class AuthMapperTest {
@@ -68,4 +71,35 @@ class AuthMapperTest {
     assertThat(generated.getRole())
         .isEqualTo(com.sandbox.api.presentation.generated.model.UserResponse.RoleEnum.ADMIN);
   }
+
+  @Test
+  void toGenerated_convertsPublicSigningKeysToJsonWebKeySet() {
+    // Arrange: the Ed25519 key of RFC 8037, appendix A.2
+    byte[] publicKey =
+        HexFormat.of().parseHex("d75a980182b10ab7d54bfed3c964073a0ee172f3daa62325af021a68f707511a");
+    List<PublicSigningKey> keys =
+        List.of(new PublicSigningKey("key-1", "EdDSA", "Ed25519", publicKey));
+
+    // Act
+    var generated = AuthMapper.toGenerated(keys);
+
+    // Assert
+    assertThat(generated.getKeys()).hasSize(1);
+    var key = generated.getKeys().get(0);
+    assertThat(key.getKty()).isEqualTo("OKP");
+    assertThat(key.getCrv()).isEqualTo("Ed25519");
+    assertThat(key.getX()).isEqualTo("11qYAYKxCrfVS_7TyWQHOg7hcvPapiMlrwIaaPcHURo");
+    assertThat(key.getKid()).isEqualTo("key-1");
+    assertThat(key.getAlg()).isEqualTo("EdDSA");
+    assertThat(key.getUse()).isEqualTo("sig");
+  }
+
+  @Test
+  void toGenerated_withNoPublicKeys_returnsEmptyKeySet() {
+    // Act
+    var generated = AuthMapper.toGenerated(List.<PublicSigningKey>of());
+
+    // Assert
+    assertThat(generated.getKeys()).isEmpty();
+  }
 }
@@ -0,0 +1,103 @@
+package com.sandbox.api.presentation.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sandbox.api.domain.model.Message;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class MessageJsonCacheTest {
+
+  private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+  private ObjectMapper objectMapper;
+  private MessageJsonCache cache;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper =
+        new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    cache = new MessageJsonCache(objectMapper, new SimpleMeterRegistry(), DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  void toResponse_writesSameJsonAsGeneratedModel() throws Exception {
+    // Arrange
+    Message message = message("Hello, \"World\" こんにちは", UPDATED_AT);
+
+    // Act
+    String cached = objectMapper.writeValueAsString(cache.toResponse(message));
+
+    // Assert
+    String expected =
+        objectMapper.writeValueAsString(MessageMapper.toGenerated(MessageResponse.from(message)));
+    assertThat(cached).isEqualTo(expected);
+  }
+
+  @Test
+  void toResponse_withCbor_writesSameDocumentAsGeneratedModel() throws Exception {
+    // Arrange
+    ObjectMapper cborMapper =
+        new CBORMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    Message message = message("Hello, \"World\" こんにちは", UPDATED_AT);
+
+    // Act
+    byte[] cbor = cborMapper.writeValueAsBytes(cache.toResponse(message));
+
+    // Assert
+    byte[] expected =
+        cborMapper.writeValueAsBytes(MessageMapper.toGenerated(MessageResponse.from(message)));
+    assertThat(cbor).isEqualTo(expected);
+  }
+
+  @Test
+  void toResponse_inList_concatenatesFragments() throws Exception {
+    Message message = message("Hello", UPDATED_AT);
+
+    String json =
+        objectMapper.writeValueAsString(
+            List.of(cache.toResponse(message), cache.toResponse(message)));
+
+    String single = objectMapper.writeValueAsString(cache.toResponse(message));
+    assertThat(json).isEqualTo("[" + single + "," + single + "]");
+  }
+
+  @Test
+  void toResponse_reusesJsonUntilUpdatedAtChanges() throws Exception {
+    // Arrange
+    cache.toResponse(message("Original", UPDATED_AT));
+
+    // Act
+    String sameVersion =
+        objectMapper.writeValueAsString(cache.toResponse(message("Changed", UPDATED_AT)));
+    String newVersion =
+        objectMapper.writeValueAsString(
+            cache.toResponse(message("Changed", UPDATED_AT.plusSeconds(1))));
+
+    // Assert
+    assertThat(sameVersion).contains("Original");
+    assertThat(newVersion).contains("Changed");
+  }
+
+  private static Message message(String content, LocalDateTime updatedAt) {
+    return Message.builder()
+        .id(1L)
+        .code("hello")
+        .content(content)
+        .createdAt(UPDATED_AT)
+        .updatedAt(updatedAt)
+        .build();
+  }
+}
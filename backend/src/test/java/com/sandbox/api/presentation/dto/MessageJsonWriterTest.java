@@ -0,0 +1,143 @@
+package com.sandbox.api.presentation.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sandbox.api.domain.model.Message;
+import com.sandbox.api.domain.model.MessageField;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.unit.DataSize;
+
+class MessageJsonWriterTest {
+
+  private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 0, 0, 0, 123456789);
+
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper =
+        new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  }
+
+  @Test
+  void of_writesSameJsonAsGeneratedModel() throws Exception {
+    // Arrange
+    Message message = message(1L, "Hello, \"World\" こんにちは\n");
+
+    // Act
+    String json = objectMapper.writeValueAsString(MessageJsonWriter.of(message));
+
+    // Assert
+    assertThat(json).isEqualTo(generatedJson(message));
+  }
+
+  @Test
+  void of_withNullFields_writesNulls() throws Exception {
+    Message message = Message.builder().code("hello").content("Hello").build();
+
+    String json = objectMapper.writeValueAsString(MessageJsonWriter.of(message));
+
+    assertThat(json).isEqualTo(generatedJson(message));
+  }
+
+  @Test
+  void of_withFieldset_writesIdAndListedFieldsOnly() throws Exception {
+    // Arrange
+    Message message = message(1L, "Hello");
+
+    // Act
+    JsonNode json =
+        objectMapper.valueToTree(
+            MessageJsonWriter.of(message, Set.of(MessageField.CODE, MessageField.UPDATED_AT)));
+
+    // Assert
+    JsonNode whole = objectMapper.readTree(generatedJson(message));
+    assertThat(json.properties())
+        .extracting(Map.Entry::getKey)
+        .containsExactly("id", "code", "updatedAt");
+    assertThat(json.get("code")).isEqualTo(whole.get("code"));
+    assertThat(json.get("updatedAt")).isEqualTo(whole.get("updatedAt"));
+  }
+
+  @Test
+  void toMessagePage_writesSameJsonAsGeneratedModel() throws Exception {
+    // Arrange
+    List<Message> messages = List.of(message(1L, "First"), message(2L, "Second"));
+    var page = new PageImpl<>(messages, PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "id")), 5);
+    var cache =
+        new MessageJsonCache(objectMapper, new SimpleMeterRegistry(), DataSize.ofMegabytes(1));
+
+    // Act
+    String json =
+        objectMapper.writeValueAsString(MessageMapper.toMessagePage(page, MessageField.ALL, cache));
+
+    // Assert
+    Map<String, Object> expected = generatedPage(messages, page, cache);
+    assertThat(json).isEqualTo(objectMapper.writeValueAsString(expected));
+  }
+
+  @Test
+  void toMessagePage_withSmile_writesSameDocumentAsGeneratedModel() throws Exception {
+    // Arrange
+    ObjectMapper smileMapper =
+        new SmileMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    List<Message> messages = List.of(message(1L, "First"), message(2L, "Second"));
+    var page = new PageImpl<>(messages, PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "id")), 5);
+    var cache =
+        new MessageJsonCache(objectMapper, new SimpleMeterRegistry(), DataSize.ofMegabytes(1));
+
+    // Act
+    byte[] smile =
+        smileMapper.writeValueAsBytes(MessageMapper.toMessagePage(page, MessageField.ALL, cache));
+
+    // Assert
+    Map<String, Object> expected = generatedPage(messages, page, cache);
+    assertThat(smile).isEqualTo(smileMapper.writeValueAsBytes(expected));
+  }
+
+  /** The page as Jackson writes it from generated DTOs, with the properties in schema order. */
+  private static Map<String, Object> generatedPage(
+      List<Message> messages, Slice<Message> page, MessageJsonCache cache) {
+    Map<String, Object> expected = new LinkedHashMap<>();
+    expected.put(
+        "content",
+        messages.stream().map(m -> MessageMapper.toGenerated(MessageResponse.from(m))).toList());
+    expected.put("page", MessageMapper.toMessagePage(page, MessageField.ALL, cache).getPage());
+    return expected;
+  }
+
+  private String generatedJson(Message message) throws Exception {
+    return objectMapper.writeValueAsString(
+        MessageMapper.toGenerated(MessageResponse.from(message)));
+  }
+
+  private static Message message(Long id, String content) {
+    return Message.builder()
+        .id(id)
+        .code("code-" + id)
+        .content(content)
+        .createdAt(CREATED_AT)
+        .updatedAt(CREATED_AT.plusSeconds(1))
+        .build();
+  }
+}
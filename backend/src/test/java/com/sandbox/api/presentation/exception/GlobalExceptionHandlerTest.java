@@ -3,10 +3,13 @@ package com.sandbox.api.presentation.exception;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
+import com.sandbox.api.application.exception.RateLimitExceededException;
+import com.sandbox.api.application.exception.ServiceOverloadedException;
 import com.sandbox.api.domain.exception.DuplicateMessageCodeException;
 import com.sandbox.api.domain.exception.MessageNotFoundException;
 import com.sandbox.api.presentation.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
 import java.util.Collections;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -63,6 +67,36 @@ class GlobalExceptionHandlerTest {
     assertThat(response.getBody().getType()).contains("/duplicate-code");
   }
 
+  @Test
+  void handleServiceOverloaded_returns503WithRetryAfter() {
+    ServiceOverloadedException exception =
+        new ServiceOverloadedException("Too many logins", Duration.ofMillis(1500));
+    ResponseEntity<ErrorResponse> response =
+        exceptionHandler.handleServiceOverloaded(exception, request);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getStatus()).isEqualTo(503);
+    assertThat(response.getBody().getTitle()).isEqualTo("Service Unavailable");
+    assertThat(response.getBody().getDetail()).isEqualTo("Too many logins");
+    assertThat(response.getBody().getType()).contains("/service-unavailable");
+  }
+
+  @Test
+  void handleRateLimitExceeded_returns429WithRetryAfter() {
+    RateLimitExceededException exception =
+        new RateLimitExceededException("Too many login attempts", Duration.ofMillis(4200));
+    ResponseEntity<ErrorResponse> response =
+        exceptionHandler.handleRateLimitExceeded(exception, request);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getStatus()).isEqualTo(429);
+    assertThat(response.getBody().getTitle()).isEqualTo("Too Many Requests");
+    assertThat(response.getBody().getDetail()).isEqualTo("Too many login attempts");
+    assertThat(response.getBody().getType()).contains("/too-many-requests");
+  }
+
   @Test
   void handleValidationErrors_returns400WithValidationErrorResponse() {
     FieldError fieldError =
@@ -0,0 +1,31 @@
+# language: ja
+@auth @jwks @api
+Feature: トークン検証用の公開鍵の公開
+
+  他のサービスやレプリカがアクセストークンを自前で検証できるように、
+  署名に使う公開鍵を JSON Web Key Set として公開する
+
+  @positive
+  Scenario: EdDSA で署名している場合は現在と以前の公開鍵が返される
+    Given JWT の署名方式が eddsa である
+    And 以前の公開鍵が 1 件設定されている
+    And 認証トークンなしでリクエストする
+    When GET /.well-known/jwks.json を呼び出す
+    Then ステータスコード 200 が返される
+    And レスポンスの keys に 2 件の鍵が含まれる
+    And 各鍵の kty が "OKP"、crv が "Ed25519"、alg が "EdDSA"、use が "sig" である
+    And レスポンスヘッダー Cache-Control に "max-age=300" と "public" が含まれる
+
+  @positive
+  Scenario: 公開鍵の kid がアクセストークンのヘッダーの kid と一致する
+    Given JWT の署名方式が eddsa である
+    And ユーザー "admin" でログインする
+    When GET /.well-known/jwks.json を呼び出す
+    Then レスポンスの keys の先頭の kid がアクセストークンのヘッダーの kid と一致する
+
+  @positive
+  Scenario: 共有秘密鍵（HMAC）で署名している場合は空の鍵セットが返される
+    Given JWT の署名方式が hmac である
+    When GET /.well-known/jwks.json を呼び出す
+    Then ステータスコード 200 が返される
+    And レスポンスの keys が空である
@@ -95,3 +95,16 @@ Feature: ログイン機能
       | admin    | admin123 |
     When 取得したアクセストークンで GET /api/messages を呼び出す
     Then ステータスコード 200 が返される
+
+  @negative @security
+  Scenario: 同じユーザー名へのログイン試行が上限を超えると 429 が返される
+    Given ユーザー名ごとのログイン回数の上限が 1 分あたり 10 回である
+    And ユーザー名 admin に対して誤ったパスワードで 10 回ログインを試行済みである
+    When 正しいパスワードで POST /api/auth/login を呼び出す
+    Then ステータスコード 429 が返される
+    And レスポンスヘッダー Retry-After に正の秒数が含まれる
+    And エラーレスポンスがRFC 7807形式である
+    And エラーレスポンスに以下が含まれる:
+      | フィールド | 値                |
+      | status    | 429               |
+      | title     | Too Many Requests |
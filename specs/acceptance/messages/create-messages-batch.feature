@@ -0,0 +1,56 @@
+# language: ja
+@messages @create @batch @api
+Feature: メッセージ一括作成
+
+  メッセージ一括作成機能の受け入れ条件
+
+  Background:
+    Given データベースが空の状態である
+
+  @positive
+  Scenario: 複数のメッセージを一括で作成する
+    Given 以下のメッセージデータを準備する:
+      | code    | content |
+      | MSG_001 | First   |
+      | MSG_002 | Second  |
+    When POST /api/messages/batch を呼び出す
+    Then ステータスコード 200 が返される
+    And レスポンスの created が 2 である
+    And レスポンスの results の status がすべて created である
+    And データベースにメッセージが2件保存されている
+
+  @positive
+  Scenario: 既存のコードを含む場合は該当要素のみ duplicate になる
+    Given code "MSG_001" のメッセージが存在する
+    And 以下のメッセージデータを準備する:
+      | code    | content |
+      | MSG_001 | Dup     |
+      | MSG_002 | New     |
+    When POST /api/messages/batch を呼び出す
+    Then ステータスコード 200 が返される
+    And レスポンスの results[0].status が duplicate である
+    And レスポンスの results[1].status が created である
+
+  @positive
+  Scenario: 同じリクエスト内でコードが重複する場合は最初の要素のみ作成される
+    Given 以下のメッセージデータを準備する:
+      | code    | content |
+      | MSG_001 | First   |
+      | MSG_001 | Second  |
+    When POST /api/messages/batch を呼び出す
+    Then ステータスコード 200 が返される
+    And レスポンスの results[0].status が created である
+    And レスポンスの results[1].status が duplicate である
+
+  @negative @validation
+  Scenario: 上限を超える件数を指定するとエラー
+    Given 1001件のメッセージデータを準備する
+    When POST /api/messages/batch を呼び出す
+    Then ステータスコード 400 が返される
+    And エラーレスポンスがRFC 7807形式である
+
+  @negative @authorization
+  Scenario: VIEWER ロールでは一括作成できない
+    Given VIEWER ロールでログインしている
+    When POST /api/messages/batch を呼び出す
+    Then ステータスコード 403 が返される
@@ -0,0 +1,34 @@
+# language: ja
+@messages @read @export @api
+Feature: メッセージエクスポート
+
+  メッセージエクスポート機能の受け入れ条件
+
+  Background:
+    Given 以下のメッセージが存在する:
+      | code    | content |
+      | MSG_001 | First   |
+      | MSG_002 | Second  |
+    And VIEWER ロールでログインしている
+
+  @positive
+  Scenario: 全メッセージを NDJSON でエクスポートする
+    When GET /api/messages/export を呼び出す
+    Then ステータスコード 200 が返される
+    And Content-Type が "application/x-ndjson" である
+    And レスポンスボディが2行である
+    And 1行目の code が "MSG_001" である
+    And 2行目の code が "MSG_002" である
+
+  @positive
+  Scenario: gzip を受け入れる場合は圧縮して返す
+    When Accept-Encoding "gzip" を指定して GET /api/messages/export を呼び出す
+    Then ステータスコード 200 が返される
+    And Content-Encoding が "gzip" である
+    And 展開したレスポンスボディが2行である
+
+  @negative @authentication
+  Scenario: 未認証ではエクスポートできない
+    Given 認証されていない状態である
+    When GET /api/messages/export を呼び出す
+    Then ステータスコード 401 が返される
@@ -45,6 +45,85 @@ Feature: メッセージ一覧取得
     Then ステータスコード 200 が返される
     And レスポンスに5件のメッセージが含まれる
 
+  @positive @cursor
+  Scenario: カーソルページネーション - nextCursor で続きのページを取得
+    Given 15件のメッセージが存在する
+    When GET /api/messages?size=10 を呼び出す
+    Then ステータスコード 200 が返される
+    And レスポンスの page.nextCursor が null ではない
+    When 前のレスポンスの page.nextCursor を after に指定して GET /api/messages?size=10 を呼び出す
+    Then ステータスコード 200 が返される
+    And レスポンスに5件のメッセージが含まれる
+    And 1ページ目と重複するメッセージが含まれない
+    And レスポンスの page.nextCursor が null である
+
+  @negative @cursor
+  Scenario: 不正なカーソルを指定するとエラー
+    Given メッセージが存在する
+    When GET /api/messages?after=invalid を呼び出す
+    Then ステータスコード 400 が返される
+    And エラーレスポンスがRFC 7807形式である
+
+  @positive @count
+  Scenario: count=none では総件数を算出せず hasNext を返す
+    Given 15件のメッセージが存在する
+    When GET /api/messages?size=10&count=none を呼び出す
+    Then ステータスコード 200 が返される
+    And レスポンスに10件のメッセージが含まれる
+    And レスポンスの page.totalElements が null である
+    And レスポンスの page.hasNext が true である
+
+  @positive @count
+  Scenario Outline: 概算の件数モードでも総件数が返される
+    Given 15件のメッセージが存在する
+    When GET /api/messages?size=10&count=<count> を呼び出す
+    Then ステータスコード 200 が返される
+    And レスポンスの page.totalElements が 15 以上である
+
+    Examples:
+      | count     |
+      | exact     |
+      | cached    |
+      | estimated |
+
+  @negative @count
+  Scenario: 不正な count を指定するとエラー
+    Given メッセージが存在する
+    When GET /api/messages?count=approximate を呼び出す
+    Then ステータスコード 400 が返される
+    And エラーレスポンスがRFC 7807形式である
+
+  @positive @fields
+  Scenario: fields で指定したフィールドだけを返す
+    Given 以下のメッセージが存在する:
+      | code    | content   |
+      | MSG_001 | Message 1 |
+    When GET /api/messages?fields=id,code を呼び出す
+    Then ステータスコード 200 が返される
+    And レスポンスの各メッセージが id と code のみを含む
+
+  @negative @fields
+  Scenario: 不正なフィールドを指定するとエラー
+    Given メッセージが存在する
+    When GET /api/messages?fields=id,password を呼び出す
+    Then ステータスコード 400 が返される
+    And エラーレスポンスがRFC 7807形式である
+
+  @positive @content-negotiation
+  Scenario Outline: Accept で指定した形式でメッセージ一覧を返す
+    Given 以下のメッセージが存在する:
+      | code    | content   |
+      | MSG_001 | Message 1 |
+    When Accept ヘッダー "<accept>" を付けて GET /api/messages を呼び出す
+    Then ステータスコード 200 が返される
+    And Content-Type が "<accept>" である
+    And レスポンスをデコードすると JSON のレスポンスと同じ内容である
+
+    Examples:
+      | accept                      |
+      | application/cbor            |
+      | application/x-jackson-smile |
+
   @negative @validation
   Scenario Outline: 不正なページネーションパラメータ
     Given メッセージが存在する
@@ -0,0 +1,71 @@
+# language: ja
+@messages @create @import @api
+Feature: メッセージインポート
+
+  メッセージインポート機能の受け入れ条件
+
+  Background:
+    Given データベースが空の状態である
+    And ADMIN ロールでログインしている
+
+  @positive
+  Scenario: NDJSON ファイルからメッセージをインポートする
+    Given 以下の NDJSON を準備する:
+      """
+      {"code": "MSG_001", "content": "First"}
+      {"code": "MSG_002", "content": "Second"}
+      """
+    When Content-Type "application/x-ndjson" で POST /api/messages/import を呼び出す
+    Then ステータスコード 200 が返される
+    And レスポンスの imported が 2 である
+    And レスポンスの rejected が 0 である
+    And データベースにメッセージが2件保存されている
+
+  @positive
+  Scenario: CSV ファイルからメッセージをインポートする
+    Given 以下の CSV を準備する:
+      """
+      code,content
+      MSG_001,"Hello, ""World"""
+      """
+    When Content-Type "text/csv" で POST /api/messages/import を呼び出す
+    Then ステータスコード 200 が返される
+    And レスポンスの imported が 1 である
+    And code "MSG_001" のメッセージの content が "Hello, \"World\"" である
+
+  @positive
+  Scenario: 重複するコードと不正な行はスキップされ件数が報告される
+    Given code "MSG_001" のメッセージが存在する
+    And 以下の CSV を準備する:
+      """
+      code,content
+      MSG_001,Already exists
+      MSG_002,New
+      MSG_002,Repeated in file
+      ,Missing code
+      """
+    When Content-Type "text/csv" で POST /api/messages/import を呼び出す
+    Then ステータスコード 200 が返される
+    And レスポンスの received が 4 である
+    And レスポンスの imported が 1 である
+    And レスポンスの duplicates が 2 である
+    And レスポンスの invalid が 1 である
+    And レスポンスの errors[0].line が 5 である
+
+  @negative @validation
+  Scenario: CSV のヘッダーが不正な場合は何も登録されない
+    Given 以下の CSV を準備する:
+      """
+      id,text
+      1,Hello
+      """
+    When Content-Type "text/csv" で POST /api/messages/import を呼び出す
+    Then ステータスコード 400 が返される
+    And エラーレスポンスがRFC 7807形式である
+    And データベースにメッセージが0件保存されている
+
+  @negative @authorization
+  Scenario: VIEWER ロールではインポートできない
+    Given VIEWER ロールでログインしている
+    When Content-Type "application/x-ndjson" で POST /api/messages/import を呼び出す
+    Then ステータスコード 403 が返される